@@ -1,14 +1,19 @@
 package jombi.freemates.config;
 
+import jombi.freemates.service.auth.PrincipalCache;
+import jombi.freemates.service.auth.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -28,5 +33,19 @@ public class RedisConfig {
     template.afterPropertiesSet();
     return template;
   }
-}
 
+  /**
+   * 다중 서버 모드: 다른 서버에서 발생한 회원 인증 정보 캐시 무효화 / 토큰 폐기 메시지 수신
+   */
+  @Bean
+  @ConditionalOnProperty(name = "freemates.auth.broadcast", havingValue = "true")
+  public RedisMessageListenerContainer authCacheListenerContainer(
+      RedisConnectionFactory redisConnectionFactory, PrincipalCache principalCache,
+      VerifiedTokenCache verifiedTokenCache) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    container.addMessageListener(principalCache, new ChannelTopic(PrincipalCache.EVICT_CHANNEL));
+    container.addMessageListener(verifiedTokenCache, new ChannelTopic(VerifiedTokenCache.REVOKE_CHANNEL));
+    return container;
+  }
+}
@@ -20,6 +20,7 @@ public class SecurityUrls {
       "/api/mail/send",                // 이메일 보내기
       "/api/mail/verify/**",           // 이메일 인증
       "/api/mail/check-verification/**",  // 이메일 인증 확인
+      "/api/system/readiness",         // 서버 준비 상태
       "/api/temp/**",                  //FIXME: 테스트 API
 
       // Swagger
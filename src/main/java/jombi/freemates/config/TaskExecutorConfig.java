@@ -1,13 +1,16 @@
 package jombi.freemates.config;
 
 import java.util.concurrent.ExecutorService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @EnableAsync
+@EnableScheduling
 @Configuration
 public class TaskExecutorConfig {
 
@@ -33,4 +36,26 @@ public class TaskExecutorConfig {
     executor.initialize();
     return executor.getThreadPoolExecutor();
   }
+
+  // 카카오 장소 크롤링 전용 (동시 실행 수 = WebDriver 풀 크기 권장)
+  @Bean(name = "crawlTaskExecutor")
+  public TaskExecutor crawlTaskExecutor(@Value("${freemates.crawler.concurrency:4}") int concurrency) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(concurrency);
+    executor.setMaxPoolSize(concurrency);
+    executor.setThreadNamePrefix("CrawlExecutor-");
+    executor.initialize();
+    return executor;
+  }
+
+  // 서버 기동 후 백그라운드 초기화 전용 (GitHub 이슈 동기화 / 장소 워밍업 병렬 실행)
+  @Bean(name = "startupTaskExecutor")
+  public TaskExecutor startupTaskExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(2);
+    executor.setThreadNamePrefix("StartupExecutor-");
+    executor.initialize();
+    return executor;
+  }
 }
@@ -3,9 +3,12 @@ package jombi.freemates.config;
 import static org.springframework.security.config.Customizer.withDefaults;
 
 import jombi.freemates.service.CustomUserDetailsService;
+import jombi.freemates.service.auth.PrincipalCache;
+import jombi.freemates.service.auth.VerifiedTokenCache;
 import jombi.freemates.util.filter.CustomAuthenticationEntryPoint;
 import jombi.freemates.util.JwtUtil;
 import jombi.freemates.util.filter.JwtAuthenticationFilter;
+import jombi.freemates.util.filter.WhitelistRequestMatcher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -21,10 +24,15 @@ public class WebSecurityConfig {
 
   private final JwtUtil jwtUtil;
   private final CustomUserDetailsService customUserDetailsService;
+  private final PrincipalCache principalCache;
+  private final VerifiedTokenCache verifiedTokenCache;
 
-  public WebSecurityConfig(JwtUtil jwtUtil, CustomUserDetailsService customUserDetailsService) {
+  public WebSecurityConfig(JwtUtil jwtUtil, CustomUserDetailsService customUserDetailsService,
+      PrincipalCache principalCache, VerifiedTokenCache verifiedTokenCache) {
     this.jwtUtil = jwtUtil;
     this.customUserDetailsService = customUserDetailsService;
+    this.principalCache = principalCache;
+    this.verifiedTokenCache = verifiedTokenCache;
   }
 
   @Bean
@@ -37,7 +45,7 @@ public class WebSecurityConfig {
         .exceptionHandling(ex -> ex.authenticationEntryPoint(new CustomAuthenticationEntryPoint()))
         .authorizeHttpRequests(auth -> auth
             // 허용 URL
-            .requestMatchers(SecurityUrls.AUTH_WHITELIST.toArray(new String[0])).permitAll()
+            .requestMatchers(authWhitelistMatcher()).permitAll()
             // 업로드된 이미지 파일은 모두에게 허용
             .requestMatchers(HttpMethod.GET,"/uploads/**").permitAll()
             // 관리자 URL
@@ -51,13 +59,22 @@ public class WebSecurityConfig {
 
     // JWT 인증 필터 추가
     http.addFilterBefore(
-        new JwtAuthenticationFilter(jwtUtil, customUserDetailsService),
+        new JwtAuthenticationFilter(jwtUtil, customUserDetailsService, principalCache, verifiedTokenCache,
+            authWhitelistMatcher()),
         UsernamePasswordAuthenticationFilter.class
     );
 
     return http.build();
   }
 
+  /**
+   * 인증 생략 URL 매처 (시작 시 한 번 컴파일, 보안 설정과 JWT 필터가 공유)
+   */
+  @Bean
+  public WhitelistRequestMatcher authWhitelistMatcher() {
+    return new WhitelistRequestMatcher(SecurityUrls.AUTH_WHITELIST);
+  }
+
   @Bean
   public AuthenticationManager authenticationManager(AuthenticationConfiguration authConfig) throws Exception {
     return authConfig.getAuthenticationManager();
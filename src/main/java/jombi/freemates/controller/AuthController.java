@@ -220,6 +220,11 @@ public class AuthController {
   @PostMapping("/login/app")
   @LogMonitor
   @ApiChangeLogs({
+      @ApiChangeLog(
+          date = "2026-10-17",
+          author = Author.SUHSAECHAN,
+          description = "기기별 RefreshToken 발급 (deviceId 선택 파라미터 추가)"
+      ),
       @ApiChangeLog(
           date = "2025-04-11",
           author = Author.LEEDAYE,
@@ -247,6 +252,7 @@ public class AuthController {
           ## 요청 파라미터 (LoginRequest)
           - **`username`**: 회원 ID
           - **`password`**: 회원 비밀번호
+          - **`deviceId`**: 로그인 기기 식별자 (선택, 최대 64자). 같은 기기로 다시 로그인하면 해당 기기의 이전 RefreshToken은 폐기됨
 
           ## 반환값 (LoginResponse)
           - **`accessToken`**: 발급된 AccessToken
@@ -291,6 +297,11 @@ public class AuthController {
   @PostMapping("/refresh/app")
   @LogMonitor
   @ApiChangeLogs({
+      @ApiChangeLog(
+          date = "2026-10-17",
+          author = Author.SUHSAECHAN,
+          description = "RefreshToken 1회용 교체, 이미 사용된 토큰 재사용 시 해당 기기 토큰 폐기 (동시 재발급은 REFRESH_TOKEN_CONFLICT)"
+      ),
       @ApiChangeLog(
           date = "2025-05-11",
           author = Author.SUHSAECHAN,
@@ -323,8 +334,13 @@ public class AuthController {
           - `accessToken`: 새로 발급된 AccessToken
           - `refreshToken`: 새로 발급된 RefreshToken
 
+        - 재발급에 사용한 RefreshToken은 즉시 폐기되므로 반드시 새 RefreshToken으로 교체해야 함
+        - 같은 RefreshToken으로 동시에 요청하면 하나만 재발급되고, 나머지는 유예 시간(기본 10초) 안이면 `REFRESH_TOKEN_CONFLICT` (토큰은 유지)
+
         ## 에러 코드
         - `REFRESH_TOKEN_EXPIRED`: RefreshToken이 만료되었거나 존재하지 않습니다.
+        - `REFRESH_TOKEN_REUSED`: 이미 사용된 RefreshToken입니다. 해당 기기의 토큰이 폐기되므로 다시 로그인해야 합니다.
+        - `REFRESH_TOKEN_CONFLICT`: 같은 RefreshToken으로 동시에 재발급을 요청했습니다. 먼저 처리된 요청에서 받은 토큰을 사용해야 합니다.
         - `ACCESS_TOKEN_EXPIRED`: AccessToken이 만료되었습니다.
     """
   )
@@ -358,6 +374,8 @@ public class AuthController {
 
         ## 에러 코드
         - `REFRESH_TOKEN_EXPIRED`: RefreshToken이 만료되었거나 존재하지 않습니다.
+        - `REFRESH_TOKEN_REUSED`: 이미 사용된 RefreshToken입니다. 해당 기기의 토큰이 폐기되므로 다시 로그인해야 합니다.
+        - `REFRESH_TOKEN_CONFLICT`: 같은 RefreshToken으로 동시에 재발급을 요청했습니다. 먼저 처리된 요청에서 받은 토큰을 사용해야 합니다.
     """
   )
   public TokenResponse refreshWeb(@CookieValue(name="refreshToken", required=false) String cookieRefreshToken,
@@ -11,6 +11,7 @@ import jombi.freemates.model.constant.PinColor;
 import jombi.freemates.model.constant.Visibility;
 import jombi.freemates.model.dto.BookmarkRequest;
 import jombi.freemates.model.dto.BookmarkDto;
+import jombi.freemates.model.dto.CursorSlice;
 import jombi.freemates.model.dto.CustomUserDetails;
 import jombi.freemates.model.dto.PlaceDto;
 import jombi.freemates.service.BookmarkService;
@@ -171,6 +172,43 @@ public class BookmarkController {
     return ResponseEntity.ok(bookmarks);
   }
 
+  @ApiChangeLogs({
+      @ApiChangeLog(
+          date = "2026-10-17",
+          author = Author.SUHSAECHAN,
+          description = "즐겨찾기 목록 가져오기 (커서 기반, count 쿼리 없음)"
+      )
+  })
+  @Operation(
+      summary = "즐겨찾기 목록 가져오기 (커서)",
+      description = """
+      ## 인증(JWT): **필요**
+
+      ## 요청 파라미터
+      - `visibility`: 공개 여부 (ENUM: `PUBLIC` 또는 `PRIVATE`, 기본값: `PUBLIC`)
+      - `cursor`: 이전 응답의 `nextCursor` (첫 요청은 생략)
+      - `size`: 조회 개수 (기본값: 10, 최대 100)
+      - 정렬: 생성일 → 즐겨찾기 ID 내림차순 (최신순)
+
+      ## 반환값 (`CursorSlice<BookmarkDto>`)
+      - `content`: 목록
+      - `size`: 요청 크기
+      - `hasNext`: 다음 페이지 존재 여부
+      - `nextCursor`: 다음 요청에 넘길 커서 (`hasNext`가 false면 null)
+
+      ## 에러 코드
+      - `INVALID_CURSOR (400)`: 잘못된 커서입니다.
+      """
+  )
+  @GetMapping("/list/cursor")
+  public ResponseEntity<CursorSlice<BookmarkDto>> getBookmarksByCursor(
+      @RequestParam(defaultValue = "PUBLIC") Visibility visibility,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size
+  ) {
+    return ResponseEntity.ok(bookmarkService.getBookmarksByCursor(visibility, cursor, size));
+  }
+
 
 
   /**
@@ -8,6 +8,7 @@ import jombi.freemates.model.constant.Author;
 import jombi.freemates.model.constant.Visibility;
 import jombi.freemates.model.dto.CourseRequest;
 import jombi.freemates.model.dto.CourseDto;
+import jombi.freemates.model.dto.CursorSlice;
 import jombi.freemates.model.dto.CustomUserDetails;
 import jombi.freemates.service.CourseService;
 import jombi.freemates.util.docs.ApiChangeLog;
@@ -183,6 +184,43 @@ public class CourseController {
     return ResponseEntity.ok(pagedCourses);
   }
 
+  @ApiChangeLogs({
+      @ApiChangeLog(
+          date = "2026-10-17",
+          author = Author.SUHSAECHAN,
+          description = "공개 코스 목록 가져오기 (커서 기반, count 쿼리 없음)"
+      )
+  })
+  @Operation(
+      summary = "공개 코스 목록 가져오기 (커서)",
+      description = """
+      ## 인증(JWT): **필요**
+
+      ## 요청 파라미터
+      - `visibility`: 공개 여부 (ENUM: `PUBLIC` 또는 `PRIVATE`, 기본값: `PUBLIC`)
+      - `cursor`: 이전 응답의 `nextCursor` (첫 요청은 생략)
+      - `size`: 조회 개수 (기본값: 10, 최대 100)
+      - 정렬: 생성일 → 코스 ID 내림차순 (최신순)
+
+      ## 반환값 (`CursorSlice<CourseDto>`)
+      - `content`: 목록
+      - `size`: 요청 크기
+      - `hasNext`: 다음 페이지 존재 여부
+      - `nextCursor`: 다음 요청에 넘길 커서 (`hasNext`가 false면 null)
+
+      ## 에러 코드
+      - `INVALID_CURSOR (400)`: 잘못된 커서입니다.
+      """
+  )
+  @GetMapping("/list/cursor")
+  public ResponseEntity<CursorSlice<CourseDto>> getCoursesByCursor(
+      @RequestParam(defaultValue = "PUBLIC") Visibility visibility,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size
+  ) {
+    return ResponseEntity.ok(courseService.getCoursesByCursor(visibility, cursor, size));
+  }
+
   /**
    * 코스 좋아요
    */
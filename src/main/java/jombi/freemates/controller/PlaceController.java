@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import jombi.freemates.model.constant.Author;
 import jombi.freemates.model.constant.CategoryType;
+import jombi.freemates.model.dto.CursorSlice;
 import jombi.freemates.model.dto.PlaceDto;
 import jombi.freemates.model.postgres.Place;
 import jombi.freemates.service.PlaceService;
@@ -34,7 +35,7 @@ public class PlaceController {
   private final PlaceService placeService;
   @PostMapping("/refresh")
   public ResponseEntity<Void> refreshPlaces() {
-    placeService.deleteAllAndRefresh();
+    placeService.refreshPlaces();
     return ResponseEntity.ok().build();
   }
 
@@ -83,6 +84,43 @@ public class PlaceController {
     return ResponseEntity.ok(placeService.getPlacesByCategory(category, pageable));
   }
 
+  @ApiChangeLogs({
+      @ApiChangeLog(
+          date = "2026-10-17",
+          author = Author.SUHSAECHAN,
+          description = "장소가져오기 (커서 기반, count 쿼리 없음)"
+      )
+  })
+  @Operation(
+      summary = "장소가져오기 (커서)",
+      description = """
+        ## 인증(JWT): **필요**
+        
+        ## 요청 파라미터
+        - **`category`**: 카테고리 타입 (없으면 전체)
+        - **`cursor`**: 이전 응답의 `nextCursor` (첫 요청은 생략)
+        - **`size`**: 조회 개수 (기본값: 10, 최대 100)
+        - 정렬: 장소 이름 → 장소 ID 오름차순
+        
+        ## 반환값 (`CursorSlice<PlaceDto>`)
+        - **`content`**: 목록
+        - **`size`**: 요청 크기
+        - **`hasNext`**: 다음 페이지 존재 여부
+        - **`nextCursor`**: 다음 요청에 넘길 커서 (`hasNext`가 false면 null)
+        
+        ## 에러코드
+        - **`INVALID_CURSOR`**: 잘못된 커서입니다.
+        """
+  )
+  @GetMapping("/category/cursor")
+  public ResponseEntity<CursorSlice<PlaceDto>> getPlacesByCategoryCursor(
+      @RequestParam(required = false) CategoryType category,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size
+  ) {
+    return ResponseEntity.ok(placeService.getPlacesByCategoryCursor(category, cursor, size));
+  }
+
   @ApiChangeLogs({
       @ApiChangeLog(
           date = "2025-06-03",
@@ -120,6 +158,44 @@ public class PlaceController {
     return ResponseEntity.ok(placeService.getPlacesByGeocode(x, y));
   }
 
+  @ApiChangeLogs({
+      @ApiChangeLog(
+          date = "2026-10-17",
+          author = Author.SUHSAECHAN,
+          description = "반경 내 가까운 장소 조회 API 추가"
+      )
+  })
+  @Operation(
+      summary = "근처 장소 조회",
+      description = """
+        ## 인증(JWT): **필요**
+        
+        ## 요청 파라미터
+        - **`x`**: 경도 (longitude) - 필수
+        - **`y`**: 위도 (latitude) - 필수
+        - **`radius`**: 검색 반경(m) - 기본값 1000, 최대 20000
+        - **`limit`**: 최대 개수 - 기본값 20, 최대 100
+        - **`category`**: 카테고리 타입 (없으면 전체)
+        
+        ## 반환값 (`ResponseEntity<List<PlaceDto>>`)
+        - 가까운 순으로 정렬된 장소 목록
+        - **`distance`**: 요청 좌표로부터의 거리(m)
+        
+        ## 에러코드
+        - `INVALID_REQUEST (400)`: 좌표 형식이 잘못되었거나 radius/limit 범위를 벗어난 경우
+        """
+  )
+  @GetMapping("/nearby")
+  public ResponseEntity<List<PlaceDto>> getNearbyPlaces(
+      @RequestParam String x,
+      @RequestParam String y,
+      @RequestParam(required = false) Double radius,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(required = false) CategoryType category
+  ) {
+    return ResponseEntity.ok(placeService.getNearbyPlaces(x, y, radius, limit, category));
+  }
+
 
 
 }
@@ -2,6 +2,7 @@ package jombi.freemates.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
 import jombi.freemates.model.constant.Author;
 import jombi.freemates.model.constant.SearchType;
 import jombi.freemates.model.dto.PlaceDto;
@@ -67,4 +68,36 @@ public class SearchController {
     return ResponseEntity.ok(result);
   }
 
+  @ApiChangeLogs({
+      @ApiChangeLog(
+          date = "2026-10-17",
+          author = Author.SUHSAECHAN,
+          description = "검색어 자동완성 (접두사 트라이, 초성 검색 지원)"
+      )
+  })
+  @Operation(
+      summary = "검색어 자동완성",
+      description = """
+        ## 인증(JWT): **필요**
+        
+        ## 요청 파라미터 (query parameters)
+        - **`keyword`**: 입력 중인 검색어 (장소 이름/태그의 접두사, 초성 검색 가능 예: `ㅅㅌㅂㅅ`)
+        - **`limit`**: 최대 반환 개수 (Default = 10, 최대 10)
+        
+        ## 반환값 (`ResponseEntity<List<PlaceDto>>`)
+        - 검색어로 시작하는 장소 목록 (좋아요 수 → 조회수 순)
+        - 검색어가 비어 있으면 빈 목록
+        
+        ## 에러코드
+        
+        """
+  )
+  @GetMapping("/suggest")
+  public ResponseEntity<List<PlaceDto>> suggest(
+      @RequestParam("keyword") String keyword,
+      @RequestParam(value = "limit", defaultValue = "10") int limit
+  ) {
+    return ResponseEntity.ok(searchService.suggestPlaces(keyword, limit));
+  }
+
 }
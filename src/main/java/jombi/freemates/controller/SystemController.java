@@ -0,0 +1,103 @@
+package jombi.freemates.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jombi.freemates.model.constant.Author;
+import jombi.freemates.model.dto.AuthCacheStatsResponse;
+import jombi.freemates.model.dto.StartupReadinessResponse;
+import jombi.freemates.service.auth.PrincipalCache;
+import jombi.freemates.service.auth.VerifiedTokenCache;
+import jombi.freemates.util.docs.ApiChangeLog;
+import jombi.freemates.util.docs.ApiChangeLogs;
+import jombi.freemates.util.init.StartupReadiness;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(
+    name = "시스템 API",
+    description = "서버 상태 조회 API 제공"
+)
+@RestController
+@RequestMapping("/api/system")
+@RequiredArgsConstructor
+public class SystemController {
+  private final StartupReadiness startupReadiness;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final PrincipalCache principalCache;
+
+  @ApiChangeLogs({
+      @ApiChangeLog(
+          date = "2026-10-17",
+          author = Author.SUHSAECHAN,
+          description = "서버 초기화(워밍업) 단계별 진행 상태 조회, 필수 단계 실패 시 ready=false(503) 및 failed 목록 반환"
+      )
+  })
+  @Operation(
+      summary = "서버 준비 상태 조회",
+      description = """
+        ## 인증(JWT): **불필요**
+        
+        ## 반환값 (`ResponseEntity<StartupReadinessResponse>`)
+        - **`ready`**: 준비 완료 단계(좌표 마이그레이션, 장소 동기화, 장소 인덱스)가 모두 완료(또는 의도적으로 생략)되었는지
+        - **`warming`**: 아직 끝나지 않은 단계 목록
+        - **`failed`**: 실패한 단계 목록 (필수 단계가 하나라도 실패하면 `ready`=false)
+        - **`phases`**: 단계별 상태 (`PENDING`, `RUNNING`, `DONE`, `SKIPPED`, `FAILED`), 시작 시각, 소요 시간(ms), 생략/실패 사유
+        
+        ## 응답 코드
+        - **`200`**: 준비 완료
+        - **`503`**: 아직 워밍업 중이거나 필수 단계 실패 (본문은 동일)
+        """
+  )
+  @GetMapping("/readiness")
+  public ResponseEntity<StartupReadinessResponse> readiness() {
+    StartupReadinessResponse response = startupReadiness.snapshot();
+    return ResponseEntity
+        .status(response.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+        .body(response);
+  }
+
+  @ApiChangeLogs({
+      @ApiChangeLog(
+          date = "2026-10-17",
+          author = Author.SUHSAECHAN,
+          description = "JWT 인증 캐시(검증된 토큰, 회원 정보) 적중률 조회"
+      )
+  })
+  @Operation(
+      summary = "JWT 인증 캐시 통계 조회",
+      description = """
+        ## 인증(JWT): **필요**
+        
+        ## 반환값 (`ResponseEntity<AuthCacheStatsResponse>`)
+        - **`tokenCacheHits`**, **`tokenCacheMisses`**: 서명 검증을 생략한 / 수행한 요청 수
+        - **`tokenCacheHitRatio`**: 검증된 토큰 캐시 적중률 (0.0 ~ 1.0)
+        - **`principalCacheHits`**, **`principalCacheMisses`**: 회원 조회(DB)를 생략한 / 수행한 요청 수
+        - **`principalCacheHitRatio`**: 회원 정보 캐시 적중률 (0.0 ~ 1.0)
+        - **`tokenCacheSize`**, **`principalCacheSize`**: 현재 캐시 항목 수
+        
+        서버 시작 이후 누적값이며 서버마다 따로 집계됩니다.
+        """
+  )
+  @GetMapping("/auth-cache")
+  public ResponseEntity<AuthCacheStatsResponse> authCacheStats() {
+    return ResponseEntity.ok(AuthCacheStatsResponse.builder()
+        .tokenCacheHits(verifiedTokenCache.getHits())
+        .tokenCacheMisses(verifiedTokenCache.getMisses())
+        .tokenCacheHitRatio(hitRatio(verifiedTokenCache.getHits(), verifiedTokenCache.getMisses()))
+        .tokenCacheSize(verifiedTokenCache.size())
+        .principalCacheHits(principalCache.getHits())
+        .principalCacheMisses(principalCache.getMisses())
+        .principalCacheHitRatio(hitRatio(principalCache.getHits(), principalCache.getMisses()))
+        .principalCacheSize(principalCache.size())
+        .build());
+  }
+
+  private static double hitRatio(long hits, long misses) {
+    long total = hits + misses;
+    return total == 0 ? 0.0 : (double) hits / total;
+  }
+}
@@ -0,0 +1,14 @@
+package jombi.freemates.model.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum CrawlStatus {
+    SUCCESS("크롤링 성공"),
+    FAILED("크롤링 실패");
+
+    private final String description;
+
+}
@@ -0,0 +1,16 @@
+package jombi.freemates.model.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum RefreshTokenRotation {
+    ROTATED("새 토큰으로 교체"),
+    CONCURRENT("교체 직후 유예 시간 내 직전 토큰 재제시 (동시 재발급, 해당 기기 토큰 유지)"),
+    REUSED("유예 시간이 지난 직전 토큰 재사용 (탈취 의심, 해당 기기 토큰 폐기)"),
+    NOT_FOUND("저장된 토큰 없음 (만료, 폐기 또는 다른 로그인으로 교체)");
+
+    private final String description;
+
+}
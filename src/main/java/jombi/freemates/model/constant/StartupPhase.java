@@ -0,0 +1,22 @@
+package jombi.freemates.model.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서버 기동 후 초기화 단계
+ * requiredForReady: 성공해야(완료/생략) 준비 완료로 보는 단계, 하나라도 실패하면 준비 안 됨
+ */
+@AllArgsConstructor
+@Getter
+public enum StartupPhase {
+    LOCATION_MIGRATION("장소 좌표 마이그레이션", true),
+    GITHUB_ISSUES("GitHub 이슈 동기화", false),
+    PLACE_SYNC("카카오 장소 동기화", true),
+    PLACE_INDEX("장소 인덱스 워밍업", true),
+    PLACE_CRAWL("카카오 장소 크롤링", false);
+
+    private final String description;
+    private final boolean requiredForReady;
+
+}
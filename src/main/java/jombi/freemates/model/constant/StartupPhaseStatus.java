@@ -0,0 +1,25 @@
+package jombi.freemates.model.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum StartupPhaseStatus {
+    PENDING("대기"),
+    RUNNING("실행 중"),
+    DONE("완료"),
+    SKIPPED("생략"),
+    FAILED("실패");
+
+    private final String description;
+
+    public boolean isFinished() {
+        return this == DONE || this == SKIPPED || this == FAILED;
+    }
+
+    // 준비 완료로 인정하는 상태 (의도적으로 생략한 단계 포함, 실패는 제외)
+    public boolean isSucceeded() {
+        return this == DONE || this == SKIPPED;
+    }
+}
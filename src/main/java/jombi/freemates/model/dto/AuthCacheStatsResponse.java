@@ -0,0 +1,30 @@
+package jombi.freemates.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * JWT 인증 캐시 통계 (서버 시작 이후 누적)
+ */
+@Builder
+@ToString
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuthCacheStatsResponse {
+
+  private long tokenCacheHits;         // 서명 검증을 생략한 요청 수
+  private long tokenCacheMisses;       // 서명 검증을 수행한 요청 수
+  private double tokenCacheHitRatio;   // 0.0 ~ 1.0
+  private int tokenCacheSize;
+
+  private long principalCacheHits;     // 회원 조회(DB)를 생략한 요청 수
+  private long principalCacheMisses;
+  private double principalCacheHitRatio;
+  private int principalCacheSize;
+}
@@ -0,0 +1,27 @@
+package jombi.freemates.model.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 커서(keyset) 기반 목록 응답
+ * count 쿼리 없이 다음 페이지 존재 여부와 다음 요청에 넘길 커서만 반환
+ */
+@Builder
+@ToString
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorSlice<T> {
+
+  private List<T> content;
+  private int size;
+  private boolean hasNext;
+  private String nextCursor; // 마지막 요소의 (정렬키, ID), hasNext=false 이면 null
+}
@@ -1,5 +1,6 @@
 package jombi.freemates.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import java.util.List;
@@ -17,10 +18,13 @@ public class KakaoPlaceResponse {
   private Meta meta;
   private List<KakaoPlaceDocumentResponse> documents;
 
+  // 중첩 클래스에는 @JsonNaming 이 상속되지 않으므로 별도 지정
+  @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
   @Getter
   public static class Meta {
     private int totalCount;
     private int pageableCount;
+    @JsonProperty("is_end")
     private boolean isEnd;
   }
 }
@@ -18,5 +18,8 @@ public class LoginRequest {
   private String username;
 
   private String password;
+
+  // 로그인 기기 식별자 (선택, 없으면 로그인마다 새 기기로 취급)
+  private String deviceId;
 }
 
@@ -0,0 +1,27 @@
+package jombi.freemates.model.dto;
+
+import java.time.LocalDateTime;
+import jombi.freemates.model.constant.StartupPhase;
+import jombi.freemates.model.constant.StartupPhaseStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Builder
+@ToString
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StartupPhaseDto {
+
+  private StartupPhase phase;
+  private String description;
+  private StartupPhaseStatus status;
+  private LocalDateTime startedAt;
+  private Long elapsedMillis; // 실행 중이면 현재까지 경과 시간, 시작 전이면 null
+  private String message;     // 생략 사유 / 실패 메시지
+}
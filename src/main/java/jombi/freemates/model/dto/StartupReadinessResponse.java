@@ -0,0 +1,27 @@
+package jombi.freemates.model.dto;
+
+import java.util.List;
+import jombi.freemates.model.constant.StartupPhase;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 서버 초기화(워밍업) 진행 상태
+ */
+@Builder
+@ToString
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StartupReadinessResponse {
+
+  private boolean ready;               // 준비 완료 단계가 모두 성공(완료/생략)했는지
+  private List<StartupPhase> warming;  // 아직 끝나지 않은 단계
+  private List<StartupPhase> failed;   // 실패한 단계 (필수 단계가 있으면 ready=false)
+  private List<StartupPhaseDto> phases;
+}
@@ -0,0 +1,72 @@
+package jombi.freemates.model.elasticsearch;
+
+import java.util.ArrayList;
+import java.util.List;
+import jombi.freemates.model.constant.CategoryType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.Setting;
+
+/**
+ * 장소 검색 인덱스 문서
+ * placeName, introText, tags 는 nori 기반 korean 분석기로 색인
+ * 검색 결과를 DB 조회 없이 PlaceDto 로 돌려주기 위해 표시용 필드도 함께 저장
+ */
+@Document(indexName = "place", createIndex = false)
+@Setting(settingPath = "elasticsearch/place-settings.json")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceDocument {
+
+  // Place.placeId
+  @Id
+  private String id;
+
+  @Field(type = FieldType.Text, analyzer = "korean")
+  private String placeName;
+
+  @Field(type = FieldType.Text, analyzer = "korean")
+  private String introText;
+
+  @Builder.Default
+  @Field(type = FieldType.Text, analyzer = "korean")
+  private List<String> tags = new ArrayList<>();
+
+  @Field(type = FieldType.Keyword)
+  private CategoryType categoryType;
+
+  @Field(type = FieldType.Keyword, index = false)
+  private String addressName;
+
+  @Field(type = FieldType.Keyword, index = false)
+  private String imageUrl;
+
+  @Field(type = FieldType.Long)
+  private Long likeCount;
+
+  @Field(type = FieldType.Long)
+  private Long viewCount;
+
+  @Field(type = FieldType.Keyword, index = false)
+  private String distance;
+
+  @Field(type = FieldType.Keyword, index = false)
+  private String x;
+
+  @Field(type = FieldType.Keyword, index = false)
+  private String y;
+
+  // 동기화 회차: 전체 재색인 후 이전 회차 문서를 삭제하는 데 사용
+  @Field(type = FieldType.Long)
+  private Long syncVersion;
+}
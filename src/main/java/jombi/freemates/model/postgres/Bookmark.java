@@ -9,11 +9,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -25,8 +27,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.BatchSize;
 
 @Entity
+@Table(indexes = {
+    // 커서 페이지네이션: 공개 여부별 (createdDate, bookmarkId) 역순 탐색
+    @Index(name = "idx_bookmark_visibility_created_id", columnList = "visibility, created_date, bookmark_id")
+})
 @Getter
 @SuperBuilder
 @NoArgsConstructor
@@ -57,8 +64,10 @@ public class Bookmark extends BasePostgresEntity{
   @Enumerated(EnumType.STRING)
   private Visibility visibility;
 
+  // 목록 조회 시 여러 즐겨찾기의 장소 목록을 IN 쿼리 한 번으로 로딩
   @OneToMany(mappedBy = "bookmark",
   fetch = FetchType.LAZY)
+  @BatchSize(size = 100)
   @Builder.Default
   private List<BookmarkPlace> bookmarkPlaces = new ArrayList<>();
 
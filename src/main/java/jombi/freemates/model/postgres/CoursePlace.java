@@ -6,6 +6,9 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.MapsId;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
 import jombi.freemates.model.postgres.id.BookmarkPlaceId;
 import jombi.freemates.model.postgres.id.CoursePlaceId;
 import lombok.AllArgsConstructor;
@@ -13,6 +16,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Getter
@@ -20,7 +24,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class CoursePlace {
+public class CoursePlace implements Persistable<CoursePlaceId> {
 
   @EmbeddedId
   private CoursePlaceId coursePlaceId;
@@ -37,5 +41,24 @@ public class CoursePlace {
   @JoinColumn(name = "place_id", nullable = false)
   private Place place;
 
+  // 복합키를 직접 할당하므로 saveAll 이 merge(SELECT 후 INSERT) 대신 persist 하도록 신규 여부를 직접 관리
+  @Transient
+  @Builder.Default
+  private boolean newEntity = true;
 
+  @Override
+  public CoursePlaceId getId() {
+    return coursePlaceId;
+  }
+
+  @Override
+  public boolean isNew() {
+    return newEntity;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.newEntity = false;
+  }
 }
@@ -4,10 +4,12 @@ import jakarta.persistence.*;
 import java.util.UUID;
 import jombi.freemates.model.constant.Gender;
 import jombi.freemates.model.constant.Role;
+import jombi.freemates.service.auth.MemberPrincipalEvictionListener;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
 @Entity
+@EntityListeners(MemberPrincipalEvictionListener.class)
 @Getter
 @SuperBuilder
 @NoArgsConstructor
@@ -12,9 +12,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -26,9 +28,17 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.checkerframework.common.aliasing.qual.Unique;
+import org.hibernate.annotations.BatchSize;
+import org.locationtech.jts.geom.Point;
 
 
 @Entity
+@Table(indexes = {
+    // 커서 페이지네이션: (placeName, placeId) 순 탐색
+    @Index(name = "idx_place_name_id", columnList = "place_name, place_id"),
+    @Index(name = "idx_place_category_name_id", columnList = "category_type, place_name, place_id")
+})
+@BatchSize(size = 100) // 즐겨찾기/코스의 장소 프록시를 IN 쿼리로 일괄 초기화
 @Getter
 @Setter
 @SuperBuilder
@@ -53,6 +63,8 @@ public class Place extends BasePostgresEntity{
 
   private String phone;
 
+  // 커서 페이지네이션의 (placeName, placeId) 행 비교에서 NULL 이 빠지지 않도록 NOT NULL (없으면 빈 문자열)
+  @Column(nullable = false)
   private String placeName;
 
   private String placeUrl;
@@ -63,6 +75,10 @@ public class Place extends BasePostgresEntity{
 
   private String y;
 
+  // x, y 를 PostGIS Point(SRID 4326) 로 저장 (GiST 인덱스로 범위/반경 조회)
+  @Column(columnDefinition = "geometry(Point, 4326)")
+  private Point location;
+
   // 네이버 크롤링한 정보
 
   private String imageUrl;
@@ -74,6 +90,7 @@ public class Place extends BasePostgresEntity{
       name = "place_tags",
       joinColumns = @JoinColumn(name = "place_id")
   )
+  @BatchSize(size = 100)
   @Builder.Default
   @Column(name = "tag")
   private List<String> tags = new ArrayList<>();
@@ -88,6 +105,15 @@ public class Place extends BasePostgresEntity{
   @Enumerated(EnumType.STRING)
   private CategoryType categoryType;
 
+  // 카카오 동기화 정보
+  // 카카오 필드(이름/주소/좌표 등) SHA-256 지문: 같으면 동기화 시 행을 다시 쓰지 않음
+  @Column(length = 64)
+  private String kakaoHash;
+
+  // 카카오 조회 결과에서 사라진 시각 (null 이면 활성 장소)
+  // 즐겨찾기/코스가 참조할 수 있으므로 삭제하지 않고 목록/검색에서만 제외
+  private LocalDateTime retiredAt;
+
   @OneToMany(mappedBy = "place",
       fetch = FetchType.LAZY)
   private List<BookmarkPlace> bookmarkPlaces = new ArrayList<>();
@@ -0,0 +1,115 @@
+package jombi.freemates.model.postgres;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import jombi.freemates.model.constant.CrawlStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 장소별 카카오 크롤링 상태
+ * 크롤링이 중간에 끊겨도 이 테이블 기준으로 오래되었거나 실패한 장소만 이어서 크롤링
+ * status = FAILED 인 행이 실패 장소 목록(dead letter) 역할: 오류 종류와 다음 재시도 시각을 함께 보관
+ */
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_place_crawl_state_status_crawled", columnList = "status, last_crawled_at"),
+    @Index(name = "idx_place_crawl_state_status_retry", columnList = "status, next_retry_at")
+})
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceCrawlState extends BasePostgresEntity implements Persistable<UUID> {
+
+  // Place.placeId 와 동일
+  @Id
+  @Column(updatable = false, nullable = false)
+  private UUID placeId;
+
+  @Enumerated(EnumType.STRING)
+  private CrawlStatus status;
+
+  private LocalDateTime lastCrawledAt;
+
+  // 크롤링 결과(이미지, 소개, 태그) SHA-256, 바뀌지 않았으면 Place 를 갱신하지 않음
+  private String contentHash;
+
+  // 연속 실패 횟수 (성공 시 0)
+  @Builder.Default
+  private int failureCount = 0;
+
+  // 마지막 실패 원인 (예외 클래스명 / 메시지)
+  private String lastErrorClass;
+
+  @Column(length = 500)
+  private String lastErrorMessage;
+
+  // 실패 후 다음 재시도 가능 시각 (지수 백오프)
+  private LocalDateTime nextRetryAt;
+
+  @Transient
+  @Builder.Default
+  private boolean newEntity = true;
+
+  public void markSuccess(String contentHash, LocalDateTime crawledAt) {
+    this.status = CrawlStatus.SUCCESS;
+    this.contentHash = contentHash;
+    this.lastCrawledAt = crawledAt;
+    this.failureCount = 0;
+    this.lastErrorClass = null;
+    this.lastErrorMessage = null;
+    this.nextRetryAt = null;
+  }
+
+  /**
+   * 실패 기록
+   * @param retryDelay 실패 횟수를 받아 다음 재시도까지 기다릴 시간을 계산
+   */
+  public void markFailed(LocalDateTime crawledAt, Exception error, IntFunction<Duration> retryDelay) {
+    this.status = CrawlStatus.FAILED;
+    this.lastCrawledAt = crawledAt;
+    this.failureCount++;
+    this.lastErrorClass = error == null ? null : error.getClass().getSimpleName();
+    this.lastErrorMessage = error == null ? null : truncate(error.getMessage(), 500);
+    this.nextRetryAt = crawledAt.plus(retryDelay.apply(failureCount));
+  }
+
+  private static String truncate(String value, int maxLength) {
+    return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+  }
+
+  @Override
+  public UUID getId() {
+    return placeId;
+  }
+
+  @Override
+  public boolean isNew() {
+    return newEntity;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.newEntity = false;
+  }
+}
@@ -5,10 +5,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
-import jakarta.persistence.MapsId;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,7 +16,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+/**
+ * 리프레시 토큰 (JPA 저장소용, freemates.auth.refresh-token-store=jpa)
+ * 회원 + 기기당 1행 (유니크 제약), 토큰 원문이 아닌 SHA-256 해시만 저장
+ */
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+    name = "uk_refresh_token_member_device", columnNames = {"member_member_id", "device_id"}))
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,9 +35,21 @@ public class RefreshToken {
   @Column(updatable = false, nullable = false)
   private UUID tokenId;
 
-  // 토큰
-  @Column(nullable = false)
-  private String refreshToken;
+  // 현재 토큰 해시 (기존 refresh_token 컬럼 재사용)
+  @Column(name = "refresh_token", nullable = false)
+  private String tokenHash;
+
+  // 직전에 교체된 토큰 해시 (재사용 탐지용)
+  private String previousTokenHash;
+
+  // 직전 토큰이 교체된 시각 (동시 재발급 유예 판단용)
+  private LocalDateTime previousRotatedAt;
+
+  // 로그인 기기 식별자
+  private String deviceId;
+
+  // 만료 시각 (지나면 정리 대상)
+  private LocalDateTime expiresAt;
 
   @ManyToOne
   private Member member;
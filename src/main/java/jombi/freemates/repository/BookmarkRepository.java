@@ -1,21 +1,49 @@
 package jombi.freemates.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import jombi.freemates.model.constant.Visibility;
 import jombi.freemates.model.postgres.Bookmark;
 import jombi.freemates.model.postgres.Member;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface BookmarkRepository extends JpaRepository<Bookmark, UUID> {
+  // member 는 fetch join, bookmarkPlaces → place → tags 는 @BatchSize 로 일괄 로딩
+  @EntityGraph(attributePaths = "member")
   List<Bookmark> findAllByMember(Member member);
 
   Optional<Bookmark> findByBookmarkIdAndMember(UUID bookmarkId, Member member);
 
+  @EntityGraph(attributePaths = "member")
   Page<Bookmark> findByVisibility(Visibility visibility, Pageable pageable);
+
+  // 커서 페이지네이션 첫 페이지 (최신순)
+  @EntityGraph(attributePaths = "member")
+  @Query("SELECT b FROM Bookmark b " +
+      "WHERE b.visibility = :visibility " +
+      "ORDER BY b.createdDate DESC, b.bookmarkId DESC")
+  List<Bookmark> findFirstByCursor(@Param("visibility") Visibility visibility, Limit limit);
+
+  // 커서 이후 페이지: (createdDate, bookmarkId) 행 비교
+  @EntityGraph(attributePaths = "member")
+  @Query("SELECT b FROM Bookmark b " +
+      "WHERE b.visibility = :visibility " +
+      "  AND (b.createdDate, b.bookmarkId) < (:createdDate, :bookmarkId) " +
+      "ORDER BY b.createdDate DESC, b.bookmarkId DESC")
+  List<Bookmark> findAfterCursor(
+      @Param("visibility") Visibility visibility,
+      @Param("createdDate") LocalDateTime createdDate,
+      @Param("bookmarkId") UUID bookmarkId,
+      Limit limit
+  );
 }
@@ -1,11 +1,24 @@
 package jombi.freemates.repository;
 
+import java.util.Collection;
+import java.util.List;
 import jombi.freemates.model.postgres.Course;
 import jombi.freemates.model.postgres.CoursePlace;
 import jombi.freemates.model.postgres.id.CoursePlaceId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CoursePlaceRepository extends JpaRepository<CoursePlace, CoursePlaceId> {
   void deleteAllByCourse(Course course);
 
+  List<CoursePlace> findAllByCourse(Course course);
+
+  // 여러 코스의 장소를 순서(sequence)대로 한 번에 조회 (place 는 fetch join, tags 는 @BatchSize)
+  @Query("SELECT cp FROM CoursePlace cp " +
+      "JOIN FETCH cp.place " +
+      "WHERE cp.course IN :courses " +
+      "ORDER BY cp.sequence")
+  List<CoursePlace> findAllWithPlaceByCourseIn(@Param("courses") Collection<Course> courses);
+
 }
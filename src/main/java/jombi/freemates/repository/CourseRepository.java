@@ -1,18 +1,47 @@
 package jombi.freemates.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import jombi.freemates.model.constant.Visibility;
 import jombi.freemates.model.postgres.Course;
 import jombi.freemates.model.postgres.Member;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, UUID> {
+  // member 는 fetch join, 코스 장소는 CoursePlaceRepository.findAllWithPlaceByCourseIn 으로 일괄 조회
+  @EntityGraph(attributePaths = "member")
   List<Course> findAllByMember(Member member);
+
+  @EntityGraph(attributePaths = "member")
   Page<Course> findAllByVisibility(Visibility visibility, Pageable pageable);
 
+  // 커서 페이지네이션 첫 페이지 (최신순)
+  @EntityGraph(attributePaths = "member")
+  @Query("SELECT c FROM Course c " +
+      "WHERE c.visibility = :visibility " +
+      "ORDER BY c.createdDate DESC, c.courseId DESC")
+  List<Course> findFirstByCursor(@Param("visibility") Visibility visibility, Limit limit);
+
+  // 커서 이후 페이지: (createdDate, courseId) 행 비교
+  @EntityGraph(attributePaths = "member")
+  @Query("SELECT c FROM Course c " +
+      "WHERE c.visibility = :visibility " +
+      "  AND (c.createdDate, c.courseId) < (:createdDate, :courseId) " +
+      "ORDER BY c.createdDate DESC, c.courseId DESC")
+  List<Course> findAfterCursor(
+      @Param("visibility") Visibility visibility,
+      @Param("createdDate") LocalDateTime createdDate,
+      @Param("courseId") UUID courseId,
+      Limit limit
+  );
+
 }
@@ -0,0 +1,67 @@
+package jombi.freemates.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import jombi.freemates.model.constant.CrawlStatus;
+import jombi.freemates.model.postgres.PlaceCrawlState;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PlaceCrawlStateRepository extends JpaRepository<PlaceCrawlState, UUID> {
+
+  // 크롤링 대상 장소 ID (placeId 순 keyset, 은퇴한 장소 / 카카오 장소 ID 가 없는 장소 제외)
+  // - 상태가 없음(한 번도 크롤링 안 됨)
+  // - 성공했지만 staleBefore 이전에 크롤링됨
+  // - 실패 횟수가 maxFailures 미만이고 재시도 시각(nextRetryAt)이 지남
+  @Query("SELECT p.placeId FROM Place p " +
+      "LEFT JOIN PlaceCrawlState s ON s.placeId = p.placeId " +
+      "WHERE p.placeId > :afterPlaceId " +
+      "  AND p.retiredAt IS NULL " +
+      "  AND p.kakaoPlaceId IS NOT NULL " +
+      "  AND (s.placeId IS NULL " +
+      "    OR (s.status = jombi.freemates.model.constant.CrawlStatus.SUCCESS AND s.lastCrawledAt < :staleBefore) " +
+      "    OR (s.status = jombi.freemates.model.constant.CrawlStatus.FAILED " +
+      "        AND s.failureCount < :maxFailures AND (s.nextRetryAt IS NULL OR s.nextRetryAt <= :now))) " +
+      "ORDER BY p.placeId")
+  List<UUID> findPlaceIdsToCrawl(
+      @Param("afterPlaceId") UUID afterPlaceId,
+      @Param("staleBefore") LocalDateTime staleBefore,
+      @Param("now") LocalDateTime now,
+      @Param("maxFailures") int maxFailures,
+      Limit limit
+  );
+
+  // 재시도 시각이 지난 실패 장소 ID (dead letter 재처리용, placeId 순 keyset)
+  @Query("SELECT s.placeId FROM PlaceCrawlState s " +
+      "JOIN Place p ON p.placeId = s.placeId " +
+      "WHERE s.placeId > :afterPlaceId " +
+      "  AND p.retiredAt IS NULL " +
+      "  AND p.kakaoPlaceId IS NOT NULL " +
+      "  AND s.status = jombi.freemates.model.constant.CrawlStatus.FAILED " +
+      "  AND s.failureCount < :maxFailures " +
+      "  AND (s.nextRetryAt IS NULL OR s.nextRetryAt <= :now) " +
+      "ORDER BY s.placeId")
+  List<UUID> findDeadLetterIdsDue(
+      @Param("afterPlaceId") UUID afterPlaceId,
+      @Param("now") LocalDateTime now,
+      @Param("maxFailures") int maxFailures,
+      Limit limit
+  );
+
+  // 실패 장소 수 (전체 / 재시도 횟수를 모두 소진한 장소)
+  long countByStatus(CrawlStatus status);
+
+  long countByStatusAndFailureCountGreaterThanEqual(CrawlStatus status, int failureCount);
+
+  // 삭제된 장소의 크롤링 상태 정리
+  @Modifying
+  @Query("DELETE FROM PlaceCrawlState s " +
+      "WHERE NOT EXISTS (SELECT 1 FROM Place p WHERE p.placeId = s.placeId)")
+  int deleteOrphans();
+}
@@ -1,13 +1,18 @@
 package jombi.freemates.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import jombi.freemates.model.constant.CategoryType;
 import jombi.freemates.model.postgres.Place;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,40 +22,73 @@ public interface PlaceRepository extends JpaRepository<Place, UUID> {
 
   Optional<Place> findByPlaceId(UUID placeId);
 
+  // 인메모리 인덱스 빌드용 전체 조회 (tags 까지 한 번에 로딩)
+  @EntityGraph(attributePaths = "tags")
+  @Query("SELECT p FROM Place p WHERE p.retiredAt IS NULL")
+  List<Place> findAllWithTags();
+
   // placeName 검색
   @Query("SELECT p FROM Place p " +
-      "WHERE LOWER(p.placeName) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+      "WHERE p.retiredAt IS NULL " +
+      "  AND LOWER(p.placeName) LIKE LOWER(CONCAT('%', :keyword, '%'))")
   Page<Place> searchByName(@Param("keyword") String keyword, Pageable pageable);
 
   // introText 검색
   @Query("SELECT p FROM Place p " +
-      "WHERE LOWER(p.introText) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+      "WHERE p.retiredAt IS NULL " +
+      "  AND LOWER(p.introText) LIKE LOWER(CONCAT('%', :keyword, '%'))")
   Page<Place> searchByIntro(@Param("keyword") String keyword, Pageable pageable);
 
   // tags 검색 (ElementCollection join)
   @Query("SELECT DISTINCT p FROM Place p " +
       "JOIN p.tags t " +
-      "WHERE LOWER(t) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+      "WHERE p.retiredAt IS NULL " +
+      "  AND LOWER(t) LIKE LOWER(CONCAT('%', :keyword, '%'))")
   Page<Place> searchByTag(@Param("keyword") String keyword, Pageable pageable);
 
   // 전체(이름 OR 소개 OR 태그) 검색
   @Query("SELECT DISTINCT p FROM Place p " +
       "LEFT JOIN p.tags t " +
-      "WHERE LOWER(p.placeName) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-      "   OR LOWER(p.introText) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-      "   OR LOWER(t) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+      "WHERE p.retiredAt IS NULL " +
+      "  AND (LOWER(p.placeName) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+      "    OR LOWER(p.introText) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+      "    OR LOWER(t) LIKE LOWER(CONCAT('%', :keyword, '%')))")
   Page<Place> searchAllFields(@Param("keyword") String keyword, Pageable pageable);
 
-  // 카테고리 타입으로 장소를 페이지네이션하여 조회
-  Page<Place> findByCategoryType(CategoryType categoryType, Pageable pageable);
+  // 카테고리 타입으로 활성 장소를 페이지네이션하여 조회 (category 가 null 이면 전체)
+  @Query("SELECT p FROM Place p " +
+      "WHERE p.retiredAt IS NULL " +
+      "  AND (:category IS NULL OR p.categoryType = :category)")
+  Page<Place> findActiveByCategory(@Param("category") CategoryType category, Pageable pageable);
+
+  // 커서 페이지네이션 첫 페이지 (category 가 null 이면 전체)
+  @Query("SELECT p FROM Place p " +
+      "WHERE p.retiredAt IS NULL " +
+      "  AND (:category IS NULL OR p.categoryType = :category) " +
+      "ORDER BY p.placeName, p.placeId")
+  List<Place> findFirstByCursor(@Param("category") CategoryType category, Limit limit);
+
+  // 커서 이후 페이지: (placeName, placeId) 행 비교로 OFFSET 없이 이어서 조회
+  @Query("SELECT p FROM Place p " +
+      "WHERE p.retiredAt IS NULL " +
+      "  AND (:category IS NULL OR p.categoryType = :category) " +
+      "  AND (p.placeName, p.placeId) > (:placeName, :placeId) " +
+      "ORDER BY p.placeName, p.placeId")
+  List<Place> findAfterCursor(
+      @Param("category") CategoryType category,
+      @Param("placeName") String placeName,
+      @Param("placeId") UUID placeId,
+      Limit limit
+  );
 
   Optional<Place> findByXAndY(String x, String y);
 
+  // location GiST 인덱스를 타는 bbox(&&) 조회
   @Query(
       value = "SELECT * " +
           "FROM place p " +
-          "WHERE CAST(p.x AS double precision) BETWEEN :xMin AND :xMax " +
-          "  AND CAST(p.y AS double precision) BETWEEN :yMin AND :yMax",
+          "WHERE p.location && ST_MakeEnvelope(:xMin, :yMin, :xMax, :yMax, 4326) " +
+          "  AND p.retired_at IS NULL",
       nativeQuery = true
   )
   List<Place> findByCoordinateRange(
@@ -60,4 +98,39 @@ public interface PlaceRepository extends JpaRepository<Place, UUID> {
       @Param("yMax") double yMax
   );
 
+  // 반경(m) 내 장소를 가까운 순으로 최대 limit 개 조회 (geography 표현식 GiST 인덱스 사용)
+  // category 는 CategoryType 이름, null 이면 전체
+  // 반경 판정은 구면(use_spheroid=false) 기준: <-> 정렬, KD-tree(GeoUtil) 와 같은 거리 기준
+  @Query(
+      value = "SELECT * " +
+          "FROM place p " +
+          "WHERE ST_DWithin(CAST(p.location AS geography), " +
+          "                 CAST(ST_SetSRID(ST_MakePoint(:x, :y), 4326) AS geography), :radius, false) " +
+          "  AND p.retired_at IS NULL " +
+          "  AND (CAST(:category AS varchar) IS NULL OR p.category_type = CAST(:category AS varchar)) " +
+          "ORDER BY CAST(p.location AS geography) <-> CAST(ST_SetSRID(ST_MakePoint(:x, :y), 4326) AS geography) " +
+          "LIMIT :limit",
+      nativeQuery = true
+  )
+  List<Place> findWithinRadius(
+      @Param("x") double x,
+      @Param("y") double y,
+      @Param("radius") double radiusMeters,
+      @Param("category") String category,
+      @Param("limit") int limit
+  );
+
+  // 활성 장소의 카카오 장소 ID (동기화 후 사라진 장소 판별용)
+  @Query("SELECT p.kakaoPlaceId FROM Place p WHERE p.retiredAt IS NULL")
+  List<String> findActiveKakaoPlaceIds();
+
+  // 카카오 조회 결과에서 사라진 장소 은퇴 처리
+  @Modifying
+  @Query("UPDATE Place p SET p.retiredAt = :retiredAt " +
+      "WHERE p.retiredAt IS NULL " +
+      "  AND p.kakaoPlaceId IN :kakaoPlaceIds")
+  int retireByKakaoPlaceIds(
+      @Param("kakaoPlaceIds") Collection<String> kakaoPlaceIds,
+      @Param("retiredAt") LocalDateTime retiredAt
+  );
 }
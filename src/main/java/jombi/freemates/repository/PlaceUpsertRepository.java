@@ -0,0 +1,112 @@
+package jombi.freemates.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import jombi.freemates.model.postgres.Place;
+import lombok.RequiredArgsConstructor;
+import org.locationtech.jts.geom.Point;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 카카오 장소 일괄 upsert (INSERT ... ON CONFLICT (kakao_place_id) DO UPDATE)
+ * - 기존 장소는 placeId, 좋아요/조회수, 크롤링 정보(이미지/소개/태그)를 유지한 채 카카오 정보만 갱신
+ * - kakao_hash 가 같고 은퇴 상태도 아니면 갱신하지 않음 (no-op 쓰기 생략)
+ * - 조회 결과에 다시 나타난 장소는 은퇴(retired_at) 해제
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlaceUpsertRepository {
+
+  private static final String UPSERT_SQL =
+      "INSERT INTO place (place_id, kakao_place_id, address_name, category_group_code, distance, phone, "
+          + "  place_name, place_url, road_address_name, x, y, location, category_type, "
+          + "  kakao_hash, like_count, view_count, retired_at, created_date, updated_date) "
+          + "VALUES (gen_random_uuid(), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, "
+          + "  ST_SetSRID(ST_MakePoint(CAST(? AS double precision), CAST(? AS double precision)), 4326), ?, "
+          + "  ?, 0, 0, NULL, ?, ?) "
+          + "ON CONFLICT (kakao_place_id) DO UPDATE SET "
+          + "  address_name = EXCLUDED.address_name, "
+          + "  category_group_code = EXCLUDED.category_group_code, "
+          + "  distance = EXCLUDED.distance, "
+          + "  phone = EXCLUDED.phone, "
+          + "  place_name = EXCLUDED.place_name, "
+          + "  place_url = EXCLUDED.place_url, "
+          + "  road_address_name = EXCLUDED.road_address_name, "
+          + "  x = EXCLUDED.x, "
+          + "  y = EXCLUDED.y, "
+          + "  location = EXCLUDED.location, "
+          + "  category_type = EXCLUDED.category_type, "
+          + "  kakao_hash = EXCLUDED.kakao_hash, "
+          + "  retired_at = NULL, "
+          + "  updated_date = EXCLUDED.updated_date "
+          + "WHERE place.kakao_hash IS DISTINCT FROM EXCLUDED.kakao_hash "
+          + "   OR place.retired_at IS NOT NULL";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 장소 목록을 JDBC 배치 한 번으로 upsert
+   * @return 추가/갱신된 행 수와, ON CONFLICT WHERE 조건에 걸려 쓰지 않은(no-op, 영향 행 0) 행 수
+   */
+  public UpsertResult upsertAll(List<Place> places, LocalDateTime now) {
+    if (places.isEmpty()) {
+      return new UpsertResult(0, 0);
+    }
+    Timestamp timestamp = Timestamp.valueOf(now);
+    int[][] counts = jdbcTemplate.batchUpdate(UPSERT_SQL, places, places.size(),
+        (ps, place) -> bind(ps, place, timestamp));
+    int changed = 0;
+    int unchanged = 0;
+    for (int c : Arrays.stream(counts).flatMapToInt(Arrays::stream).toArray()) {
+      if (c == 0) {
+        unchanged++;
+      } else {
+        // 드라이버가 SUCCESS_NO_INFO(-2) 를 돌려주면 변경 여부를 알 수 없으므로 변경으로 계산
+        changed++;
+      }
+    }
+    return new UpsertResult(changed, unchanged);
+  }
+
+  /**
+   * 청크 upsert 결과 (changed: 추가/갱신, unchanged: 카카오 지문이 같아 쓰지 않은 행)
+   */
+  public record UpsertResult(int changed, int unchanged) {
+  }
+
+  private static void bind(PreparedStatement ps, Place place, Timestamp now) throws SQLException {
+    int i = 1;
+    ps.setString(i++, place.getKakaoPlaceId());
+    ps.setString(i++, place.getAddressName());
+    ps.setString(i++, place.getCategoryGroupCode());
+    ps.setString(i++, place.getDistance());
+    ps.setString(i++, place.getPhone());
+    ps.setString(i++, place.getPlaceName());
+    ps.setString(i++, place.getPlaceUrl());
+    ps.setString(i++, place.getRoadAddressName());
+    ps.setString(i++, place.getX());
+    ps.setString(i++, place.getY());
+    Point location = place.getLocation();
+    if (location == null) {
+      ps.setNull(i++, Types.DOUBLE);
+      ps.setNull(i++, Types.DOUBLE);
+    } else {
+      ps.setDouble(i++, location.getX());
+      ps.setDouble(i++, location.getY());
+    }
+    if (place.getCategoryType() == null) {
+      ps.setNull(i++, Types.VARCHAR);
+    } else {
+      ps.setString(i++, place.getCategoryType().name());
+    }
+    ps.setString(i++, place.getKakaoHash());
+    ps.setTimestamp(i++, now);
+    ps.setTimestamp(i, now);
+  }
+}
@@ -1,16 +1,77 @@
 package jombi.freemates.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 import jombi.freemates.model.postgres.Member;
 import jombi.freemates.model.postgres.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
- Optional<RefreshToken> findByMember(Member member);
- Optional<RefreshToken> findByMember_MemberId(UUID memberId);
+ Optional<RefreshToken> findByMember_MemberIdAndDeviceId(UUID memberId, String deviceId);
  void deleteByMember(Member member);
 
+ /**
+  * 로그인: 회원 + 기기의 토큰을 새 토큰으로 덮어씀 (교체 이력 초기화)
+  * @return 갱신된 행 수 (0 또는 1)
+  */
+ @Modifying(clearAutomatically = true)
+ @Query("UPDATE RefreshToken r " +
+     "SET r.tokenHash = :tokenHash, r.previousTokenHash = NULL, r.previousRotatedAt = NULL, " +
+     "    r.expiresAt = :expiresAt " +
+     "WHERE r.member.memberId = :memberId AND r.deviceId = :deviceId")
+ int replaceToken(@Param("memberId") UUID memberId, @Param("deviceId") String deviceId,
+     @Param("tokenHash") String tokenHash, @Param("expiresAt") LocalDateTime expiresAt);
+
+ /**
+  * 회원 + 기기 행이 없을 때만 삽입 (동시 로그인이 먼저 삽입했으면 유니크 제약 충돌로 0)
+  */
+ @Modifying
+ @Query(value = "INSERT INTO refresh_token (token_id, member_member_id, device_id, refresh_token, expires_at) " +
+     "VALUES (:tokenId, :memberId, :deviceId, :tokenHash, :expiresAt) " +
+     "ON CONFLICT (member_member_id, device_id) DO NOTHING",
+     nativeQuery = true)
+ int insertIfAbsent(@Param("tokenId") UUID tokenId, @Param("memberId") UUID memberId,
+     @Param("deviceId") String deviceId, @Param("tokenHash") String tokenHash,
+     @Param("expiresAt") LocalDateTime expiresAt);
+
+ /**
+  * 제시된 토큰이 현재 토큰이고 만료 전일 때만 새 토큰으로 교체 (조건부 UPDATE 로 동시 재발급 중 하나만 성공)
+  * @return 교체된 행 수 (0 또는 1)
+  */
+ @Modifying(clearAutomatically = true)
+ @Query("UPDATE RefreshToken r " +
+     "SET r.tokenHash = :newHash, r.previousTokenHash = :presentedHash, r.previousRotatedAt = :now, " +
+     "    r.expiresAt = :expiresAt " +
+     "WHERE r.member.memberId = :memberId AND r.deviceId = :deviceId " +
+     "AND r.tokenHash = :presentedHash AND r.expiresAt > :now")
+ int rotate(@Param("memberId") UUID memberId, @Param("deviceId") String deviceId,
+     @Param("presentedHash") String presentedHash, @Param("newHash") String newHash,
+     @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+ boolean existsByMember_MemberIdAndDeviceIdAndPreviousTokenHash(UUID memberId, String deviceId, String previousTokenHash);
+
+ boolean existsByMember_MemberIdAndDeviceIdAndPreviousTokenHashAndPreviousRotatedAtAfter(
+     UUID memberId, String deviceId, String previousTokenHash, LocalDateTime rotatedAfter);
+
+ @Modifying
+ @Query("DELETE FROM RefreshToken r WHERE r.member.memberId = :memberId AND r.deviceId = :deviceId")
+ int deleteByMemberIdAndDeviceId(@Param("memberId") UUID memberId, @Param("deviceId") String deviceId);
+
+ @Modifying
+ @Query("DELETE FROM RefreshToken r WHERE r.member.memberId = :memberId")
+ int deleteByMemberId(@Param("memberId") UUID memberId);
+
+ /**
+  * 만료된 토큰과 기기 정보 없이 저장된 이전 방식(토큰 원문)의 행 정리
+  */
+ @Modifying
+ @Query("DELETE FROM RefreshToken r WHERE r.expiresAt IS NULL OR r.expiresAt < :now")
+ int deleteExpired(@Param("now") LocalDateTime now);
+
 }
@@ -1,9 +1,11 @@
 package jombi.freemates.service;
 
+import io.jsonwebtoken.Claims;
 import jakarta.transaction.Transactional;
 import java.time.LocalDate;
 import java.util.UUID;
 import jombi.freemates.model.constant.JwtTokenType;
+import jombi.freemates.model.constant.RefreshTokenRotation;
 import jombi.freemates.model.constant.Role;
 import jombi.freemates.model.dto.CustomUserDetails;
 import jombi.freemates.model.dto.LoginRequest;
@@ -13,9 +15,12 @@ import jombi.freemates.model.dto.RegisterResponse;
 import jombi.freemates.model.dto.TokenRequest;
 import jombi.freemates.model.dto.TokenResponse;
 import jombi.freemates.model.postgres.Member;
-import jombi.freemates.model.postgres.RefreshToken;
 import jombi.freemates.repository.RefreshTokenRepository;
+import jombi.freemates.service.auth.PrincipalCache;
+import jombi.freemates.service.auth.RefreshTokenStore;
+import jombi.freemates.service.auth.VerifiedTokenCache;
 import jombi.freemates.util.JwtUtil;
+import jombi.freemates.util.TokenHashUtil;
 import jombi.freemates.util.exception.CustomException;
 import jombi.freemates.util.exception.ErrorCode;
 import jombi.freemates.repository.MemberRepository;
@@ -30,6 +35,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -44,9 +50,14 @@ public class AuthService {
   private final AuthenticationManager authenticationManager;
   private final JwtUtil jwtUtil;
   private final RedisTemplate<String, Object> redisTemplate;
+  private final PrincipalCache principalCache;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final RefreshTokenStore refreshTokenStore;
   // 회원가입 나이 제한
   private static final Integer MIN_AGE = 18;
   private static final Integer MAX_AGE = 90;
+  // 로그인 기기 식별자 최대 길이
+  private static final int MAX_DEVICE_ID_LENGTH = 64;
 
   /**
    * 회원가입
@@ -120,18 +131,20 @@ public class AuthService {
     CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
     Member member = userDetails.getMember();
 
+    // 기기 식별자가 없으면 로그인마다 새 기기로 취급
+    String deviceId = request.getDeviceId();
+    if (!StringUtils.hasText(deviceId)) {
+      deviceId = UUID.randomUUID().toString();
+    } else if (deviceId.length() > MAX_DEVICE_ID_LENGTH) {
+      throw new CustomException(ErrorCode.INVALID_REQUEST);
+    }
+
     // 토큰 생성
     // AccessToken 발급
-    String accessToken = jwtUtil.generateToken(authentication, JwtTokenType.ACCESS);
-    // RefreshToken 발급
-    String refreshToken = jwtUtil.generateToken(authentication, JwtTokenType.REFRESH);
-
-    refreshTokenRepository.save(
-        RefreshToken.builder()
-            .refreshToken(refreshToken)
-            .member(member)
-            .build()
-    );
+    String accessToken = jwtUtil.generateAccessToken(authentication, deviceId);
+    // RefreshToken 발급 (기기당 1개, 해시만 저장)
+    String refreshToken = jwtUtil.generateRefreshToken(authentication, deviceId);
+    refreshTokenStore.save(member, deviceId, TokenHashUtil.sha256(refreshToken));
 
     //토큰 반환
     return LoginResponse.builder()
@@ -147,34 +160,49 @@ public class AuthService {
   public TokenResponse refresh(TokenRequest tokenRequest) {
     // refreshToken 유효성 검증
     String refreshToken = tokenRequest.getRefreshToken();
-    if (!jwtUtil.validateToken(refreshToken)) {
-      throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+    Claims claims = jwtUtil.verifyToken(refreshToken)
+        .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REFRESH_TOKEN));
+
+    // refreshToken에서 username, 기기 식별자 추출
+    String username = claims.getSubject();
+    String deviceId = claims.get(JwtUtil.DEVICE_ID_CLAIM, String.class);
+    if (deviceId == null) {
+      // 기기 식별자 없이 발급된 이전 방식의 토큰 → 다시 로그인 필요
+      throw new CustomException(ErrorCode.REFRESH_TOKEN_EXPIRED);
     }
 
-    // refreshToken에서 username 추출
-    String username = jwtUtil.getUsernameFromToken(refreshToken);
-
-    Member member = memberRepository.findByUsername(username)
-        .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
-
-    // 저장된 RefreshToken과 비교
-    RefreshToken savedToken = refreshTokenRepository.findByMember(member)
-        .orElseThrow(() -> new CustomException(ErrorCode.REFRESH_TOKEN_EXPIRED));
-    if (!savedToken.getRefreshToken().equals(refreshToken)) {
-      throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
-    }
-    CustomUserDetails userDetails = new CustomUserDetails(member);
+    // 회원 정보는 인증 정보 캐시 사용 (없으면 DB 조회)
+    CustomUserDetails userDetails = principalCache.get(username,
+        name -> (CustomUserDetails) customUserDetailsService.loadUserByUsername(name));
+    Member member = userDetails.getMember();
 
-    // 새 토큰 발급
+    // 새 토큰 발급 (발급 시각은 이 기기의 기존 액세스 토큰 폐기 기준으로 사용)
+    long issuedAtMillis = System.currentTimeMillis();
     Authentication auth = new UsernamePasswordAuthenticationToken(
         userDetails, null, userDetails.getAuthorities()
     );
-    String newAccessToken = jwtUtil.generateToken(auth, JwtTokenType.ACCESS);
-    String newRefreshToken = jwtUtil.generateToken(auth, JwtTokenType.REFRESH);
+    String newAccessToken = jwtUtil.generateAccessToken(auth, deviceId);
+    String newRefreshToken = jwtUtil.generateRefreshToken(auth, deviceId);
+
+    // 저장된 RefreshToken 이 제시된 토큰일 때만 새 토큰으로 교체 (동시 재발급 중 하나만 교체)
+    RefreshTokenRotation rotation = refreshTokenStore.rotate(member.getMemberId(), deviceId,
+        TokenHashUtil.sha256(refreshToken), TokenHashUtil.sha256(newRefreshToken));
+    if (rotation == RefreshTokenRotation.CONCURRENT) {
+      // 같은 토큰으로 동시에 재발급 요청 → 먼저 교체한 요청의 토큰은 유지
+      log.info("동시 재발급 요청, 먼저 발급된 토큰 유지: username={}, deviceId={}", username, deviceId);
+      throw new CustomException(ErrorCode.REFRESH_TOKEN_CONFLICT);
+    }
+    if (rotation == RefreshTokenRotation.REUSED) {
+      // 이미 교체된 토큰이 다시 사용됨 → 탈취 의심, 해당 기기 토큰은 저장소에서 폐기됨
+      log.warn("이미 사용된 RefreshToken 재사용 감지: username={}, deviceId={}", username, deviceId);
+      throw new CustomException(ErrorCode.REFRESH_TOKEN_REUSED);
+    }
+    if (rotation == RefreshTokenRotation.NOT_FOUND) {
+      throw new CustomException(ErrorCode.REFRESH_TOKEN_EXPIRED);
+    }
 
-    // RefreshToken 업데이트
-    savedToken.setRefreshToken(newRefreshToken);
-    refreshTokenRepository.save(savedToken);
+    // 교체에 성공한 경우에만 이 기기에서 새 토큰보다 먼저 발급된 액세스 토큰 폐기 (다른 기기는 유지)
+    verifiedTokenCache.revoke(username, deviceId, issuedAtMillis);
 
     // 새 AccessToken + 새 RefreshToken 반환
     return TokenResponse.builder()
@@ -200,7 +228,7 @@ public class AuthService {
    */
   public void delete(Member member, boolean hard) {
     if (hard) {
-      // 연관된 RefreshToken도 제거
+      // 연관된 RefreshToken도 제거 (JPA 저장소 및 이전 방식으로 저장된 행)
       refreshTokenRepository.deleteByMember(member);
       memberRepository.delete(member);  // 하드 딜리트
     } else {
@@ -210,6 +238,10 @@ public class AuthService {
       member.markDeleted();  // 소프트 딜리트 (isDeleted = true로 설정)
       memberRepository.save(member);
     }
+    // 탈퇴한 회원의 인증 정보 캐시 제거 (엔티티 리스너와 별개로 명시적으로 한 번 더), 발급된 토큰 폐기
+    principalCache.evict(member.getUsername());
+    verifiedTokenCache.revoke(member.getUsername());
+    refreshTokenStore.revokeAll(member.getMemberId());
   }
 
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 import jombi.freemates.model.constant.Visibility;
 import jombi.freemates.model.dto.BookmarkRequest;
 import jombi.freemates.model.dto.BookmarkDto;
+import jombi.freemates.model.dto.CursorSlice;
 import jombi.freemates.model.dto.CustomUserDetails;
 import jombi.freemates.model.dto.PlaceDto;
 import jombi.freemates.model.postgres.Bookmark;
@@ -19,10 +20,15 @@ import jombi.freemates.repository.BookmarkLikeRepository;
 import jombi.freemates.repository.BookmarkPlaceRepository;
 import jombi.freemates.repository.BookmarkRepository;
 import jombi.freemates.repository.PlaceRepository;
+import jombi.freemates.service.index.PlaceCountChangedEvent;
+import jombi.freemates.util.CursorUtil;
+import jombi.freemates.util.CursorUtil.Cursor;
 import jombi.freemates.util.exception.CustomException;
 import jombi.freemates.util.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -39,6 +45,7 @@ public class BookmarkService {
   private final BookmarkPlaceRepository bookmarkPlaceRepository;
   private final PlaceService placeService;
   private final BookmarkLikeRepository bookmarkLikeRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 즐겨찾기 생성
@@ -98,6 +105,31 @@ public class BookmarkService {
         .findByVisibility(visibility, PageRequest.of(page, size))
         .map(this::convertToBookmarkDto);
   }
+
+  /**
+   * 즐겨찾기 목록 커서 조회 (최신순)
+   * OFFSET/count 없이 커서 이후 size 개만 조회
+   */
+  @Transactional(readOnly = true)
+  public CursorSlice<BookmarkDto> getBookmarksByCursor(Visibility visibility, String cursor, int size) {
+    int pageSize = CursorUtil.clampSize(size);
+    Limit limit = Limit.of(pageSize + 1);
+
+    List<Bookmark> bookmarks;
+    if (cursor == null || cursor.isBlank()) {
+      bookmarks = bookmarkRepository.findFirstByCursor(visibility, limit);
+    } else {
+      Cursor decoded = CursorUtil.decode(cursor);
+      bookmarks = bookmarkRepository.findAfterCursor(visibility, decoded.sortKeyAsDateTime(), decoded.id(), limit);
+    }
+
+    return CursorUtil.toSlice(
+        bookmarks,
+        pageSize,
+        bookmark -> CursorUtil.encode(bookmark.getCreatedDate(), bookmark.getBookmarkId()),
+        this::convertToBookmarkDto
+    );
+  }
   /**
    * 즐겨찾기 좋아요
    */
@@ -172,6 +204,8 @@ public class BookmarkService {
       placeRepository.save(place);
       log.info("장소 {}의 좋아요 수 증가 - 현재 좋아요 수: {}",
           placeId, place.getLikeCount());
+      // 인메모리 카운터에도 반영 (커밋 이후)
+      eventPublisher.publishEvent(new PlaceCountChangedEvent(placeId, 1, 0));
     }
 
 
@@ -2,14 +2,21 @@ package jombi.freemates.service;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import jombi.freemates.model.constant.Visibility;
 import jombi.freemates.model.dto.CourseRequest;
 import jombi.freemates.model.dto.CourseDto;
+import jombi.freemates.model.dto.CursorSlice;
 import jombi.freemates.model.dto.CustomUserDetails;
 import jombi.freemates.model.dto.PlaceDto;
 import jombi.freemates.model.postgres.Course;
@@ -23,11 +30,15 @@ import jombi.freemates.repository.CourseLikeRepository;
 import jombi.freemates.repository.CoursePlaceRepository;
 import jombi.freemates.repository.CourseRepository;
 import jombi.freemates.repository.PlaceRepository;
+import jombi.freemates.util.CursorUtil;
+import jombi.freemates.util.CursorUtil.Cursor;
 import jombi.freemates.util.exception.CustomException;
 import jombi.freemates.util.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -107,9 +118,7 @@ public class CourseService {
     }
 
     List<Course> courses = courseRepository.findAllByMember(member);
-    return courses.stream()
-        .map(this::converToCourseDto)
-        .collect(Collectors.toList());
+    return convertToCourseDtos(courses);
   }
 
   /**
@@ -119,8 +128,34 @@ public class CourseService {
   public Page<CourseDto> getCourses(Visibility visibility, Pageable pageable) {
     Page<Course> coursePage = courseRepository.findAllByVisibility(visibility, pageable);
 
-    // Page<Course> → Page<CourseDto>로 변환
-    return coursePage.map(this::converToCourseDto);
+    // Page<Course> → Page<CourseDto>로 변환 (페이지 단위로 장소 일괄 조회)
+    List<CourseDto> courseDtos = convertToCourseDtos(coursePage.getContent());
+    return new PageImpl<>(courseDtos, coursePage.getPageable(), coursePage.getTotalElements());
+  }
+
+  /**
+   * 코스 목록 커서 조회 (최신순)
+   * OFFSET/count 없이 커서 이후 size 개만 조회
+   */
+  @Transactional(readOnly = true)
+  public CursorSlice<CourseDto> getCoursesByCursor(Visibility visibility, String cursor, int size) {
+    int pageSize = CursorUtil.clampSize(size);
+    Limit limit = Limit.of(pageSize + 1);
+
+    List<Course> courses;
+    if (cursor == null || cursor.isBlank()) {
+      courses = courseRepository.findFirstByCursor(visibility, limit);
+    } else {
+      Cursor decoded = CursorUtil.decode(cursor);
+      courses = courseRepository.findAfterCursor(visibility, decoded.sortKeyAsDateTime(), decoded.id(), limit);
+    }
+
+    return CursorUtil.toSliceBatch(
+        courses,
+        pageSize,
+        course -> CursorUtil.encode(course.getCreatedDate(), course.getCourseId()),
+        this::convertToCourseDtos
+    );
   }
 
 
@@ -195,12 +230,8 @@ public class CourseService {
     course.setFreeTime(req.getFreeTime());
     course.setVisibility(req.getVisibility());
 
-    // CoursePlace 업데이트
-    List<CoursePlace> coursePlaceList = createCoursePlaceList(course, req.getPlaceIds());
-
-    // 기존 CoursePlace 삭제 후 새로 저장
-    coursePlaceRepository.deleteAllByCourse(course);
-    coursePlaceRepository.saveAll(coursePlaceList);
+    // CoursePlace 업데이트 (변경된 행만 삭제/추가/순서 변경)
+    updateCoursePlaces(course, req.getPlaceIds());
 
     entityManager.flush();
   }
@@ -213,6 +244,35 @@ public class CourseService {
    * 코스 dto를 빌드하는 공통 메서드
    */
   public CourseDto converToCourseDto(Course course) {
+    return buildCourseDto(course, course.getCoursePlaces().stream()
+        .sorted(Comparator.comparing(CoursePlace::getSequence))
+        .map(cp -> placeService.convertToPlaceDto(cp.getPlace()))
+        .collect(Collectors.toList()));
+  }
+
+  /**
+   * 코스 목록 DTO 변환
+   * 코스 수와 무관하게 코스 장소(+장소)는 sequence 순으로 한 번에, 태그는 @BatchSize 로 한 번에 조회
+   */
+  private List<CourseDto> convertToCourseDtos(List<Course> courses) {
+    if (courses.isEmpty()) {
+      return List.of();
+    }
+
+    // SQL 에서 sequence 순으로 정렬되어 오므로 코스별 목록도 순서 유지
+    Map<UUID, List<PlaceDto>> placeDtosByCourseId = coursePlaceRepository.findAllWithPlaceByCourseIn(courses)
+        .stream()
+        .collect(Collectors.groupingBy(
+            cp -> cp.getCoursePlaceId().getCourseId(),
+            Collectors.mapping(cp -> placeService.convertToPlaceDto(cp.getPlace()), Collectors.toList())
+        ));
+
+    return courses.stream()
+        .map(course -> buildCourseDto(course, placeDtosByCourseId.getOrDefault(course.getCourseId(), List.of())))
+        .collect(Collectors.toList());
+  }
+
+  private CourseDto buildCourseDto(Course course, List<PlaceDto> placeDtos) {
     return CourseDto.builder()
         .courseId(course.getCourseId())
         .nickName(course.getMember().getNickname())
@@ -221,29 +281,90 @@ public class CourseService {
         .freeTime(course.getFreeTime())
         .visibility(course.getVisibility())
         .imageUrl(course.getImageUrl())
-        .placeDtos(course.getCoursePlaces().stream()
-            .sorted(Comparator.comparing(CoursePlace::getSequence))
-            .map(cp -> placeService.convertToPlaceDto(cp.getPlace()))
-            .collect(Collectors.toList()))
+        .placeDtos(placeDtos)
         .likeCount(course.getLikeCount())
         .build();
   }
 
+  /**
+   * 기존 코스 장소와 요청 장소 목록을 비교해 변경분만 반영
+   * - 빠진 장소: 삭제
+   * - 순서만 바뀐 장소: sequence 변경 (dirty checking)
+   * - 새 장소: 한 번에 조회 후 일괄 INSERT
+   */
+  private void updateCoursePlaces(Course course, List<UUID> placeIds) {
+    validateNoDuplicatePlace(placeIds);
+
+    Map<UUID, Integer> sequenceByPlaceId = new HashMap<>();
+    for (int idx = 0; idx < placeIds.size(); idx++) {
+      sequenceByPlaceId.put(placeIds.get(idx), idx + 1);
+    }
+
+    List<CoursePlace> toDelete = new ArrayList<>();
+    Set<UUID> existingPlaceIds = new HashSet<>();
+    for (CoursePlace coursePlace : coursePlaceRepository.findAllByCourse(course)) {
+      UUID placeId = coursePlace.getCoursePlaceId().getPlaceId();
+      Integer sequence = sequenceByPlaceId.get(placeId);
+      if (sequence == null) {
+        toDelete.add(coursePlace);
+        continue;
+      }
+      existingPlaceIds.add(placeId);
+      if (!sequence.equals(coursePlace.getSequence())) {
+        coursePlace.setSequence(sequence);
+      }
+    }
+
+    List<UUID> newPlaceIds = placeIds.stream()
+        .filter(placeId -> !existingPlaceIds.contains(placeId))
+        .toList();
+    Map<UUID, Place> newPlaces = findPlacesById(newPlaceIds);
+    List<CoursePlace> toInsert = newPlaceIds.stream()
+        .map(placeId -> buildCoursePlace(course, newPlaces.get(placeId), sequenceByPlaceId.get(placeId)))
+        .toList();
+
+    coursePlaceRepository.deleteAll(toDelete);
+    coursePlaceRepository.saveAll(toInsert);
+    log.debug("코스 장소 변경: courseId={}, 삭제 {}개, 추가 {}개", course.getCourseId(), toDelete.size(), toInsert.size());
+  }
+
+  /**
+   * 장소 ID 목록을 IN 쿼리 한 번으로 조회 (없는 ID 가 있으면 PLACE_NOT_FOUND)
+   */
+  private Map<UUID, Place> findPlacesById(List<UUID> placeIds) {
+    if (placeIds.isEmpty()) {
+      return Map.of();
+    }
+    Map<UUID, Place> placeById = placeRepository.findAllById(placeIds).stream()
+        .collect(Collectors.toMap(Place::getPlaceId, Function.identity()));
+    if (placeById.size() != new HashSet<>(placeIds).size()) {
+      List<UUID> missing = placeIds.stream().filter(placeId -> !placeById.containsKey(placeId)).toList();
+      log.error("존재하지 않는 장소 ID: {}", missing);
+      throw new CustomException(ErrorCode.PLACE_NOT_FOUND);
+    }
+    return placeById;
+  }
+
+  private void validateNoDuplicatePlace(List<UUID> placeIds) {
+    if (new HashSet<>(placeIds).size() != placeIds.size()) {
+      throw new CustomException(ErrorCode.DUPLICATE_PLACE_IN_COURSE);
+    }
+  }
+
+  private CoursePlace buildCoursePlace(Course course, Place place, int sequence) {
+    return CoursePlace.builder()
+        .coursePlaceId(new CoursePlaceId(course.getCourseId(), place.getPlaceId()))
+        .course(course)
+        .place(place)
+        .sequence(sequence)
+        .build();
+  }
+
   private List<CoursePlace> createCoursePlaceList(Course course, List<UUID> placeIds) {
+    validateNoDuplicatePlace(placeIds);
+    Map<UUID, Place> placeById = findPlacesById(placeIds);
     return IntStream.range(0, placeIds.size())
-        .mapToObj(idx -> {
-          UUID placeId = placeIds.get(idx);
-          Place place = placeRepository.findByPlaceId(placeId)
-              .orElseThrow(() -> new CustomException(ErrorCode.PLACE_NOT_FOUND));
-          CoursePlaceId compositeId = new CoursePlaceId(course.getCourseId(), place.getPlaceId());
-
-          return CoursePlace.builder()
-              .coursePlaceId(compositeId)
-              .course(course)
-              .place(place)
-              .sequence(idx + 1)
-              .build();
-        })
+        .mapToObj(idx -> buildCoursePlace(course, placeById.get(placeIds.get(idx)), idx + 1))
         .collect(Collectors.toList());
   }
 }
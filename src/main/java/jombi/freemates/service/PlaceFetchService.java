@@ -3,22 +3,33 @@ package jombi.freemates.service;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import jombi.freemates.model.constant.CategoryType;
 import jombi.freemates.model.dto.KakaoPlaceDocumentResponse;
 import jombi.freemates.model.dto.KakaoPlaceResponse;
 import jombi.freemates.model.postgres.Place;
-import lombok.RequiredArgsConstructor;
+import jombi.freemates.util.CommonUtil;
+import jombi.freemates.util.PlaceHashUtil;
+import jombi.freemates.util.TokenBucket;
 import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PlaceFetchService {
   private final WebClient kakaoWebClient;
 
@@ -28,6 +39,9 @@ public class PlaceFetchService {
   private static final int    PAGE_SIZE = 15;
   private static final int    MAX_PAGE  = 45;
 
+  // WGS84 (SRID 4326) 좌표계
+  private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
   private static final List<CategoryType> CATEGORIES = List.of(
       CategoryType.CAFE,
       CategoryType.FOOD,
@@ -37,19 +51,58 @@ public class PlaceFetchService {
       CategoryType.HOSPITAL
   );
 
+  // 동시에 조회하는 카테고리 코드 수 / 코드 하나 안에서 동시에 조회하는 페이지 수
+  private final int concurrency;
+  // 카카오 API 호출 속도 제한 (모든 요청 공유)
+  private final TokenBucket rateLimiter;
+  // 429 / 5xx / 네트워크 오류 재시도
+  private final int maxRetries;
+  private final Duration retryBackoff;
+  private final Duration fetchTimeout;
+  // tile: 쿼드트리 분할 조회 (45페이지 상한 회피) / radius: 반경 원 하나로 조회
+  private final boolean tileMode;
+  private final int maxTileDepth;
+
+  public PlaceFetchService(
+      WebClient kakaoWebClient,
+      @Value("${freemates.kakao.fetch.concurrency:4}") int concurrency,
+      @Value("${freemates.kakao.fetch.rate-per-second:10}") double ratePerSecond,
+      @Value("${freemates.kakao.fetch.max-retries:3}") int maxRetries,
+      @Value("${freemates.kakao.fetch.retry-backoff-millis:500}") long retryBackoffMillis,
+      @Value("${freemates.kakao.fetch.timeout-minutes:10}") long fetchTimeoutMinutes,
+      @Value("${freemates.kakao.fetch.strategy:tile}") String strategy,
+      @Value("${freemates.kakao.fetch.max-tile-depth:6}") int maxTileDepth
+  ) {
+    this.kakaoWebClient = kakaoWebClient;
+    this.concurrency = concurrency;
+    this.rateLimiter = new TokenBucket(ratePerSecond, Math.max(1, (int) ratePerSecond));
+    this.maxRetries = maxRetries;
+    this.retryBackoff = Duration.ofMillis(retryBackoffMillis);
+    this.fetchTimeout = Duration.ofMinutes(fetchTimeoutMinutes);
+    this.tileMode = "tile".equalsIgnoreCase(strategy);
+    this.maxTileDepth = maxTileDepth;
+  }
+
   /**
    * 세종대학교 반경 10km 내 지정 카테고리 장소를 비동기로 전 페이지 조회
+   * 카테고리 코드 단위로 병렬 조회하되, 전체 호출 속도는 토큰 버킷으로 제한
+   * 재시도 후에도 실패한 페이지가 있으면 에러로 종료 (빈 결과로 덮어쓰지 않음)
    */
   public Mono<List<KakaoPlaceDocumentResponse>> fetchPlaces() {
+    return streamPlaces()
+        // 리스트로 수집
+        .collectList();
+  }
+
+  /**
+   * fetchPlaces 의 스트리밍 버전: 조회되는 대로 장소를 흘려보냄 (전체를 메모리에 모으지 않음)
+   * 중복 제거를 위해 카카오 장소 ID 만 보관
+   */
+  public Flux<KakaoPlaceDocumentResponse> streamPlaces() {
 
     return Flux.fromIterable(CATEGORIES)
-        // 카테고리 코드로 변환
-        .concatMap(categoryType ->
-            // 그 카테고리가 가진 모든 kakaoCodes 에 대해
-            Flux.fromIterable(categoryType.getKakaoCodes())
-                // 코드 하나당 전체 페이지를 조회
-                .concatMap(this::fetchAllPagesFor)
-        )
+        // 카테고리별로 병렬 조회
+        .flatMap(this::fetchCategory, concurrency)
         // 카테고리 그룹 코드로 필터링
         .filter(doc ->
             CATEGORIES.stream()
@@ -57,8 +110,9 @@ public class PlaceFetchService {
                     .contains(doc.getCategoryGroupCode()))
         )        // 중복 제거
         .distinct(KakaoPlaceDocumentResponse::getId)
-        // 리스트로 수집
-        .collectList()
+        // 전체 조회 시간 제한 (Flux.timeout 은 원소 간 간격 기준이므로 별도 deadline 사용)
+        .takeUntilOther(Mono.delay(fetchTimeout)
+            .then(Mono.error(() -> new TimeoutException("카카오 장소 조회 시간 초과: " + fetchTimeout))))
         // 에러 처리
         .doOnError(WebClientResponseException.class,
             e -> log.error("카카오 API 호출 실패: {}", e.getMessage()))
@@ -67,37 +121,136 @@ public class PlaceFetchService {
   }
 
   /**
-   * 단일 카테고리 그룹 코드에 대해 page=1 부터 is_end 까지 순차 호출
+   * 카테고리 하나가 가진 모든 kakaoCodes 조회 + 소요 시간 로그
+   * 모아 두지 않고 조회되는 대로 흘려보내며, 건수는 카운터로만 집계
+   */
+  private Flux<KakaoPlaceDocumentResponse> fetchCategory(CategoryType categoryType) {
+    return Flux.defer(() -> {
+      long start = System.nanoTime();
+      AtomicInteger fetched = new AtomicInteger();
+      return Flux.fromIterable(categoryType.getKakaoCodes())
+          .flatMap(code -> tileMode ? fetchAllTilesFor(code) : fetchAllPagesFor(code), concurrency)
+          .doOnNext(doc -> fetched.incrementAndGet())
+          .doOnComplete(() -> log.info("카카오 카테고리 {} 조회 완료: {}건, {}ms",
+              categoryType, fetched.get(), (System.nanoTime() - start) / 1_000_000));
+    });
+  }
+
+  /**
+   * [radius 모드] 반경 10km 원 하나로 전체 페이지 조회 (최대 MAX_PAGE × PAGE_SIZE 건에서 잘림)
    */
   private Flux<KakaoPlaceDocumentResponse> fetchAllPagesFor(String categoryCode) {
-    // 1페이지부터 시작
-    return Mono.just(1)
-        // expand 로 “다음 페이지 번호”를 스트림으로 확장
-        .expand(page -> page < MAX_PAGE ? Mono.just(page + 1) : Mono.empty())
-        // 각 page 번호마다 API 호출
-        .concatMap(page ->
+    return fetchRemainingPages(categoryCode, null, fetchPage(categoryCode, null, 1));
+  }
+
+  /**
+   * [tile 모드] 반경 원을 감싸는 사각형에서 시작하는 적응형 쿼드트리 조회
+   * 결과가 페이지 상한을 넘는 타일만 4등분해 다시 조회하고, 리프 타일은 병렬로 전체 페이지 조회
+   */
+  private Flux<KakaoPlaceDocumentResponse> fetchAllTilesFor(String categoryCode) {
+    AtomicInteger leafTiles = new AtomicInteger();
+    return fetchTile(categoryCode, Tile.around(SEJONG_X, SEJONG_Y, RADIUS), 0, leafTiles)
+        // 사각형 모서리 영역은 반경 밖이므로 제외
+        .filter(doc -> withinRadius(doc.getDistance()))
+        .doOnComplete(() -> log.debug("카테고리 코드 {} 타일 조회 완료: 리프 타일 {}개", categoryCode, leafTiles.get()));
+  }
+
+  private Flux<KakaoPlaceDocumentResponse> fetchTile(String categoryCode, Tile tile, int depth, AtomicInteger leafTiles) {
+    if (!tile.intersectsCircle(SEJONG_X, SEJONG_Y, RADIUS)) {
+      return Flux.empty();
+    }
+    return fetchPage(categoryCode, tile, 1)
+        .flatMapMany(first -> {
+          if (isTruncated(first) && depth < maxTileDepth) {
+            return Flux.fromIterable(tile.split())
+                .flatMap(child -> fetchTile(categoryCode, child, depth + 1, leafTiles), concurrency);
+          }
+          if (isTruncated(first)) {
+            log.warn("카테고리 코드 {} 타일 깊이 상한({}) 도달, 일부 장소 누락 가능: {}", categoryCode, maxTileDepth, tile);
+          }
+          leafTiles.incrementAndGet();
+          return fetchRemainingPages(categoryCode, tile, Mono.just(first));
+        });
+  }
+
+  /**
+   * 1페이지의 pageable_count 로 마지막 페이지를 계산한 뒤 나머지 페이지는 병렬 조회
+   */
+  private Flux<KakaoPlaceDocumentResponse> fetchRemainingPages(
+      String categoryCode, Tile tile, Mono<KakaoPlaceResponse> firstPage) {
+    return firstPage
+        .flatMapMany(first -> {
+          int lastPage = lastPage(first);
+          Flux<KakaoPlaceResponse> rest = lastPage <= 1
+              ? Flux.empty()
+              : Flux.range(2, lastPage - 1).flatMap(page -> fetchPage(categoryCode, tile, page), concurrency);
+          return Flux.concat(Mono.just(first), rest);
+        })
+        // KaKaoResponse.documents 를 펼쳐서 Flux<KaKaoDocument> 로 반환
+        .flatMapIterable(KakaoPlaceResponse::getDocuments);
+  }
+
+  private int lastPage(KakaoPlaceResponse first) {
+    if (first.getMeta() == null || first.getMeta().isEnd()) {
+      return 1;
+    }
+    int pages = (first.getMeta().getPageableCount() + PAGE_SIZE - 1) / PAGE_SIZE;
+    return Math.max(1, Math.min(pages, MAX_PAGE));
+  }
+
+  // 전체 결과 수가 조회 가능한 최대 건수(MAX_PAGE × PAGE_SIZE)를 넘으면 잘린 것
+  private boolean isTruncated(KakaoPlaceResponse first) {
+    return first.getMeta() != null && first.getMeta().getTotalCount() > MAX_PAGE * PAGE_SIZE;
+  }
+
+  private boolean withinRadius(String distance) {
+    try {
+      return Double.parseDouble(distance) <= RADIUS;
+    } catch (NullPointerException | NumberFormatException e) {
+      return true;
+    }
+  }
+
+  /**
+   * 페이지 하나 조회 (토큰 획득 → 호출, 429/5xx/네트워크 오류는 지수 백오프로 재시도)
+   * tile 이 null 이면 반경(radius) 조회, 아니면 사각형(rect) 조회
+   */
+  private Mono<KakaoPlaceResponse> fetchPage(String categoryCode, Tile tile, int page) {
+    return rateLimiter.acquire()
+        .then(Mono.defer(() ->
             kakaoWebClient.get()
-                .uri(b -> b.path("/v2/local/search/category.json")
-                    .queryParam("category_group_code", categoryCode)
-                    .queryParam("x", SEJONG_X)
-                    .queryParam("y", SEJONG_Y)
-                    .queryParam("radius", RADIUS)
-                    .queryParam("size", PAGE_SIZE)
-                    .queryParam("page", page)
-                    .build()
-                )
+                .uri(b -> {
+                  b.path("/v2/local/search/category.json")
+                      .queryParam("category_group_code", categoryCode)
+                      // rect 조회에서도 x, y 를 넘겨야 distance 가 계산됨
+                      .queryParam("x", SEJONG_X)
+                      .queryParam("y", SEJONG_Y)
+                      .queryParam("size", PAGE_SIZE)
+                      .queryParam("page", page);
+                  if (tile == null) {
+                    b.queryParam("radius", RADIUS);
+                  } else {
+                    b.queryParam("rect", tile.toRectParam());
+                  }
+                  return b.build();
+                })
                 .retrieve()
                 .bodyToMono(KakaoPlaceResponse.class)
-                // 실패 시 빈 response 로 대체
-                .onErrorResume(Throwable.class, e -> {
-                  log.warn("카테고리 {} 페이지 {} 호출 실패: {}", categoryCode, page, e.getMessage());
-                  return Mono.just(new KakaoPlaceResponse(null, List.of()));
-                })
-        )
-        // is_end=true 이면 그 페이지까지 수집 후 스트림 종료
-        .takeUntil(resp -> resp.getMeta() == null || resp.getMeta().isEnd())
-        // KaKaoResponse.documents 를 펼쳐서 Flux<KaKaoDocument> 로 반환
-        .flatMapIterable(KakaoPlaceResponse::getDocuments);
+        ))
+        .retryWhen(Retry.backoff(maxRetries, retryBackoff)
+            .filter(PlaceFetchService::isRetryable)
+            .doBeforeRetry(signal -> log.warn("카테고리 {} 페이지 {} 호출 재시도 ({}회): {}",
+                categoryCode, page, signal.totalRetries() + 1, signal.failure().getMessage()))
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+        .doOnError(e -> log.error("카테고리 {} 페이지 {} 호출 실패: {}", categoryCode, page, e.getMessage()));
+  }
+
+  private static boolean isRetryable(Throwable e) {
+    if (e instanceof WebClientResponseException responseException) {
+      HttpStatusCode status = responseException.getStatusCode();
+      return status.value() == 429 || status.is5xxServerError();
+    }
+    return e instanceof WebClientRequestException;
   }
 
   /**
@@ -105,26 +258,83 @@ public class PlaceFetchService {
    */
   public List<Place> buildPlaces(List<KakaoPlaceDocumentResponse> docs) {
     return docs.stream()
-        .map(doc -> Place.builder()
-            .kakaoPlaceId(doc.getId())
-            .addressName(doc.getAddressName())
-            .categoryGroupCode(doc.getCategoryGroupCode())
-            .phone(doc.getPhone())
-            .placeName(doc.getPlaceName())
-            .placeUrl(doc.getPlaceUrl())
-            .roadAddressName(doc.getRoadAddressName())
-            .x(doc.getX())
-            .y(doc.getY())
-            .distance(doc.getDistance())
-            .imageUrl(null)
-            .tags(new ArrayList<>())
-            .introText(null)
-            .likeCount(0L)
-            .viewCount(0L)
-            .categoryType(CategoryType.of(doc.getCategoryGroupCode()))
-            .build()
-        )
+        .map(this::buildPlace)
         .collect(Collectors.toList());
   }
 
+  public Place buildPlace(KakaoPlaceDocumentResponse doc) {
+    Place place = Place.builder()
+        .kakaoPlaceId(doc.getId())
+        .addressName(doc.getAddressName())
+        .categoryGroupCode(doc.getCategoryGroupCode())
+        .phone(doc.getPhone())
+        .placeName(CommonUtil.nvl(doc.getPlaceName(), ""))
+        .placeUrl(doc.getPlaceUrl())
+        .roadAddressName(doc.getRoadAddressName())
+        .x(doc.getX())
+        .y(doc.getY())
+        .location(toPoint(doc.getX(), doc.getY()))
+        .distance(doc.getDistance())
+        .imageUrl(null)
+        .tags(new ArrayList<>())
+        .introText(null)
+        .likeCount(0L)
+        .viewCount(0L)
+        .categoryType(CategoryType.of(doc.getCategoryGroupCode()))
+        .build();
+    place.setKakaoHash(PlaceHashUtil.kakaoHash(place));
+    return place;
+  }
+
+
+  /**
+   * 카카오 문자열 좌표 → PostGIS Point 변환 (파싱 불가 시 null)
+   */
+  private Point toPoint(String x, String y) {
+    try {
+      return GEOMETRY_FACTORY.createPoint(new Coordinate(Double.parseDouble(x), Double.parseDouble(y)));
+    } catch (NullPointerException | NumberFormatException e) {
+      log.warn("좌표 변환 실패: x={}, y={}", x, y);
+      return null;
+    }
+  }
+
+  /**
+   * 카카오 rect 조회용 경위도 사각형
+   */
+  private record Tile(double minX, double minY, double maxX, double maxY) {
+
+    private static final double METERS_PER_DEGREE = 111_320;
+
+    // 중심 (x, y) 반경 radius(m) 원을 감싸는 사각형
+    static Tile around(double x, double y, double radiusMeters) {
+      double dy = radiusMeters / METERS_PER_DEGREE;
+      double dx = radiusMeters / (METERS_PER_DEGREE * Math.cos(Math.toRadians(y)));
+      return new Tile(x - dx, y - dy, x + dx, y + dy);
+    }
+
+    List<Tile> split() {
+      double midX = (minX + maxX) / 2;
+      double midY = (minY + maxY) / 2;
+      return List.of(
+          new Tile(minX, minY, midX, midY),
+          new Tile(midX, minY, maxX, midY),
+          new Tile(minX, midY, midX, maxY),
+          new Tile(midX, midY, maxX, maxY)
+      );
+    }
+
+    // 원의 중심에서 사각형까지의 최단 거리가 반경 이하인지
+    boolean intersectsCircle(double x, double y, double radiusMeters) {
+      double nearestX = Math.max(minX, Math.min(x, maxX));
+      double nearestY = Math.max(minY, Math.min(y, maxY));
+      double dx = (nearestX - x) * METERS_PER_DEGREE * Math.cos(Math.toRadians(y));
+      double dy = (nearestY - y) * METERS_PER_DEGREE;
+      return dx * dx + dy * dy <= radiusMeters * radiusMeters;
+    }
+
+    String toRectParam() {
+      return minX + "," + minY + "," + maxX + "," + maxY;
+    }
+  }
 }
@@ -0,0 +1,112 @@
+package jombi.freemates.service;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import jombi.freemates.model.postgres.Place;
+import jombi.freemates.repository.PlaceRepository;
+import jombi.freemates.repository.PlaceUpsertRepository;
+import jombi.freemates.repository.PlaceUpsertRepository.UpsertResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 카카오 장소 스트리밍 동기화
+ * - 조회되는 대로 chunkSize 개씩 upsert 후 커밋 (전체 목록을 메모리에 모으지 않음)
+ * - 기존 장소는 placeId 를 유지하므로 즐겨찾기/코스 참조가 깨지지 않음
+ * - 카카오 필드 지문(kakaoHash)이 같은 장소는 다시 쓰지 않음
+ * - 조회가 끝까지 성공했을 때만, 이번 결과에 없던 장소를 은퇴(soft delete) 처리
+ */
+@Slf4j
+@Service
+public class PlaceIngestService {
+
+  private final PlaceFetchService placeFetchService;
+  private final PlaceUpsertRepository placeUpsertRepository;
+  private final PlaceRepository placeRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+
+  public PlaceIngestService(
+      PlaceFetchService placeFetchService,
+      PlaceUpsertRepository placeUpsertRepository,
+      PlaceRepository placeRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${freemates.kakao.ingest.chunk-size:500}") int chunkSize
+  ) {
+    this.placeFetchService = placeFetchService;
+    this.placeUpsertRepository = placeUpsertRepository;
+    this.placeRepository = placeRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * 카카오 조회 → 청크 upsert → 사라진 장소 은퇴
+   * 조회 중 오류가 나면 이미 커밋된 청크만 반영되고 은퇴 처리는 하지 않음
+   * @return 조회 / 추가·변경 / 변경 없음 / 은퇴 장소 수
+   */
+  public IngestResult ingest() {
+    long start = System.nanoTime();
+    // 이번 조회에 포함된 카카오 장소 ID (사라진 장소 판별용, 스트림 순서대로 하나씩 추가됨)
+    Set<String> seenKakaoPlaceIds = new HashSet<>();
+
+    UpsertResult upserted = placeFetchService.streamPlaces()
+        .map(placeFetchService::buildPlace)
+        .doOnNext(place -> seenKakaoPlaceIds.add(place.getKakaoPlaceId()))
+        .buffer(chunkSize)
+        // 청크는 순서대로 하나씩 커밋 (JDBC 블로킹 호출은 boundedElastic 에서)
+        .concatMap(chunk -> Mono.fromCallable(() -> upsertChunk(chunk))
+            .subscribeOn(Schedulers.boundedElastic()))
+        .reduce(new UpsertResult(0, 0),
+            (sum, chunk) -> new UpsertResult(sum.changed() + chunk.changed(), sum.unchanged() + chunk.unchanged()))
+        .block();
+    int fetched = seenKakaoPlaceIds.size();
+
+    // 빈 응답으로 전체 장소를 은퇴시키지 않도록 방어
+    if (fetched == 0) {
+      log.warn("카카오 장소 조회 결과가 비어 있어 은퇴 처리를 건너뜀");
+      return new IngestResult(0, 0, 0, 0);
+    }
+    int retired = retireMissing(seenKakaoPlaceIds);
+
+    IngestResult result = new IngestResult(fetched, upserted.changed(), upserted.unchanged(), retired);
+    log.info("카카오 장소 동기화 완료: {}, {}ms", result, (System.nanoTime() - start) / 1_000_000);
+    return result;
+  }
+
+  private UpsertResult upsertChunk(List<Place> chunk) {
+    UpsertResult result = transactionTemplate.execute(
+        status -> placeUpsertRepository.upsertAll(chunk, LocalDateTime.now()));
+    log.debug("장소 청크 upsert 커밋: {}개 중 변경 {}개, 변경 없음 {}개",
+        chunk.size(), result.changed(), result.unchanged());
+    return result;
+  }
+
+  // 활성 장소 중 이번 조회에 없던 장소만 은퇴 처리 (IN 절이 너무 길어지지 않도록 chunkSize 단위)
+  private int retireMissing(Set<String> seenKakaoPlaceIds) {
+    List<String> missing = placeRepository.findActiveKakaoPlaceIds().stream()
+        .filter(kakaoPlaceId -> !seenKakaoPlaceIds.contains(kakaoPlaceId))
+        .toList();
+    LocalDateTime now = LocalDateTime.now();
+    int retired = 0;
+    for (int from = 0; from < missing.size(); from += chunkSize) {
+      List<String> chunk = missing.subList(from, Math.min(from + chunkSize, missing.size()));
+      Integer count = transactionTemplate.execute(status -> placeRepository.retireByKakaoPlaceIds(chunk, now));
+      retired += count == null ? 0 : count;
+    }
+    return retired;
+  }
+
+  /**
+   * 동기화 결과 집계 (skipped: upsert 가 no-op 으로 보고한, 카카오 지문이 같아 다시 쓰지 않은 행 수)
+   */
+  public record IngestResult(int fetched, int changed, int skipped, int retired) {
+  }
+}
@@ -3,102 +3,98 @@ package jombi.freemates.service;
 
 import static java.util.stream.Collectors.toList;
 
-import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 import jombi.freemates.model.constant.CategoryType;
-import jombi.freemates.model.dto.KakaoPlaceCrawlDetail;
+import jombi.freemates.model.dto.CursorSlice;
 import jombi.freemates.model.dto.PlaceDto;
 import jombi.freemates.model.postgres.Place;
 import jombi.freemates.repository.PlaceRepository;
-import jombi.freemates.service.crawler.KakaoCrawler;
+import jombi.freemates.service.PlaceIngestService.IngestResult;
+import jombi.freemates.service.crawler.PlaceCrawlService;
+import jombi.freemates.service.crawler.PlaceCrawlService.CrawlResult;
+import jombi.freemates.service.index.PlaceCounters;
+import jombi.freemates.service.index.PlaceGridIndex;
+import jombi.freemates.service.index.PlaceKdTree;
+import jombi.freemates.service.index.PlaceSnapshotEvent;
+import jombi.freemates.util.CursorUtil;
+import jombi.freemates.util.CursorUtil.Cursor;
+import jombi.freemates.util.GeoUtil;
 import jombi.freemates.util.exception.CustomException;
 import jombi.freemates.util.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import jombi.freemates.model.dto.KakaoPlaceDocumentResponse;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PlaceService {
   private final PlaceRepository placeRepository;
-  private final KakaoCrawler kakaoCrawler;
-  private final PlaceFetchService placeFetchService;
+  private final PlaceCrawlService placeCrawlService;
+  private final PlaceIngestService placeIngestService;
+  private final PlaceGridIndex placeGridIndex;
+  private final PlaceKdTree placeKdTree;
+  private final PlaceCounters placeCounters;
+  private final ApplicationEventPublisher eventPublisher;
+
+  // 좌표 조회 허용 오차 (0.0001은 약 11m 정도의 거리)
+  private static final double GEOCODE_TOLERANCE = 0.0001;
+
+  // 근처 장소 조회 기본값 / 상한
+  private static final double DEFAULT_NEARBY_RADIUS = 1000;
+  private static final double MAX_NEARBY_RADIUS = 20000;
+  private static final int DEFAULT_NEARBY_LIMIT = 20;
+  private static final int MAX_NEARBY_LIMIT = 100;
 
   /**
-   * 실제 DB 동기화: 삭제 여부만 갈라서, fetch→저장은 한 번에!
+   * 실제 DB 동기화: 카카오 조회 결과를 스트리밍 upsert 후 크롤링, 바뀐 장소가 있을 때만 인덱스 재빌드
+   * (청크 단위로 커밋하므로 트랜잭션으로 감싸지 않음)
    */
-  @Transactional
-  public void refreshPlaces(boolean deleteFirst) {
-    if (deleteFirst) {
-      placeRepository.deleteAll();
-      log.info("기존 장소 전부 삭제");
+  public void refreshPlaces() {
+    IngestResult ingested = placeIngestService.ingest();
+    CrawlResult crawled = placeCrawlService.crawlStalePlaces();
+
+    // 동기화(추가·변경·은퇴) 또는 크롤링으로 바뀐 장소가 있을 때만 인덱스 재빌드
+    if (ingested.changed() > 0 || ingested.retired() > 0 || crawled.changed() > 0) {
+      rebuildPlaceIndexes();
+    } else {
+      log.info("동기화 / 크롤링으로 바뀐 장소가 없어 인덱스 재빌드를 건너뜀");
     }
-
-    List<KakaoPlaceDocumentResponse> docs = placeFetchService.fetchPlaces()
-        .timeout(Duration.ofMinutes(2))
-        .block();  // 블로킹은 한 번만!
-
-    List<Place> places = placeFetchService.buildPlaces(docs);
-    log.info("총 {}개 장소 저장 시작", places.size());
-    try {
-      placeRepository.saveAll(places);
-      log.info("장소 데이터 저장 완료");
-    } catch (Exception e) {
-      log.error("장소 데이터 저장 중 오류 발생: {}", e.getMessage(), e);
-      throw e;
-    }
-
-      addKakaoCrawlInfo();
-
   }
 
   /**
-   * 앱 구동 시, DB가 비어 있으면 한 번만 비동기 실행
+   * DB 전체 장소 스냅샷을 발행해 인메모리 인덱스 / 검색 엔진 재빌드
+   * (트랜잭션 안에서 호출되면 커밋 이후에 반영)
    */
-  @Async("applicationTaskExecutor")
-  public void refreshPlacesIfEmpty() {
-    if (placeRepository.count() == 0) {
-      refreshPlaces(false);
-    }
+  @Transactional(readOnly = true)
+  public void rebuildPlaceIndexes() {
+    List<PlaceDto> snapshot = placeRepository.findAllWithTags().stream()
+        .map(this::convertToPlaceDto)
+        .collect(Collectors.toList());
+    eventPublisher.publishEvent(new PlaceSnapshotEvent(snapshot));
   }
 
   /**
-   * 관리자 호출용: 무조건 삭제 후 다시 저장
+   * 카카오 크롤링 (증분)
+   * 크롤링 상태 기준으로 새 장소 / 오래된 장소 / 실패 장소만 청크 단위로 크롤링·커밋
+   * @return 크롤링 결과 (changed 가 0 이면 인덱스 재빌드 생략)
    */
-  public void deleteAllAndRefresh() {
-    refreshPlaces(true);
-  }
-
-
-  /**
-   * 카카오 크롤링 동기처리
-   */
-
-  @Transactional
-  public void addKakaoCrawlInfo(){
-    List<Place> places = placeRepository.findAll();
-    for (Place place : places) {
-      try {
-        // 카카오 크롤링
-
-        KakaoPlaceCrawlDetail kakaoPlaceCrawlDetail = kakaoCrawler.crawlByPlaceId(place.getKakaoPlaceId());
-        // Place 엔티티에 정보 업데이트
-        place.setImageUrl(kakaoPlaceCrawlDetail.getImageUrl());
-        place.setTags(kakaoPlaceCrawlDetail.getTags());
-        place.setIntroText(kakaoPlaceCrawlDetail.getIntroText());
-        placeRepository.save(place);
-        log.debug("이미지 저장된 거 {} 카카오에서 크롤링한거{}", place.getImageUrl(), kakaoPlaceCrawlDetail.getImageUrl());
-      } catch (Exception e) {
-        log.error("카카오 크롤링 중 오류 발생: {}", e.getMessage(), e);
-      }
+  public CrawlResult addKakaoCrawlInfo(){
+    CrawlResult result = placeCrawlService.crawlStalePlaces();
+
+    // 크롤링 정보(이미지, 소개, 태그)가 실제로 바뀐 장소가 있을 때만 인덱스에 반영
+    if (result.changed() > 0) {
+      rebuildPlaceIndexes();
+    } else {
+      log.info("크롤링으로 바뀐 장소가 없어 인덱스 재빌드를 건너뜀");
     }
+    return result;
   }
 
   /**
@@ -107,14 +103,37 @@ public class PlaceService {
   @Transactional(readOnly = true)
   public Page<PlaceDto> getPlacesByCategory(CategoryType category, Pageable pageable) {
     // category가 null이면 전체 조회, 아니면 카테고리별 조회
-    Page<Place> placePage = (category == null)
-        ? placeRepository.findAll(pageable)
-        : placeRepository.findByCategoryType(category, pageable);
+    Page<Place> placePage = placeRepository.findActiveByCategory(category, pageable);
 
     // Place → PlaceDto 변환
     return placePage.map(this::convertToPlaceDto);
   }
 
+  /**
+   * 카테고리별 장소 커서 조회 (placeName, placeId 오름차순)
+   * OFFSET/count 없이 커서 이후 size 개만 조회
+   */
+  @Transactional(readOnly = true)
+  public CursorSlice<PlaceDto> getPlacesByCategoryCursor(CategoryType category, String cursor, int size) {
+    int pageSize = CursorUtil.clampSize(size);
+    Limit limit = Limit.of(pageSize + 1);
+
+    List<Place> places;
+    if (cursor == null || cursor.isBlank()) {
+      places = placeRepository.findFirstByCursor(category, limit);
+    } else {
+      Cursor decoded = CursorUtil.decode(cursor);
+      places = placeRepository.findAfterCursor(category, decoded.sortKey(), decoded.id(), limit);
+    }
+
+    return CursorUtil.toSlice(
+        places,
+        pageSize,
+        place -> CursorUtil.encode(place.getPlaceName(), place.getPlaceId()),
+        this::convertToPlaceDto
+    );
+  }
+
   /**
    * 좌표에 따른 장소 조회
    */
@@ -129,12 +148,21 @@ public class PlaceService {
       throw new CustomException(ErrorCode.INVALID_REQUEST);
     }
 
-    // ±0.0001(= tolerance) 범위를 오차로 설정
-    double tolerance = 0.0001; // 0.0001은 약 11m 정도의 거리
-    double xMin = xInput - tolerance;
-    double xMax = xInput + tolerance;
-    double yMin = yInput - tolerance;
-    double yMax = yInput + tolerance;
+    // 인덱스가 준비되어 있으면 메모리에서 바로 조회
+    if (placeGridIndex.isReady()) {
+      List<PlaceDto> indexed = placeCounters.apply(placeGridIndex.findWithin(xInput, yInput, GEOCODE_TOLERANCE));
+      if (indexed.isEmpty()) {
+        throw new CustomException(ErrorCode.PLACE_NOT_FOUND);
+      }
+      return indexed;
+    }
+
+    // 인덱스가 비어 있으면(cold) DB 조회로 대체
+    // ±GEOCODE_TOLERANCE 범위를 오차로 설정
+    double xMin = xInput - GEOCODE_TOLERANCE;
+    double xMax = xInput + GEOCODE_TOLERANCE;
+    double yMin = yInput - GEOCODE_TOLERANCE;
+    double yMax = yInput + GEOCODE_TOLERANCE;
 
     // 네이티브 쿼리로 DB에서 범위 내의 장소만 한 번에 조회
     List<Place> matched = placeRepository.findByCoordinateRange(xMin, xMax, yMin, yMax);
@@ -150,6 +178,54 @@ public class PlaceService {
         .collect(Collectors.toList());
   }
 
+  /**
+   * 반경 내 가까운 장소 조회 (거리순)
+   * 반환 PlaceDto 의 distance 는 요청 좌표로부터의 거리(m)
+   */
+  @Transactional(readOnly = true)
+  public List<PlaceDto> getNearbyPlaces(String xStr, String yStr, Double radius, Integer limit,
+      CategoryType category) {
+    double xInput;
+    double yInput;
+    try {
+      xInput = Double.parseDouble(xStr);
+      yInput = Double.parseDouble(yStr);
+    } catch (NumberFormatException e) {
+      throw new CustomException(ErrorCode.INVALID_REQUEST);
+    }
+
+    double radiusMeters = radius == null ? DEFAULT_NEARBY_RADIUS : radius;
+    int maxCount = limit == null ? DEFAULT_NEARBY_LIMIT : limit;
+    if (radiusMeters <= 0 || radiusMeters > MAX_NEARBY_RADIUS || maxCount <= 0 || maxCount > MAX_NEARBY_LIMIT) {
+      throw new CustomException(ErrorCode.INVALID_REQUEST);
+    }
+
+    // 인덱스가 준비되어 있으면 KD-tree 로 메모리에서 조회
+    if (placeKdTree.isReady()) {
+      return placeKdTree.nearest(xInput, yInput, radiusMeters, maxCount, category).stream()
+          .map(n -> withDistance(placeCounters.apply(n.place()), n.distanceMeters()))
+          .collect(Collectors.toList());
+    }
+
+    // 인덱스가 비어 있으면(cold) PostGIS 반경 조회로 대체 (카테고리/개수 제한도 DB 에서)
+    return placeRepository.findWithinRadius(xInput, yInput, radiusMeters,
+            category == null ? null : category.name(), maxCount).stream()
+        .map(this::convertToPlaceDto)
+        .map(dto -> withDistance(dto, distanceMeters(xInput, yInput, dto)))
+        .collect(Collectors.toList());
+  }
+
+  private PlaceDto withDistance(PlaceDto dto, double meters) {
+    return dto.toBuilder()
+        .distance(String.valueOf(Math.round(meters)))
+        .build();
+  }
+
+  // 하버사인 거리(m) - KD-tree 와 같은 구면 기준
+  private double distanceMeters(double x, double y, PlaceDto dto) {
+    return GeoUtil.haversineMeters(x, y, Double.parseDouble(dto.getX()), Double.parseDouble(dto.getY()));
+  }
+
   /**
    * Place → PlaceDto 변환 로직을 한곳에 모아 둔 메서드
    */
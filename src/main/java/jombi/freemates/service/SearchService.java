@@ -1,17 +1,17 @@
 package jombi.freemates.service;
 
 
-import java.util.stream.Collectors;
 import jombi.freemates.model.constant.SearchType;
+import java.util.List;
 import jombi.freemates.model.dto.PlaceDto;
-import jombi.freemates.model.postgres.Place;
-import jombi.freemates.repository.PlaceRepository;
+import jombi.freemates.service.index.PlaceCounters;
+import jombi.freemates.service.index.PlaceSuggestIndex;
+import jombi.freemates.service.search.PlaceSearchEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,8 +19,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 public class SearchService {
-  private final PlaceRepository placeRepository;
   private final PlaceService placeService;
+  private final PlaceSearchEngine placeSearchEngine;
+  private final PlaceSuggestIndex placeSuggestIndex;
+  private final PlaceCounters placeCounters;
 
   @Transactional(readOnly = true)
   public Page<PlaceDto> searchPlaces(
@@ -41,31 +43,33 @@ public class SearchService {
       searchType = SearchType.defaultType();
     }
 
-    // 검색 시 페이징 + 정렬 설정
-    Pageable pageable = PageRequest.of(page, size, Sort.by("placeName").ascending());
-    Page<Place> placePage;
+    // 설정된 검색 엔진(jpa / embedded / elasticsearch)으로 위임
+    return placeSearchEngine.search(searchType, keyword, PageRequest.of(page, size));
+  }
+
+  /**
+   * 검색어 자동완성
+   * 장소 이름/태그가 검색어로 시작하는 장소를 인기순(좋아요, 조회수)으로 반환
+   * 초성("ㅅㅌㅂㅅ")이나 입력 중인 음절("스탑")도 일치
+   */
+  @Transactional(readOnly = true)
+  public List<PlaceDto> suggestPlaces(String keyword, int limit) {
+    if (keyword == null || keyword.isBlank()) {
+      return List.of();
+    }
+    int size = Math.max(1, Math.min(limit, PlaceSuggestIndex.MAX_SUGGEST));
 
-    switch (searchType) {
-      case NAME:
-        placePage = placeRepository.searchByName(keyword, pageable);
-        break;
-      case INTRO:
-        placePage = placeRepository.searchByIntro(keyword, pageable);
-        break;
-      case TAG:
-        placePage = placeRepository.searchByTag(keyword, pageable);
-        break;
-      case ALL:
-      default:
-        placePage = placeRepository.searchAllFields(keyword, pageable);
-        break;
+    if (placeSuggestIndex.isReady()) {
+      // 트라이의 인기순은 빌드 시점 기준이므로 후보를 넉넉히 뽑아 인메모리 최신 카운트로 다시 정렬
+      List<PlaceDto> candidates = placeCounters.apply(
+          placeSuggestIndex.suggest(keyword, PlaceSuggestIndex.CANDIDATES));
+      return PlaceSuggestIndex.rank(candidates, size);
     }
 
-    // Place → PlaceDto로 변환
-    return placePage
-        .map(placeService::convertToPlaceDto);
+    // 트라이가 아직 빌드되지 않았으면 이름 검색으로 대체
+    log.debug("자동완성 트라이 미준비, 이름 검색으로 대체: keyword={}", keyword);
+    return placeSearchEngine.search(SearchType.NAME, keyword, PageRequest.of(0, size)).getContent();
   }
 
 
 }
-
@@ -0,0 +1,100 @@
+package jombi.freemates.service.auth;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import jombi.freemates.model.constant.JwtTokenType;
+import jombi.freemates.model.constant.RefreshTokenRotation;
+import jombi.freemates.model.postgres.Member;
+import jombi.freemates.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DB 리프레시 토큰 저장소
+ * Redis 가 없는 환경(freemates.auth.refresh-token-store=jpa)의 대체 경로
+ * - 회원 + 기기당 1행 (유니크 제약), 교체는 조건부 UPDATE 로 원자적으로 처리
+ * - 재사용 탐지는 직전에 교체된 토큰 1개까지만 확인, 교체 후 유예 시간 안이면 동시 재발급으로 보고 폐기하지 않음
+ * - 만료된 행은 주기적으로 정리 (Redis 모드에서도 이전 방식으로 저장된 행 정리용으로 실행)
+ */
+@Slf4j
+@Service
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final long graceSeconds;
+
+  public JpaRefreshTokenStore(
+      RefreshTokenRepository refreshTokenRepository,
+      @Value("${freemates.auth.refresh-token-grace-seconds:10}") long graceSeconds
+  ) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.graceSeconds = graceSeconds;
+  }
+
+  /**
+   * 기존 행이 있으면 덮어쓰고, 없으면 삽입
+   * 같은 기기로 동시에 로그인해 삽입이 충돌하면 먼저 삽입된 행을 덮어씀 (마지막 로그인의 토큰이 남음)
+   */
+  @Override
+  @Transactional
+  public void save(Member member, String deviceId, String tokenHash) {
+    UUID memberId = member.getMemberId();
+    LocalDateTime expiresAt = expiresAt(LocalDateTime.now());
+    if (refreshTokenRepository.replaceToken(memberId, deviceId, tokenHash, expiresAt) == 1) {
+      return;
+    }
+    if (refreshTokenRepository.insertIfAbsent(UUID.randomUUID(), memberId, deviceId, tokenHash, expiresAt) == 0) {
+      refreshTokenRepository.replaceToken(memberId, deviceId, tokenHash, expiresAt);
+    }
+  }
+
+  /**
+   * 재사용 탐지로 폐기한 결과는 호출한 쪽이 예외로 롤백되더라도 유지되도록 별도 트랜잭션으로 커밋
+   */
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public RefreshTokenRotation rotate(UUID memberId, String deviceId, String presentedHash, String newHash) {
+    LocalDateTime now = LocalDateTime.now();
+    if (refreshTokenRepository.rotate(memberId, deviceId, presentedHash, newHash, expiresAt(now), now) == 1) {
+      return RefreshTokenRotation.ROTATED;
+    }
+    if (refreshTokenRepository.existsByMember_MemberIdAndDeviceIdAndPreviousTokenHashAndPreviousRotatedAtAfter(
+        memberId, deviceId, presentedHash, now.minusSeconds(graceSeconds))) {
+      return RefreshTokenRotation.CONCURRENT;
+    }
+    if (refreshTokenRepository.existsByMember_MemberIdAndDeviceIdAndPreviousTokenHash(memberId, deviceId, presentedHash)) {
+      refreshTokenRepository.deleteByMemberIdAndDeviceId(memberId, deviceId);
+      return RefreshTokenRotation.REUSED;
+    }
+    return RefreshTokenRotation.NOT_FOUND;
+  }
+
+  @Override
+  @Transactional
+  public void revokeAll(UUID memberId) {
+    int deleted = refreshTokenRepository.deleteByMemberId(memberId);
+    log.debug("회원 리프레시 토큰 폐기: memberId={}, {}개", memberId, deleted);
+  }
+
+  @Scheduled(
+      fixedDelayString = "${freemates.auth.refresh-token-purge-minutes:60}",
+      initialDelayString = "${freemates.auth.refresh-token-purge-minutes:60}",
+      timeUnit = TimeUnit.MINUTES
+  )
+  @Transactional
+  public void purgeExpired() {
+    int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    if (deleted > 0) {
+      log.info("만료된 리프레시 토큰 {}개 정리", deleted);
+    }
+  }
+
+  private static LocalDateTime expiresAt(LocalDateTime now) {
+    return now.plusNanos(JwtTokenType.REFRESH.getDurationMilliseconds() * 1_000_000L);
+  }
+}
@@ -0,0 +1,29 @@
+package jombi.freemates.service.auth;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jombi.freemates.model.postgres.Member;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 회원 엔티티가 수정(비밀번호/권한 변경, 소프트 딜리트)되거나 삭제되면 인증 정보 캐시 무효화
+ * Hibernate 가 스프링 빈 컨테이너로 생성하므로 PrincipalCache 주입 가능 (JPA 슬라이스 테스트 등에서는 주입되지 않음)
+ */
+public class MemberPrincipalEvictionListener {
+
+  @Autowired
+  private ObjectProvider<PrincipalCache> principalCacheProvider;
+
+  @PostUpdate
+  @PostRemove
+  public void evict(Member member) {
+    if (principalCacheProvider == null) {
+      return;
+    }
+    PrincipalCache principalCache = principalCacheProvider.getIfAvailable();
+    if (principalCache != null) {
+      principalCache.evict(member.getUsername());
+    }
+  }
+}
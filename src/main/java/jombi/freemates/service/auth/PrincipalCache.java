@@ -0,0 +1,180 @@
+package jombi.freemates.service.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import jombi.freemates.model.constant.JwtTokenType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JWT 인증 필터용 회원 인증 정보(UserDetails) 캐시
+ * - username 기준, 최대 maxSize 개 (가장 오래 사용하지 않은 항목부터 제거)
+ * - TTL 은 설정값과 액세스 토큰 유효 시간 중 짧은 쪽
+ * - 탈퇴/비밀번호/권한 변경 시 evict, broadcast 모드에서는 Redis 채널로 다른 서버에도 무효화 전파
+ */
+@Slf4j
+@Component
+public class PrincipalCache implements MessageListener {
+
+  // 다른 서버로 무효화를 전파하는 Redis 채널
+  public static final String EVICT_CHANNEL = "freemates:principal-evict";
+
+  private final long ttlNanos;
+  private final int maxSize;
+  private final boolean broadcast;
+  private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+  private final Map<String, CachedPrincipal> cache;
+  // 불러오는 중인 username → 표식 (cache 락으로 보호)
+  private final Map<String, Object> loading = new HashMap<>();
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  public PrincipalCache(
+      @Value("${freemates.auth.principal-cache.ttl-seconds:300}") long ttlSeconds,
+      @Value("${freemates.auth.principal-cache.max-size:10000}") int maxSize,
+      @Value("${freemates.auth.broadcast:false}") boolean broadcast,
+      ObjectProvider<StringRedisTemplate> redisTemplateProvider
+  ) {
+    Duration accessTokenLifetime = Duration.ofMillis(JwtTokenType.ACCESS.getDurationMilliseconds());
+    Duration ttl = Duration.ofSeconds(ttlSeconds);
+    this.ttlNanos = (ttl.compareTo(accessTokenLifetime) > 0 ? accessTokenLifetime : ttl).toNanos();
+    this.maxSize = maxSize;
+    this.broadcast = broadcast;
+    this.redisTemplateProvider = redisTemplateProvider;
+    // accessOrder=true: 조회할 때마다 맨 뒤로 이동 → 맨 앞이 가장 오래 사용하지 않은 항목
+    this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CachedPrincipal> eldest) {
+        return size() > PrincipalCache.this.maxSize;
+      }
+    };
+  }
+
+  /**
+   * 캐시된 인증 정보 반환, 없거나 만료되었으면 loader(DB 조회)로 불러와 캐시
+   * loader 가 예외를 던지면 캐시하지 않고 그대로 전달
+   */
+  public <T> T get(String username, Function<String, T> loader) {
+    long now = System.nanoTime();
+    synchronized (cache) {
+      CachedPrincipal cached = cache.get(username);
+      if (cached != null && now - cached.expiresAtNanos() < 0) {
+        hits.incrementAndGet();
+        @SuppressWarnings("unchecked")
+        T principal = (T) cached.principal();
+        return principal;
+      }
+    }
+
+    misses.incrementAndGet();
+    // 불러오는 동안 evict 되면 옛 정보를 다시 캐시하지 않도록 표식을 남김 (evict 시 표식 제거)
+    Object ticket = new Object();
+    synchronized (cache) {
+      loading.put(username, ticket);
+    }
+    T principal = null;
+    try {
+      principal = loader.apply(username);
+    } finally {
+      synchronized (cache) {
+        if (loading.remove(username, ticket) && principal != null) {
+          cache.put(username, new CachedPrincipal(principal, now + ttlNanos));
+        }
+      }
+    }
+    return principal;
+  }
+
+  /**
+   * 회원 정보 변경 시 캐시 무효화
+   * 트랜잭션 안이면 즉시 + 커밋 후 한 번 더 제거 (커밋 전에 다른 요청이 옛 정보로 다시 캐시하는 것 방지)
+   */
+  public void evict(String username) {
+    if (username == null) {
+      return;
+    }
+    evictLocal(username);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evictLocal(username);
+          publish(username);
+        }
+      });
+    } else {
+      publish(username);
+    }
+  }
+
+  /**
+   * 이 서버의 캐시에서만 제거
+   */
+  public void evictLocal(String username) {
+    synchronized (cache) {
+      cache.remove(username);
+      loading.remove(username);
+    }
+  }
+
+  /**
+   * 다른 서버에서 보낸 무효화 메시지 수신
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String username = new String(message.getBody(), StandardCharsets.UTF_8);
+    evictLocal(username);
+    log.debug("다른 서버의 요청으로 인증 정보 캐시 제거: {}", username);
+  }
+
+  public boolean isBroadcast() {
+    return broadcast;
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  public int size() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  private void publish(String username) {
+    if (!broadcast) {
+      return;
+    }
+    StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+    if (redisTemplate == null) {
+      return;
+    }
+    try {
+      redisTemplate.convertAndSend(EVICT_CHANNEL, username);
+    } catch (Exception e) {
+      // Redis 장애 시에도 다른 서버 캐시는 TTL 이 지나면 만료됨
+      log.warn("인증 정보 캐시 무효화 전파 실패: {}, {}", username, e.getMessage());
+    }
+  }
+
+  private record CachedPrincipal(Object principal, long expiresAtNanos) {
+  }
+}
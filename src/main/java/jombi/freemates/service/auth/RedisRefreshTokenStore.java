@@ -0,0 +1,97 @@
+package jombi.freemates.service.auth;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import jombi.freemates.model.constant.JwtTokenType;
+import jombi.freemates.model.constant.RefreshTokenRotation;
+import jombi.freemates.model.postgres.Member;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis 리프레시 토큰 저장소 (freemates.auth.refresh-token-store=redis, 기본값)
+ * - refresh:{memberId}:{deviceId} 해시: cur = 현재 토큰 해시, prev = 직전 토큰 해시 (재사용 탐지용), rotated_at = 교체 시각
+ * - refresh:devices:{memberId} 정렬 집합: 탈퇴 시 폐기할 기기 목록 (점수 = 기기 토큰 만료 시각, 로그인/재발급 시 만료된 기기 정리)
+ * - 두 키 모두 TTL = 리프레시 토큰 유효 시간 (재발급 시 연장), 교체/재사용 판단은 Lua 스크립트로 원자적으로 처리
+ * - 교체 직후 유예 시간 안에 직전 토큰이 다시 오면 동시 재발급으로 보고 폐기하지 않음 (CONCURRENT)
+ */
+@Slf4j
+@Primary
+@Service
+@ConditionalOnProperty(name = "freemates.auth.refresh-token-store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+  private static final String KEY_PREFIX = "refresh:";
+  private static final String DEVICES_KEY_PREFIX = "refresh:devices:";
+
+  private static final RedisScript<Long> SAVE_SCRIPT =
+      RedisScript.of(new ClassPathResource("redis/save-refresh-token.lua"), Long.class);
+  private static final RedisScript<Long> ROTATE_SCRIPT =
+      RedisScript.of(new ClassPathResource("redis/rotate-refresh-token.lua"), Long.class);
+
+  private static final long TTL_MILLIS = JwtTokenType.REFRESH.getDurationMilliseconds();
+
+  private final StringRedisTemplate redisTemplate;
+  private final String graceMillis;
+
+  public RedisRefreshTokenStore(
+      StringRedisTemplate redisTemplate,
+      @Value("${freemates.auth.refresh-token-grace-seconds:10}") long graceSeconds
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.graceMillis = String.valueOf(graceSeconds * 1000);
+  }
+
+  @Override
+  public void save(Member member, String deviceId, String tokenHash) {
+    UUID memberId = member.getMemberId();
+    long now = System.currentTimeMillis();
+    redisTemplate.execute(SAVE_SCRIPT, keys(memberId, deviceId),
+        tokenHash, String.valueOf(TTL_MILLIS), deviceId, String.valueOf(now), String.valueOf(now + TTL_MILLIS));
+  }
+
+  @Override
+  public RefreshTokenRotation rotate(UUID memberId, String deviceId, String presentedHash, String newHash) {
+    long now = System.currentTimeMillis();
+    Long result = redisTemplate.execute(ROTATE_SCRIPT, keys(memberId, deviceId),
+        presentedHash, newHash, String.valueOf(TTL_MILLIS), deviceId,
+        String.valueOf(now), String.valueOf(now + TTL_MILLIS), graceMillis);
+    if (result == null || result == 0L) {
+      return RefreshTokenRotation.NOT_FOUND;
+    }
+    if (result == 1L) {
+      return RefreshTokenRotation.ROTATED;
+    }
+    return result == 3L ? RefreshTokenRotation.CONCURRENT : RefreshTokenRotation.REUSED;
+  }
+
+  @Override
+  public void revokeAll(UUID memberId) {
+    String devicesKey = DEVICES_KEY_PREFIX + memberId;
+    Set<String> deviceIds = redisTemplate.opsForZSet().range(devicesKey, 0, -1);
+    List<String> keys = new ArrayList<>();
+    keys.add(devicesKey);
+    if (deviceIds != null) {
+      deviceIds.forEach(deviceId -> keys.add(tokenKey(memberId, deviceId)));
+    }
+    redisTemplate.delete(keys);
+    log.debug("회원 리프레시 토큰 폐기: memberId={}, 기기 {}개", memberId, keys.size() - 1);
+  }
+
+  private static List<String> keys(UUID memberId, String deviceId) {
+    return List.of(tokenKey(memberId, deviceId), DEVICES_KEY_PREFIX + memberId);
+  }
+
+  private static String tokenKey(UUID memberId, String deviceId) {
+    return KEY_PREFIX + memberId + ":" + deviceId;
+  }
+}
@@ -0,0 +1,29 @@
+package jombi.freemates.service.auth;
+
+import java.util.UUID;
+import jombi.freemates.model.constant.RefreshTokenRotation;
+import jombi.freemates.model.postgres.Member;
+
+/**
+ * 리프레시 토큰 저장소 (회원 + 기기 단위, 토큰 원문이 아닌 해시만 저장)
+ * freemates.auth.refresh-token-store 설정으로 구현체 선택 (redis 기본, jpa)
+ */
+public interface RefreshTokenStore {
+
+  /**
+   * 로그인: 해당 기기의 토큰을 새 토큰으로 교체 (이전 교체 이력은 삭제)
+   */
+  void save(Member member, String deviceId, String tokenHash);
+
+  /**
+   * 재발급: 제시된 토큰이 현재 토큰이면 새 토큰으로 원자적으로 교체
+   * 직전 토큰이 교체 후 유예 시간 안에 다시 오면 CONCURRENT (동시 재발급, 토큰 유지)
+   * 유예 시간이 지난 직전 토큰이면 REUSED 를 반환하고 해당 기기의 토큰을 폐기
+   */
+  RefreshTokenRotation rotate(UUID memberId, String deviceId, String presentedHash, String newHash);
+
+  /**
+   * 회원의 모든 기기 토큰 폐기 (탈퇴 시)
+   */
+  void revokeAll(UUID memberId);
+}
@@ -0,0 +1,220 @@
+package jombi.freemates.service.auth;
+
+import io.jsonwebtoken.Claims;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import jombi.freemates.model.constant.JwtTokenType;
+import jombi.freemates.util.JwtUtil;
+import jombi.freemates.util.TokenHashUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증된 액세스 토큰 캐시
+ * - 같은 토큰으로 반복 요청하면 만료 전까지 HMAC 서명 검증을 생략
+ * - 키는 원본 토큰이 아닌 SHA-256 해시, 최대 maxSize 개 (가장 오래 사용하지 않은 항목부터 제거)
+ * - 회원 탈퇴 시 revoke(username): 그 시각 이전에 발급된 해당 회원의 토큰은 캐시 여부와 관계없이 거부
+ * - 토큰 재발급 시 revoke(username, deviceId, 기준 시각): 해당 기기에서 기준 시각 이전에 발급된 토큰만 거부
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache implements MessageListener {
+
+  // 다른 서버로 토큰 폐기를 전파하는 Redis 채널 (메시지: "폐기시각(ms):폐기 키")
+  public static final String REVOKE_CHANNEL = "freemates:token-revoke";
+
+  // 폐기 기록은 액세스 토큰 유효 시간이 지나면 의미가 없으므로 정리
+  private static final long REVOCATION_RETENTION_MILLIS = JwtTokenType.ACCESS.getDurationMilliseconds();
+
+  // 기기 단위 폐기 키 구분자 (폐기 키: username 또는 username + 구분자 + deviceId)
+  private static final char DEVICE_SEPARATOR = '\n';
+
+  private final int maxSize;
+  private final boolean broadcast;
+  private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+  private final Map<String, VerifiedToken> cache;
+  // 폐기 키 → 폐기 기준 시각(ms)
+  private final Map<String, Long> revokedAt = new ConcurrentHashMap<>();
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  public VerifiedTokenCache(
+      @Value("${freemates.auth.token-cache.max-size:10000}") int maxSize,
+      @Value("${freemates.auth.broadcast:false}") boolean broadcast,
+      ObjectProvider<StringRedisTemplate> redisTemplateProvider
+  ) {
+    this.maxSize = maxSize;
+    this.broadcast = broadcast;
+    this.redisTemplateProvider = redisTemplateProvider;
+    // accessOrder=true: 조회할 때마다 맨 뒤로 이동 → 맨 앞이 가장 오래 사용하지 않은 항목
+    this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+        return size() > VerifiedTokenCache.this.maxSize;
+      }
+    };
+  }
+
+  /**
+   * 캐시된 검증 결과 반환, 없으면 verifier(서명 검증)로 검증 후 캐시
+   * 만료되었거나 폐기된 토큰이면 Optional.empty()
+   */
+  public Optional<VerifiedToken> verify(String token, Function<String, Optional<Claims>> verifier) {
+    String key = TokenHashUtil.sha256(token);
+    long now = System.currentTimeMillis();
+
+    VerifiedToken cached;
+    synchronized (cache) {
+      cached = cache.get(key);
+      if (cached != null && (cached.expiresAtMillis() <= now || isRevoked(cached))) {
+        cache.remove(key);
+        cached = null;
+      }
+    }
+    if (cached != null) {
+      hits.incrementAndGet();
+      return Optional.of(cached);
+    }
+
+    misses.incrementAndGet();
+    Optional<VerifiedToken> verified = verifier.apply(token).map(VerifiedToken::from);
+    if (verified.isEmpty()) {
+      return Optional.empty();
+    }
+    if (isRevoked(verified.get())) {
+      log.debug("폐기된 토큰으로 요청: {}", verified.get().username());
+      return Optional.empty();
+    }
+    synchronized (cache) {
+      cache.put(key, verified.get());
+    }
+    return verified;
+  }
+
+  /**
+   * 회원의 현재 시각 이전 발급 토큰을 모든 기기에서 폐기 (탈퇴 시)
+   */
+  public void revoke(String username) {
+    if (username == null) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    revokeLocal(username, now);
+    publish(now + ":" + username);
+  }
+
+  /**
+   * 한 기기에서 revokedBeforeMillis 이전에 발급된 회원의 토큰만 폐기 (토큰 재발급 시)
+   * 기기 식별자 없이 발급된 이전 방식의 토큰은 대상이 아니며 액세스 토큰 유효 시간이 지나면 만료됨
+   */
+  public void revoke(String username, String deviceId, long revokedBeforeMillis) {
+    if (username == null || deviceId == null) {
+      return;
+    }
+    String key = revocationKey(username, deviceId);
+    revokeLocal(key, revokedBeforeMillis);
+    publish(revokedBeforeMillis + ":" + key);
+  }
+
+  /**
+   * 다른 서버에서 보낸 토큰 폐기 메시지 수신
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separator = body.indexOf(':');
+    if (separator < 0) {
+      log.warn("잘못된 토큰 폐기 메시지: {}", body);
+      return;
+    }
+    try {
+      revokeLocal(body.substring(separator + 1), Long.parseLong(body.substring(0, separator)));
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 토큰 폐기 메시지: {}", body);
+    }
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  public int size() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  private void revokeLocal(String key, long revokedAtMillis) {
+    revokedAt.merge(key, revokedAtMillis, Math::max);
+    revokedAt.values().removeIf(at -> at < revokedAtMillis - REVOCATION_RETENTION_MILLIS);
+    synchronized (cache) {
+      cache.values().removeIf(this::isRevoked);
+    }
+  }
+
+  // 회원 전체 폐기와 기기 단위 폐기 중 하나라도 해당하면 폐기된 토큰
+  private boolean isRevoked(VerifiedToken verified) {
+    return issuedBefore(verified, revokedAt.get(verified.username()))
+        || (verified.deviceId() != null
+        && issuedBefore(verified, revokedAt.get(revocationKey(verified.username(), verified.deviceId()))));
+  }
+
+  // JWT 발급 시각(iat)은 초 단위이므로 폐기 시각도 초 단위로 비교
+  private static boolean issuedBefore(VerifiedToken verified, Long at) {
+    return at != null && verified.issuedAtMillis() < at / 1000 * 1000;
+  }
+
+  private static String revocationKey(String username, String deviceId) {
+    return username + DEVICE_SEPARATOR + deviceId;
+  }
+
+  private void publish(String message) {
+    if (!broadcast) {
+      return;
+    }
+    StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+    if (redisTemplate == null) {
+      return;
+    }
+    try {
+      redisTemplate.convertAndSend(REVOKE_CHANNEL, message);
+    } catch (Exception e) {
+      log.warn("토큰 폐기 전파 실패: {}, {}", message, e.getMessage());
+    }
+  }
+
+  /**
+   * 검증된 토큰 정보 (subject = username, deviceId 는 기기 식별자 클레임, 이전 방식 토큰은 null)
+   */
+  public record VerifiedToken(String username, String deviceId, long issuedAtMillis, long expiresAtMillis) {
+
+    static VerifiedToken from(Claims claims) {
+      Date issuedAt = claims.getIssuedAt();
+      Date expiration = claims.getExpiration();
+      return new VerifiedToken(
+          claims.getSubject(),
+          claims.get(JwtUtil.DEVICE_ID_CLAIM, String.class),
+          issuedAt == null ? 0L : issuedAt.getTime(),
+          // 만료 시각이 없는 토큰은 액세스 토큰 유효 시간만큼만 캐시
+          expiration == null ? System.currentTimeMillis() + REVOCATION_RETENTION_MILLIS : expiration.getTime()
+      );
+    }
+  }
+}
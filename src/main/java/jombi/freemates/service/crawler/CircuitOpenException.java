@@ -0,0 +1,12 @@
+package jombi.freemates.service.crawler;
+
+/**
+ * 회로 차단기가 열려 있어 카카오 호출을 시도하지 않은 경우
+ * 장소 자체의 실패가 아니므로 실패 횟수에 포함하지 않음
+ */
+public class CircuitOpenException extends RuntimeException {
+
+  public CircuitOpenException(String breakerName) {
+    super("회로 차단 중: " + breakerName);
+  }
+}
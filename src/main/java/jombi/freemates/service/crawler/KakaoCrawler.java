@@ -1,51 +1,88 @@
 package jombi.freemates.service.crawler;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 import jombi.freemates.model.dto.KakaoPlaceCrawlDetail;
-import jombi.freemates.util.CommonUtil;
-import lombok.RequiredArgsConstructor;
+import jombi.freemates.util.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.GzipSource;
+import okio.Okio;
 import org.openqa.selenium.TimeoutException;
-import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import io.github.bonigarcia.wdm.WebDriverManager;
 
-@RequiredArgsConstructor
 @Service
 @Slf4j
 public class KakaoCrawler {
   private final OkHttpClient client;
+  private final WebDriverPool webDriverPool;
+  private final KakaoSessionCookieCache cookieCache;
+  // Selenium 쿠키 발급 / panel API 호출 각각 연속 실패 시 차단 (차단 중에는 브라우저를 띄우지 않음)
+  private final CircuitBreaker browserBreaker;
+  private final CircuitBreaker panelBreaker;
   private static final String UA =
       "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) "
           + "AppleWebKit/605.1.15 (KHTML, like Gecko) Version/18.2 Safari/605.1.15";
   private static final String baseUrl =
       "https://place.map.kakao.com";
 
-  /** 장소 페이지를 Selenium으로 열어, 생성된 쿠키 전부를 String 으로 만들어 리턴 */
-  private String fetchCookies(String placeId) {
-    // 헤드리스 Chrome 드라이버 옵션
-    ChromeOptions opts = new ChromeOptions();
-    opts.addArguments("--no-sandbox", "--disable-gpu","--headless");
-    WebDriverManager.chromedriver().setup();
-    WebDriver driver = new ChromeDriver(opts);
-    WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+  public KakaoCrawler(
+      OkHttpClient client,
+      WebDriverPool webDriverPool,
+      KakaoSessionCookieCache cookieCache,
+      @Value("${freemates.crawler.circuit-breaker.failure-threshold:5}") int failureThreshold,
+      @Value("${freemates.crawler.circuit-breaker.open-seconds:300}") long openSeconds
+  ) {
+    this.client = client;
+    this.webDriverPool = webDriverPool;
+    this.cookieCache = cookieCache;
+    this.browserBreaker = new CircuitBreaker("kakao-browser", failureThreshold, Duration.ofSeconds(openSeconds));
+    this.panelBreaker = new CircuitBreaker("kakao-panel", failureThreshold, Duration.ofSeconds(openSeconds));
+  }
 
+  /**
+   * 회로 차단 중이라 지금 크롤링해도 바로 거절되는 상태인지
+   */
+  public boolean isCircuitOpen() {
+    return browserBreaker.isOpen() || panelBreaker.isOpen();
+  }
+
+  /**
+   * 회로 차단기를 거쳐 Selenium 으로 쿠키 발급
+   * 실패는 browser 회로 차단기에만 반영하고, panel 회로 차단기가 구분할 수 있도록 CookieIssueException 으로 감쌈
+   */
+  private String issueCookies(String placeId) {
+    if (!browserBreaker.tryAcquire()) {
+      throw new CircuitOpenException(browserBreaker.getName());
+    }
     try {
+      String cookies = fetchCookies(placeId);
+      browserBreaker.onSuccess();
+      return cookies;
+    } catch (RuntimeException e) {
+      browserBreaker.onFailure();
+      throw new CookieIssueException(e);
+    }
+  }
+
+  /** 장소 페이지를 풀에서 빌린 Selenium 세션으로 열어, 생성된 쿠키 전부를 String 으로 만들어 리턴 */
+  private String fetchCookies(String placeId) {
+    return webDriverPool.execute(driver -> {
+      WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+
+      // 재사용 세션이므로 이전 장소의 쿠키 제거
+      driver.manage().deleteAllCookies();
+
       // 장소 메인 페이지 로드
       String mainUrl = baseUrl+'/' + placeId;
       driver.get(mainUrl);
@@ -63,19 +100,15 @@ public class KakaoCrawler {
       return driver.manage().getCookies().stream()
           .map(c -> c.getName() + "=" + c.getValue())
           .collect(Collectors.joining("; "));
-    } catch (Exception e) {
-      log.error(e.getMessage());
-      throw new RuntimeException(e);
-    } finally {
-      driver.quit();
-    }
+    });
   }
 
   /**
    * OkHttp 로 API 호출 시, 가져온 쿠키를 사용하기 위해
    * 그대로 헤더에 실어서 보낸다.
+   * 응답 본문은 문자열로 버퍼링하지 않고 스트림에서 필요한 필드만 바로 파싱
    */
-  private JsonObject fetchJsonWithCookies(String url, String cookieHeader) throws IOException {
+  private KakaoPlaceCrawlDetail fetchPanelWithCookies(String url, String cookieHeader) throws IOException {
 
     Request req = new Request.Builder()
         .url(url)
@@ -96,68 +129,117 @@ public class KakaoCrawler {
 
     try (Response res = client.newCall(req).execute()) {
 
+      // 404 는 장소 자체가 없는 경우, 401/403 만 세션(쿠키) 거부로 간주
+      // 429/5xx 는 카카오 쪽 일시 장애이므로 쿠키를 재발급하지 않고 실패로 처리 (재시도 대상, panel 회로 차단기에 반영)
+      if (res.code() == 404) {
+        throw new PlaceNotFoundException("API 호출 실패: " + res.code());
+      }
+      if (res.code() == 401 || res.code() == 403) {
+        throw new SessionRejectedException("API 호출 거부: " + res.code());
+      }
+      if (res.code() == 429 || res.code() >= 500) {
+        throw new PanelUnavailableException("API 일시 장애: " + res.code());
+      }
       if (!res.isSuccessful()) {
         throw new IOException("API 호출 실패: " + res.code());
       }
-      String payload = CommonUtil.nvl(res.body().string(), "");
-      return JsonParser.parseString(payload).getAsJsonObject();
+      try {
+        return KakaoPanelParser.parse(bodyReader(res));
+      } catch (KakaoPanelParser.RejectedPayloadException e) {
+        // 로그인/차단 페이지 등 JSON 이 아닌 응답, 또는 인증 오류 응답
+        throw new SessionRejectedException(e.getMessage());
+      }
     }
   }
 
+  // Accept-Encoding 을 직접 지정하면 OkHttp 가 압축을 풀어주지 않으므로 gzip 은 직접 해제
+  private Reader bodyReader(Response res) {
+    ResponseBody body = res.body();
+    if (!"gzip".equalsIgnoreCase(res.header("Content-Encoding"))) {
+      return body.charStream();
+    }
+    Charset charset = body.contentType() == null
+        ? StandardCharsets.UTF_8
+        : body.contentType().charset(StandardCharsets.UTF_8);
+    return new InputStreamReader(Okio.buffer(new GzipSource(body.source())).inputStream(), charset);
+  }
+
   /**
-   * placeId 별로 Selenium → OkHttp 로 토큰 쿠키를 자동 획득 & JSON 파싱
+   * 캐시된 세션 쿠키로 API 호출, 거부되면 쿠키를 재발급 받아 한 번 재시도
    */
-  public KakaoPlaceCrawlDetail crawlByPlaceId(String kakaoPlaceId) throws IOException {
-    // Selenium 으로 먼저 메인 페이지 열고, 쿠키 획득
-    String cookieHeader = fetchCookies(kakaoPlaceId);
-    log.debug("쿠키 획득 완료: {}", cookieHeader);
+  private KakaoPlaceCrawlDetail fetchPanelWithSession(String url, String kakaoPlaceId) throws IOException {
+    String cookieHeader = cookieCache.get(() -> issueCookies(kakaoPlaceId));
+    try {
+      return fetchPanelWithCookies(url, cookieHeader);
+    } catch (SessionRejectedException e) {
+      log.debug("세션 쿠키 거부, 재발급 후 재시도: {}", e.getMessage());
+      cookieCache.invalidate(cookieHeader);
+      String refreshed = cookieCache.get(() -> issueCookies(kakaoPlaceId));
+      return fetchPanelWithCookies(url, refreshed);
+    }
+  }
 
-    // panel 데이터를 쿠키와 함께 가져오기
+  /**
+   * placeId 별로 세션 쿠키(캐시, 필요 시 Selenium 발급) → OkHttp 응답 스트림에서
+   * 이미지 / 소개 / 태그만 추출
+   */
+  public KakaoPlaceCrawlDetail crawlByPlaceId(String kakaoPlaceId) throws IOException {
+    // panel 데이터를 캐시된 세션 쿠키와 함께 가져오기 (쿠키가 없거나 거부되면 그때만 Selenium)
     String panelUrl = "https://place-api.map.kakao.com/places/panel3/" + kakaoPlaceId;
-    JsonObject panel = fetchJsonWithCookies(panelUrl, cookieHeader);
-
-    // 이미지·소개 정보 파싱
-    String introText = "";
-    String imgUrl      = "";
-
-    if (panel.has("my_store") && panel.get("my_store").isJsonObject()) {
-      JsonObject myStore = panel.getAsJsonObject("my_store");
-
-      if (myStore.has("mystore_intro")) {
-        introText = myStore.get("mystore_intro").getAsString();
-      }
+    if (!panelBreaker.tryAcquire()) {
+      throw new CircuitOpenException(panelBreaker.getName());
+    }
+    try {
+      KakaoPlaceCrawlDetail detail = fetchPanelWithSession(panelUrl, kakaoPlaceId);
+      panelBreaker.onSuccess();
+      return detail;
+    } catch (PlaceNotFoundException e) {
+      // 장소가 없는 것은 카카오 쪽 장애가 아님
+      panelBreaker.onSuccess();
+      throw e;
+    } catch (CircuitOpenException | CookieIssueException e) {
+      // 쿠키 발급 차단/실패로 호출하지 못함 (browser 회로 차단기에서 이미 처리)
+      panelBreaker.release();
+      throw e;
+    } catch (IOException | RuntimeException e) {
+      panelBreaker.onFailure();
+      throw e;
+    }
+  }
 
-      if (myStore.has("main_photo_url")) {
-        imgUrl = myStore.get("main_photo_url").getAsString();
-      }
+  /**
+   * 카카오에 해당 장소가 없는 경우 (404)
+   */
+  private static class PlaceNotFoundException extends IOException {
+    PlaceNotFoundException(String message) {
+      super(message);
     }
+  }
 
-    // tags 배열 파싱
-//    String description = "";
-//
-//    if (panel.has("place_add_info") && panel.get("place_add_info").isJsonObject()) {
-//      JsonObject addInfo = panel.getAsJsonObject("place_add_info");
-//
-//      if (addInfo.has("tags") && addInfo.get("tags").isJsonArray()) {
-//        JsonArray tagsArray = addInfo.getAsJsonArray("tags");
-//
-//        description = StreamSupport.stream(tagsArray.spliterator(), false)
-//            .map(JsonElement::getAsString)
-//            .collect(Collectors.joining(","));
-//      }
-//    }
-    List<String> tags = new ArrayList<>();
-    if (panel.has("place_add_info") && panel.get("place_add_info").isJsonObject()) {
-      JsonObject addInfo = panel.getAsJsonObject("place_add_info");
-      if (addInfo.has("tags") && addInfo.get("tags").isJsonArray()) {
-        JsonArray tagsArray = addInfo.getAsJsonArray("tags");
-        for (JsonElement el : tagsArray) {
-          tags.add(el.getAsString());
-        }
-      }
+  /**
+   * 카카오 API 의 일시 장애 (429, 5xx)
+   */
+  private static class PanelUnavailableException extends IOException {
+    PanelUnavailableException(String message) {
+      super(message);
     }
+  }
 
+  /**
+   * Selenium 쿠키 발급 실패
+   */
+  private static class CookieIssueException extends RuntimeException {
+    CookieIssueException(Throwable cause) {
+      super("쿠키 발급 실패: " + cause.getMessage(), cause);
+    }
+  }
 
-    return new KakaoPlaceCrawlDetail(imgUrl, introText, tags);
+  /**
+   * 카카오 API 가 세션 쿠키를 거부한 경우
+   */
+  private static class SessionRejectedException extends IOException {
+    SessionRejectedException(String message) {
+      super(message);
+    }
   }
 }
@@ -0,0 +1,118 @@
+package jombi.freemates.service.crawler;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import jombi.freemates.model.dto.KakaoPlaceCrawlDetail;
+
+/**
+ * 카카오 panel3 응답 스트리밍 파서
+ * - 전체 JSON 트리를 만들지 않고 필요한 경로만 읽고 나머지는 skipValue 로 건너뜀
+ *   my_store.mystore_intro / my_store.main_photo_url / place_add_info.tags
+ * - 필요한 두 객체를 모두 읽으면 나머지 본문은 읽지 않고 종료
+ */
+public class KakaoPanelParser {
+
+  private KakaoPanelParser() {
+  }
+
+  /**
+   * @throws RejectedPayloadException JSON 이 아니거나, 오류(인증 실패 등) 응답인 경우
+   */
+  public static KakaoPlaceCrawlDetail parse(Reader source) throws IOException {
+    String introText = "";
+    String imageUrl = "";
+    List<String> tags = new ArrayList<>();
+    boolean myStoreRead = false;
+    boolean addInfoRead = false;
+
+    try (JsonReader reader = new JsonReader(source)) {
+      if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+        throw new RejectedPayloadException("JSON 객체가 아닌 응답");
+      }
+      reader.beginObject();
+      while (reader.hasNext() && !(myStoreRead && addInfoRead)) {
+        String name = reader.nextName();
+        switch (name) {
+          case "errorType", "error", "error_code" ->
+              throw new RejectedPayloadException("인증 오류 응답: " + name);
+          case "my_store" -> {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+              reader.skipValue();
+              break;
+            }
+            reader.beginObject();
+            while (reader.hasNext()) {
+              switch (reader.nextName()) {
+                case "mystore_intro" -> introText = nextStringOr(reader, introText);
+                case "main_photo_url" -> imageUrl = nextStringOr(reader, imageUrl);
+                default -> reader.skipValue();
+              }
+            }
+            reader.endObject();
+            myStoreRead = true;
+          }
+          case "place_add_info" -> {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+              reader.skipValue();
+              break;
+            }
+            reader.beginObject();
+            while (reader.hasNext()) {
+              if ("tags".equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                readTags(reader, tags);
+              } else {
+                reader.skipValue();
+              }
+            }
+            reader.endObject();
+            addInfoRead = true;
+          }
+          default -> reader.skipValue();
+        }
+      }
+    } catch (MalformedJsonException | EOFException | JsonParseException | IllegalStateException e) {
+      // 로그인/차단 페이지(HTML) 등 JSON 이 아닌 응답
+      throw new RejectedPayloadException("JSON 이 아닌 응답");
+    }
+    return new KakaoPlaceCrawlDetail(imageUrl, introText, tags);
+  }
+
+  private static void readTags(JsonReader reader, List<String> tags) throws IOException {
+    reader.beginArray();
+    while (reader.hasNext()) {
+      JsonToken token = reader.peek();
+      if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+        tags.add(reader.nextString());
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endArray();
+  }
+
+  // 문자열/숫자면 문자열로, null 등 그 외 값이면 기본값
+  private static String nextStringOr(JsonReader reader, String defaultValue) throws IOException {
+    JsonToken token = reader.peek();
+    if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+      return reader.nextString();
+    }
+    reader.skipValue();
+    return defaultValue;
+  }
+
+  /**
+   * 본문이 정상 panel 데이터가 아닌 경우
+   */
+  public static class RejectedPayloadException extends IOException {
+    public RejectedPayloadException(String message) {
+      super(message);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package jombi.freemates.service.crawler;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카카오 panel API 호출용 세션 쿠키(_T_ANO 등) 캐시
+ * - 하나의 쿠키를 TTL 동안 모든 장소 크롤링이 공유
+ * - 만료되었거나 API 가 거부하면 그때만 Selenium 으로 다시 발급 (동시에 여러 스레드가 요청해도 1번만 발급)
+ */
+@Slf4j
+@Component
+public class KakaoSessionCookieCache {
+
+  private final Duration ttl;
+  private final Object refreshLock = new Object();
+  private volatile CachedCookie current;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong refreshes = new AtomicLong();
+
+  public KakaoSessionCookieCache(@Value("${freemates.crawler.cookie-ttl-minutes:30}") long ttlMinutes) {
+    this.ttl = Duration.ofMinutes(ttlMinutes);
+  }
+
+  /**
+   * 유효한 쿠키 헤더 반환, 없으면 loader(Selenium)로 발급 후 캐시
+   */
+  public String get(Supplier<String> loader) {
+    CachedCookie cached = current;
+    if (isValid(cached)) {
+      hits.incrementAndGet();
+      return cached.header();
+    }
+
+    synchronized (refreshLock) {
+      // 대기하는 동안 다른 스레드가 이미 갱신했으면 그대로 사용
+      cached = current;
+      if (isValid(cached)) {
+        hits.incrementAndGet();
+        return cached.header();
+      }
+      String header = loader.get();
+      current = new CachedCookie(header, System.nanoTime() + ttl.toNanos());
+      log.info("카카오 세션 쿠키 갱신 ({}번째, 캐시 적중 {}회)", refreshes.incrementAndGet(), hits.get());
+      return header;
+    }
+  }
+
+  /**
+   * API 가 거부한 쿠키 무효화
+   * 이미 다른 스레드가 새 쿠키로 교체했다면 그 쿠키는 유지
+   */
+  public void invalidate(String rejectedHeader) {
+    synchronized (refreshLock) {
+      CachedCookie cached = current;
+      if (cached != null && cached.header().equals(rejectedHeader)) {
+        current = null;
+        log.warn("카카오 세션 쿠키 거부됨, 다음 요청 시 재발급");
+      }
+    }
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getRefreshes() {
+    return refreshes.get();
+  }
+
+  private static boolean isValid(CachedCookie cached) {
+    return cached != null && System.nanoTime() - cached.expiresAtNanos() < 0;
+  }
+
+  private record CachedCookie(String header, long expiresAtNanos) {
+  }
+}
@@ -0,0 +1,96 @@
+package jombi.freemates.service.crawler;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import jombi.freemates.model.dto.KakaoPlaceCrawlDetail;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 장소를 crawlTaskExecutor 에서 병렬로 크롤링
+ * 실제 동시 브라우저 수는 WebDriverPool 크기로 제한됨
+ */
+@Slf4j
+@Component
+public class ParallelKakaoCrawler {
+
+  private static final int PROGRESS_LOG_INTERVAL = 100;
+
+  private final KakaoCrawler kakaoCrawler;
+  private final WebDriverPool webDriverPool;
+  private final KakaoSessionCookieCache cookieCache;
+  private final TaskExecutor crawlTaskExecutor;
+
+  public ParallelKakaoCrawler(
+      KakaoCrawler kakaoCrawler,
+      WebDriverPool webDriverPool,
+      KakaoSessionCookieCache cookieCache,
+      @Qualifier("crawlTaskExecutor") TaskExecutor crawlTaskExecutor
+  ) {
+    this.kakaoCrawler = kakaoCrawler;
+    this.webDriverPool = webDriverPool;
+    this.cookieCache = cookieCache;
+    this.crawlTaskExecutor = crawlTaskExecutor;
+  }
+
+  /**
+   * 카카오 장소 ID 목록을 병렬 크롤링
+   * @return 성공 결과 / 실패 원인 / 회로 차단으로 시도하지 못한(다음에 다시 할) 장소
+   */
+  public CrawlBatch crawlAll(Collection<String> kakaoPlaceIds) {
+    Map<String, KakaoPlaceCrawlDetail> results = new ConcurrentHashMap<>();
+    Map<String, Exception> failures = new ConcurrentHashMap<>();
+    Set<String> deferred = ConcurrentHashMap.newKeySet();
+    AtomicInteger done = new AtomicInteger();
+    int total = kakaoPlaceIds.size();
+    long start = System.nanoTime();
+
+    List<CompletableFuture<Void>> futures = kakaoPlaceIds.stream()
+        .map(kakaoPlaceId -> CompletableFuture.runAsync(() -> {
+          try {
+            results.put(kakaoPlaceId, kakaoCrawler.crawlByPlaceId(kakaoPlaceId));
+          } catch (CircuitOpenException e) {
+            deferred.add(kakaoPlaceId);
+          } catch (Exception e) {
+            failures.put(kakaoPlaceId, e);
+            log.error("카카오 크롤링 중 오류 발생: kakaoPlaceId={}, {}", kakaoPlaceId, e.getMessage());
+          }
+          int count = done.incrementAndGet();
+          if (count % PROGRESS_LOG_INTERVAL == 0) {
+            log.info("카카오 크롤링 진행: {}/{} (초당 {}건)", count, total, String.format("%.2f", perSecond(count, start)));
+          }
+        }, crawlTaskExecutor))
+        .toList();
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+    double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+    log.info("카카오 크롤링 완료: 성공 {}건, 실패 {}건, 회로 차단 보류 {}건, {}초, 초당 {}건, 쿠키 캐시 적중 {}회 / 발급 {}회, 세션 통계 {}",
+        results.size(), failures.size(), deferred.size(), String.format("%.1f", seconds),
+        String.format("%.2f", perSecond(total, start)),
+        cookieCache.getHits(), cookieCache.getRefreshes(), webDriverPool.stats());
+    return new CrawlBatch(results, failures, deferred);
+  }
+
+  /**
+   * 병렬 크롤링 결과
+   * deferred: 회로 차단기가 열려 있어 호출하지 않은 장소 (장소 실패로 보지 않음)
+   */
+  public record CrawlBatch(
+      Map<String, KakaoPlaceCrawlDetail> details,
+      Map<String, Exception> failures,
+      Set<String> deferred
+  ) {
+  }
+
+  private static double perSecond(int count, long startNanos) {
+    double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+    return seconds == 0 ? 0 : count / seconds;
+  }
+}
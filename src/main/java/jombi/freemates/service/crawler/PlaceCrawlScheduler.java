@@ -0,0 +1,41 @@
+package jombi.freemates.service.crawler;
+
+import java.util.concurrent.TimeUnit;
+import jombi.freemates.service.PlaceService;
+import jombi.freemates.service.crawler.PlaceCrawlService.CrawlResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주기적 증분 크롤링 (오래되었거나 실패한 장소만)
+ * freemates.crawler.schedule-cron 을 "-" 로 설정하면 비활성화
+ * 실패 장소(dead letter)는 dead-letter-drain-minutes 마다 재시도 시각이 지난 것만 다시 크롤링
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceCrawlScheduler {
+
+  private final PlaceService placeService;
+  private final PlaceCrawlService placeCrawlService;
+
+  @Scheduled(cron = "${freemates.crawler.schedule-cron:0 0 4 * * *}")
+  public void crawlStalePlaces() {
+    log.info("정기 장소 크롤링 시작");
+    placeService.addKakaoCrawlInfo();
+  }
+
+  @Scheduled(
+      fixedDelayString = "${freemates.crawler.dead-letter-drain-minutes:10}",
+      initialDelayString = "${freemates.crawler.dead-letter-drain-minutes:10}",
+      timeUnit = TimeUnit.MINUTES
+  )
+  public void drainDeadLetters() {
+    CrawlResult result = placeCrawlService.drainDeadLetters();
+    if (result.changed() > 0) {
+      placeService.rebuildPlaceIndexes();
+    }
+  }
+}
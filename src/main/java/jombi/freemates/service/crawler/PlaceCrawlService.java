@@ -0,0 +1,261 @@
+package jombi.freemates.service.crawler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import jombi.freemates.model.constant.CrawlStatus;
+import jombi.freemates.model.dto.KakaoPlaceCrawlDetail;
+import jombi.freemates.model.postgres.Place;
+import jombi.freemates.model.postgres.PlaceCrawlState;
+import jombi.freemates.repository.PlaceCrawlStateRepository;
+import jombi.freemates.repository.PlaceRepository;
+import jombi.freemates.service.crawler.ParallelKakaoCrawler.CrawlBatch;
+import jombi.freemates.util.PlaceHashUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 장소 크롤링 상태(PlaceCrawlState) 기반 증분 크롤링
+ * - 한 번도 크롤링 안 된 장소, 오래된(stale) 장소, 재시도 대상 실패 장소만 크롤링
+ * - chunkSize 단위로 크롤링 → 커밋하므로 JVM 이 죽어도 다음 실행 시 남은 장소부터 이어서 진행
+ * - 실패 장소는 지수 백오프로 재시도, 카카오 회로 차단 중에는 실패로 기록하지 않고 중단
+ */
+@Slf4j
+@Service
+public class PlaceCrawlService {
+
+  // UUID 최솟값 (keyset 시작점)
+  private static final UUID MIN_PLACE_ID = new UUID(0L, 0L);
+
+  private final PlaceRepository placeRepository;
+  private final PlaceCrawlStateRepository placeCrawlStateRepository;
+  private final ParallelKakaoCrawler parallelKakaoCrawler;
+  private final KakaoCrawler kakaoCrawler;
+  private final TransactionTemplate transactionTemplate;
+
+  private final int chunkSize;
+  private final long staleDays;
+  private final Duration retryBackoff;
+  private final Duration maxRetryBackoff;
+  private final int maxFailures;
+  private final boolean resumeOnStartup;
+
+  private final AtomicBoolean running = new AtomicBoolean(false);
+
+  public PlaceCrawlService(
+      PlaceRepository placeRepository,
+      PlaceCrawlStateRepository placeCrawlStateRepository,
+      ParallelKakaoCrawler parallelKakaoCrawler,
+      KakaoCrawler kakaoCrawler,
+      PlatformTransactionManager transactionManager,
+      @Value("${freemates.crawler.chunk-size:100}") int chunkSize,
+      @Value("${freemates.crawler.stale-days:7}") long staleDays,
+      @Value("${freemates.crawler.retry-after-minutes:60}") long retryAfterMinutes,
+      @Value("${freemates.crawler.max-retry-backoff-minutes:1440}") long maxRetryBackoffMinutes,
+      @Value("${freemates.crawler.max-failures:5}") int maxFailures,
+      @Value("${freemates.crawler.resume-on-startup:true}") boolean resumeOnStartup
+  ) {
+    this.placeRepository = placeRepository;
+    this.placeCrawlStateRepository = placeCrawlStateRepository;
+    this.parallelKakaoCrawler = parallelKakaoCrawler;
+    this.kakaoCrawler = kakaoCrawler;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+    this.staleDays = staleDays;
+    this.retryBackoff = Duration.ofMinutes(retryAfterMinutes);
+    this.maxRetryBackoff = Duration.ofMinutes(maxRetryBackoffMinutes);
+    this.maxFailures = maxFailures;
+    this.resumeOnStartup = resumeOnStartup;
+  }
+
+  public boolean isResumeOnStartup() {
+    return resumeOnStartup;
+  }
+
+  /**
+   * 크롤링이 필요한 장소만 청크 단위로 크롤링
+   * 이미 실행 중이면 건너뜀
+   * @return 크롤링 대상 / 내용 변경 / 변경 없음 / 실패 / 회로 차단 보류 장소 수
+   */
+  public CrawlResult crawlStalePlaces() {
+    if (!running.compareAndSet(false, true)) {
+      log.info("장소 크롤링이 이미 실행 중이므로 건너뜀");
+      return CrawlResult.EMPTY;
+    }
+    try {
+      Integer orphans = transactionTemplate.execute(status -> placeCrawlStateRepository.deleteOrphans());
+      log.debug("삭제된 장소의 크롤링 상태 {}개 정리", orphans);
+
+      LocalDateTime runStartedAt = LocalDateTime.now();
+      LocalDateTime staleBefore = runStartedAt.minusDays(staleDays);
+
+      CrawlResult total = crawlChunks(afterPlaceId -> placeCrawlStateRepository.findPlaceIdsToCrawl(
+          afterPlaceId, staleBefore, runStartedAt, maxFailures, Limit.of(chunkSize)));
+      log.info("증분 장소 크롤링 완료: {}", total);
+      return total;
+    } finally {
+      running.set(false);
+    }
+  }
+
+  /**
+   * 실패 장소(dead letter) 중 재시도 시각이 지난 장소만 다시 크롤링
+   * 회로 차단 중이거나 다른 크롤링이 실행 중이면 건너뜀
+   */
+  public CrawlResult drainDeadLetters() {
+    if (kakaoCrawler.isCircuitOpen()) {
+      log.info("카카오 회로 차단 중이므로 실패 장소 재시도를 건너뜀");
+      return CrawlResult.EMPTY;
+    }
+    if (!running.compareAndSet(false, true)) {
+      log.info("장소 크롤링이 이미 실행 중이므로 실패 장소 재시도를 건너뜀");
+      return CrawlResult.EMPTY;
+    }
+    try {
+      LocalDateTime runStartedAt = LocalDateTime.now();
+      CrawlResult total = crawlChunks(afterPlaceId -> placeCrawlStateRepository.findDeadLetterIdsDue(
+          afterPlaceId, runStartedAt, maxFailures, Limit.of(chunkSize)));
+      if (total.crawled() > 0) {
+        log.info("실패 장소 재시도 완료: {}, 남은 실패 장소 {}개 (재시도 소진 {}개)", total,
+            placeCrawlStateRepository.countByStatus(CrawlStatus.FAILED),
+            placeCrawlStateRepository.countByStatusAndFailureCountGreaterThanEqual(CrawlStatus.FAILED, maxFailures));
+      }
+      return total;
+    } finally {
+      running.set(false);
+    }
+  }
+
+  /**
+   * nextChunk(마지막 placeId) 로 다음 청크를 받아가며 크롤링 → 커밋 반복
+   * 회로가 열려 보류된 장소가 생기면 이번 실행은 중단 (다음 실행에서 이어서 진행)
+   */
+  private CrawlResult crawlChunks(Function<UUID, List<UUID>> nextChunk) {
+    UUID afterPlaceId = MIN_PLACE_ID;
+    CrawlResult total = CrawlResult.EMPTY;
+    while (true) {
+      List<UUID> placeIds = nextChunk.apply(afterPlaceId);
+      if (placeIds.isEmpty()) {
+        break;
+      }
+      CrawlResult chunk = crawlChunk(placeIds);
+      total = total.plus(chunk);
+      afterPlaceId = placeIds.get(placeIds.size() - 1);
+      log.info("장소 크롤링 청크 커밋: 누적 {}", total);
+
+      if (chunk.deferred() > 0) {
+        log.warn("카카오 회로 차단으로 크롤링 중단, 남은 장소는 다음 실행에서 진행");
+        break;
+      }
+    }
+    return total;
+  }
+
+  /**
+   * 청크 하나: 트랜잭션 밖에서 병렬 크롤링 → 짧은 트랜잭션으로 장소/상태 반영
+   */
+  private CrawlResult crawlChunk(List<UUID> placeIds) {
+    // 카카오 장소 ID 가 없는 장소(직접 등록 / 과거 데이터)는 조회 쿼리에서 제외되지만, 한 행 때문에 실행 전체가 중단되지 않도록 한 번 더 거름
+    Map<UUID, String> kakaoIdByPlaceId = placeRepository.findAllById(placeIds).stream()
+        .filter(place -> place.getKakaoPlaceId() != null)
+        .collect(Collectors.toMap(Place::getPlaceId, Place::getKakaoPlaceId));
+    CrawlBatch batch = parallelKakaoCrawler.crawlAll(kakaoIdByPlaceId.values());
+
+    CrawlResult result = transactionTemplate.execute(status -> applyChunk(placeIds, batch));
+    return result == null ? CrawlResult.EMPTY : result;
+  }
+
+  private CrawlResult applyChunk(List<UUID> placeIds, CrawlBatch batch) {
+    LocalDateTime now = LocalDateTime.now();
+    Map<UUID, PlaceCrawlState> states = placeCrawlStateRepository.findAllById(placeIds).stream()
+        .collect(Collectors.toMap(PlaceCrawlState::getPlaceId, Function.identity()));
+
+    List<PlaceCrawlState> toSave = new ArrayList<>(placeIds.size());
+    int changed = 0;
+    int skipped = 0;
+    int failed = 0;
+    int deferred = 0;
+    for (Place place : placeRepository.findAllById(placeIds)) {
+      String kakaoPlaceId = place.getKakaoPlaceId();
+      if (kakaoPlaceId == null) {
+        continue;
+      }
+      // 회로 차단으로 호출하지 않은 장소는 상태를 바꾸지 않음 (실패 횟수 미포함)
+      if (batch.deferred().contains(kakaoPlaceId)) {
+        deferred++;
+        continue;
+      }
+      PlaceCrawlState state = states.computeIfAbsent(place.getPlaceId(),
+          placeId -> PlaceCrawlState.builder().placeId(placeId).build());
+      toSave.add(state);
+
+      KakaoPlaceCrawlDetail detail = batch.details().get(kakaoPlaceId);
+      if (detail == null) {
+        state.markFailed(now, batch.failures().get(kakaoPlaceId), this::retryDelay);
+        failed++;
+        continue;
+      }
+
+      String contentHash = PlaceHashUtil.crawlHash(detail);
+      if (contentHash.equals(state.getContentHash())) {
+        skipped++;
+      } else {
+        place.setImageUrl(detail.getImageUrl());
+        place.setIntroText(detail.getIntroText());
+        // 태그 컬렉션은 교체하면 place_tags 전체를 지우고 다시 넣으므로 실제로 바뀐 경우에만 교체
+        // (PersistentBag.equals 는 동일 객체 비교이므로 내용을 복사해서 비교)
+        if (!sameTags(place.getTags(), detail.getTags())) {
+          place.setTags(detail.getTags());
+        }
+        changed++;
+      }
+      state.markSuccess(contentHash, now);
+    }
+    placeCrawlStateRepository.saveAll(toSave);
+    return new CrawlResult(toSave.size(), changed, skipped, failed, deferred);
+  }
+
+  private static boolean sameTags(List<String> current, List<String> crawled) {
+    if (current == null || crawled == null) {
+      return current == crawled;
+    }
+    return new ArrayList<>(current).equals(crawled);
+  }
+
+  // 지수 백오프: retryBackoff × 2^(실패 횟수 - 1), 최대 maxRetryBackoff
+  private Duration retryDelay(int failureCount) {
+    int exponent = Math.min(Math.max(failureCount - 1, 0), 20);
+    Duration delay = retryBackoff.multipliedBy(1L << exponent);
+    return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+  }
+
+  /**
+   * 크롤링 결과 집계
+   * skipped: 내용 지문이 같아 장소를 다시 쓰지 않은 수
+   * deferred: 회로 차단으로 시도하지 않아 다음 실행으로 미룬 수
+   */
+  public record CrawlResult(int crawled, int changed, int skipped, int failed, int deferred) {
+
+    public static final CrawlResult EMPTY = new CrawlResult(0, 0, 0, 0, 0);
+
+    public CrawlResult plus(CrawlResult other) {
+      return new CrawlResult(
+          crawled + other.crawled,
+          changed + other.changed,
+          skipped + other.skipped,
+          failed + other.failed,
+          deferred + other.deferred
+      );
+    }
+  }
+}
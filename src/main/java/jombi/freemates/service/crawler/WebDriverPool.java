@@ -0,0 +1,198 @@
+package jombi.freemates.service.crawler;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 헤드리스 Chrome 세션 풀
+ * - 최대 poolSize 개의 세션을 재사용 (장소마다 브라우저를 띄우고 종료하지 않음)
+ * - 대여 시 세션 상태 확인, 오류가 났거나 maxUsesPerSession 회 사용한 세션은 종료 후 새로 생성
+ */
+@Slf4j
+@Component
+public class WebDriverPool {
+
+  private final int poolSize;
+  private final int maxUsesPerSession;
+  private final long leaseTimeoutSeconds;
+
+  private final Semaphore permits;
+  private final BlockingQueue<PooledDriver> idle = new LinkedBlockingQueue<>();
+  private volatile boolean driverBinaryReady = false;
+  private volatile boolean closed = false;
+
+  // 통계
+  private final AtomicLong created = new AtomicLong();
+  private final AtomicLong recycled = new AtomicLong();
+  private final AtomicLong leases = new AtomicLong();
+  private final AtomicLong leaseNanos = new AtomicLong();
+
+  public WebDriverPool(
+      @Value("${freemates.crawler.pool-size:4}") int poolSize,
+      @Value("${freemates.crawler.max-uses-per-session:50}") int maxUsesPerSession,
+      @Value("${freemates.crawler.lease-timeout-seconds:60}") long leaseTimeoutSeconds
+  ) {
+    this.poolSize = poolSize;
+    this.maxUsesPerSession = maxUsesPerSession;
+    this.leaseTimeoutSeconds = leaseTimeoutSeconds;
+    this.permits = new Semaphore(poolSize, true);
+  }
+
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  /**
+   * 세션을 하나 빌려 작업 수행 후 반납
+   * 작업 중 예외가 발생한 세션은 반납하지 않고 종료
+   */
+  public <T> T execute(Function<WebDriver, T> work) {
+    PooledDriver pooled = lease();
+    long start = System.nanoTime();
+    boolean broken = true;
+    try {
+      T result = work.apply(pooled.driver);
+      broken = false;
+      return result;
+    } finally {
+      long elapsed = System.nanoTime() - start;
+      leases.incrementAndGet();
+      leaseNanos.addAndGet(elapsed);
+      pooled.uses++;
+      pooled.busyNanos += elapsed;
+      release(pooled, broken);
+    }
+  }
+
+  private PooledDriver lease() {
+    if (closed) {
+      throw new IllegalStateException("WebDriver 풀이 종료되었습니다.");
+    }
+    try {
+      if (!permits.tryAcquire(leaseTimeoutSeconds, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("WebDriver 세션 대여 대기 시간 초과: " + leaseTimeoutSeconds + "초");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("WebDriver 세션 대여 중 인터럽트", e);
+    }
+
+    try {
+      PooledDriver pooled;
+      while ((pooled = idle.poll()) != null) {
+        if (isHealthy(pooled)) {
+          return pooled;
+        }
+        log.warn("응답하지 않는 WebDriver 세션 폐기 (사용 {}회)", pooled.uses);
+        quit(pooled);
+      }
+      return create();
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  private void release(PooledDriver pooled, boolean broken) {
+    try {
+      if (broken || closed || pooled.uses >= maxUsesPerSession) {
+        quit(pooled);
+      } else {
+        idle.offer(pooled);
+      }
+    } finally {
+      permits.release();
+    }
+  }
+
+  private PooledDriver create() {
+    ensureDriverBinary();
+    ChromeOptions opts = new ChromeOptions();
+    opts.addArguments("--no-sandbox", "--disable-gpu", "--headless", "--disable-dev-shm-usage");
+    PooledDriver pooled = new PooledDriver(new ChromeDriver(opts));
+    log.debug("WebDriver 세션 생성 (누적 {}개)", created.incrementAndGet());
+    return pooled;
+  }
+
+  // chromedriver 바이너리 확인/다운로드는 최초 1회만
+  private void ensureDriverBinary() {
+    if (driverBinaryReady) {
+      return;
+    }
+    synchronized (this) {
+      if (!driverBinaryReady) {
+        WebDriverManager.chromedriver().setup();
+        driverBinaryReady = true;
+      }
+    }
+  }
+
+  private boolean isHealthy(PooledDriver pooled) {
+    try {
+      pooled.driver.getWindowHandle();
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  private void quit(PooledDriver pooled) {
+    recycled.incrementAndGet();
+    if (pooled.uses > 0) {
+      log.debug("WebDriver 세션 종료: 사용 {}회, 평균 {}ms", pooled.uses, pooled.busyNanos / pooled.uses / 1_000_000);
+    }
+    try {
+      pooled.driver.quit();
+    } catch (Exception e) {
+      log.warn("WebDriver 세션 종료 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 누적 통계 (생성/폐기 세션 수, 대여 횟수, 대여당 평균 소요 시간)
+   */
+  public PoolStats stats() {
+    long leaseCount = leases.get();
+    return new PoolStats(
+        created.get(),
+        recycled.get(),
+        leaseCount,
+        leaseCount == 0 ? 0 : leaseNanos.get() / leaseCount / 1_000_000
+    );
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    closed = true;
+    PooledDriver pooled;
+    while ((pooled = idle.poll()) != null) {
+      quit(pooled);
+    }
+    log.info("WebDriver 풀 종료: {}", stats());
+  }
+
+  public record PoolStats(long created, long recycled, long leases, long avgLeaseMillis) {
+  }
+
+  private static final class PooledDriver {
+    private final WebDriver driver;
+    private int uses;
+    private long busyNanos;
+
+    private PooledDriver(WebDriver driver) {
+      this.driver = driver;
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package jombi.freemates.service.index;
+
+import java.util.UUID;
+
+/**
+ * 장소 좋아요·조회수 변경 이벤트
+ * 카운트를 바꾸는 쓰기 경로에서 발행, PlaceCounters 가 커밋 이후 인메모리 카운터에 반영
+ */
+public record PlaceCountChangedEvent(UUID placeId, long likeDelta, long viewDelta) {
+}
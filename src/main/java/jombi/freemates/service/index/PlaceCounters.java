@@ -0,0 +1,63 @@
+package jombi.freemates.service.index;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import jombi.freemates.model.dto.PlaceDto;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 장소별 좋아요·조회수 인메모리 카운터
+ * - 스냅샷 발행 시 DB 값으로 초기화, 이후 PlaceCountChangedEvent(커밋 이후)로 증감
+ * - 인덱스 / 검색 엔진 결과에 덮어써서 재빌드 사이에도 DB 조회 없이 최신 카운트 반환
+ * - 스냅샷에 없는 장소(은퇴, 아직 색인 전)는 건드리지 않음
+ */
+@Component
+public class PlaceCounters {
+
+  private volatile Map<UUID, Counts> counts = new ConcurrentHashMap<>();
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPlaceSnapshot(PlaceSnapshotEvent event) {
+    Map<UUID, Counts> seeded = new ConcurrentHashMap<>(event.places().size() * 2);
+    for (PlaceDto place : event.places()) {
+      seeded.put(place.getPlaceId(), new Counts(orZero(place.getLikeCount()), orZero(place.getViewCount())));
+    }
+    counts = seeded;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onCountChanged(PlaceCountChangedEvent event) {
+    counts.computeIfPresent(event.placeId(), (placeId, current) -> new Counts(
+        Math.max(0, current.likeCount() + event.likeDelta()),
+        Math.max(0, current.viewCount() + event.viewDelta())));
+  }
+
+  /**
+   * 카운터 값을 반영한 새 DTO 목록 (입력 순서 유지)
+   */
+  public List<PlaceDto> apply(List<PlaceDto> places) {
+    return places.stream().map(this::apply).collect(Collectors.toList());
+  }
+
+  public PlaceDto apply(PlaceDto place) {
+    Counts current = counts.get(place.getPlaceId());
+    if (current == null) {
+      return place;
+    }
+    return place.toBuilder()
+        .likeCount(current.likeCount())
+        .viewCount(current.viewCount())
+        .build();
+  }
+
+  private static long orZero(Long value) {
+    return value == null ? 0L : value;
+  }
+
+  private record Counts(long likeCount, long viewCount) {
+  }
+}
@@ -0,0 +1,189 @@
+package jombi.freemates.service.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import jombi.freemates.model.dto.PlaceDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 좌표 조회용 인메모리 균일 격자(uniform grid) 인덱스
+ * - 모든 장소 좌표를 셀 키 순으로 정렬해 primitive double 배열에 보관
+ * - 셀 키 배열 + 셀 시작 오프셋 배열(CSR 형태)로 셀 단위 이진 탐색
+ * - 스냅샷 교체 방식이라 조회 중 락이 필요 없음
+ * - 좋아요·조회수는 스냅샷 시점 값이므로 조회 측에서 PlaceCounters(인메모리 카운터)로 보정
+ */
+@Slf4j
+@Component
+public class PlaceGridIndex {
+
+  // 셀 한 변 크기 (약 100m). tolerance 0.0001 조회 시 최대 4개 셀만 확인
+  private static final double CELL_SIZE = 0.001;
+
+  // 조회 범위가 이 셀 수를 넘으면 셀 탐색 대신 전체 배열을 선형 스캔
+  private static final int MAX_CELL_SCAN = 1024;
+
+  private volatile Snapshot snapshot;
+
+  /**
+   * 인덱스가 한 번이라도 빌드 되었는지 여부 (false 이면 DB 조회로 대체)
+   */
+  public boolean isReady() {
+    return snapshot != null;
+  }
+
+  public int size() {
+    Snapshot current = snapshot;
+    return current == null ? 0 : current.places.length;
+  }
+
+  /**
+   * 장소 스냅샷 발행 시 재빌드 (커밋 이후 실행)
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPlaceSnapshot(PlaceSnapshotEvent event) {
+    rebuild(event.places());
+  }
+
+  /**
+   * 전체 장소 목록으로 인덱스를 새로 만들어 교체
+   */
+  public void rebuild(List<PlaceDto> places) {
+    long start = System.nanoTime();
+
+    List<PlaceDto> valid = new ArrayList<>(places.size());
+    List<double[]> coords = new ArrayList<>(places.size());
+    for (PlaceDto place : places) {
+      double[] coord = parseCoordinate(place);
+      if (coord != null) {
+        valid.add(place);
+        coords.add(coord);
+      }
+    }
+
+    int n = valid.size();
+    long[] keys = new long[n];
+    for (int i = 0; i < n; i++) {
+      keys[i] = cellKey(cell(coords.get(i)[0]), cell(coords.get(i)[1]));
+    }
+    int[] order = IntStream.range(0, n)
+        .boxed()
+        .sorted(Comparator.comparingLong(i -> keys[i]))
+        .mapToInt(Integer::intValue)
+        .toArray();
+
+    double[] xs = new double[n];
+    double[] ys = new double[n];
+    PlaceDto[] sortedPlaces = new PlaceDto[n];
+    long[] cellKeys = new long[n];
+    int[] cellStart = new int[n + 1];
+    int cellCount = 0;
+    for (int i = 0; i < n; i++) {
+      int idx = order[i];
+      xs[i] = coords.get(idx)[0];
+      ys[i] = coords.get(idx)[1];
+      sortedPlaces[i] = valid.get(idx);
+      if (cellCount == 0 || cellKeys[cellCount - 1] != keys[idx]) {
+        cellKeys[cellCount] = keys[idx];
+        cellStart[cellCount] = i;
+        cellCount++;
+      }
+    }
+    cellStart[cellCount] = n;
+
+    snapshot = new Snapshot(
+        Arrays.copyOf(cellKeys, cellCount),
+        Arrays.copyOf(cellStart, cellCount + 1),
+        xs, ys, sortedPlaces);
+
+    log.info("장소 격자 인덱스 빌드 완료: 장소 {}개, 셀 {}개, 제외 {}개, {}ms",
+        n, cellCount, places.size() - n, (System.nanoTime() - start) / 1_000_000);
+  }
+
+  /**
+   * (x, y) 기준 ±tolerance 사각형 범위 안의 장소 조회 (경계 포함)
+   * 인덱스가 준비되지 않았으면 빈 리스트 반환
+   */
+  public List<PlaceDto> findWithin(double x, double y, double tolerance) {
+    Snapshot current = snapshot;
+    if (current == null) {
+      return List.of();
+    }
+
+    double xMin = x - tolerance;
+    double xMax = x + tolerance;
+    double yMin = y - tolerance;
+    double yMax = y + tolerance;
+
+    List<PlaceDto> result = new ArrayList<>();
+    int cxMin = cell(xMin);
+    int cxMax = cell(xMax);
+    int cyMin = cell(yMin);
+    int cyMax = cell(yMax);
+
+    long cellSpan = (long) (cxMax - cxMin + 1) * (cyMax - cyMin + 1);
+    if (cellSpan > MAX_CELL_SCAN) {
+      current.scan(0, current.xs.length, xMin, xMax, yMin, yMax, result);
+      return result;
+    }
+
+    for (int cx = cxMin; cx <= cxMax; cx++) {
+      for (int cy = cyMin; cy <= cyMax; cy++) {
+        int c = Arrays.binarySearch(current.cellKeys, cellKey(cx, cy));
+        if (c >= 0) {
+          current.scan(current.cellStart[c], current.cellStart[c + 1], xMin, xMax, yMin, yMax, result);
+        }
+      }
+    }
+    return result;
+  }
+
+  private static int cell(double value) {
+    return (int) Math.floor(value / CELL_SIZE);
+  }
+
+  private static long cellKey(int cx, int cy) {
+    return ((long) cx << 32) | (cy & 0xffffffffL);
+  }
+
+  private static double[] parseCoordinate(PlaceDto place) {
+    if (place.getX() == null || place.getY() == null) {
+      return null;
+    }
+    try {
+      return new double[]{Double.parseDouble(place.getX()), Double.parseDouble(place.getY())};
+    } catch (NumberFormatException e) {
+      log.debug("좌표 파싱 실패로 인덱스에서 제외: {}", place.getPlaceId());
+      return null;
+    }
+  }
+
+  private static final class Snapshot {
+    private final long[] cellKeys;
+    private final int[] cellStart;
+    private final double[] xs;
+    private final double[] ys;
+    private final PlaceDto[] places;
+
+    private Snapshot(long[] cellKeys, int[] cellStart, double[] xs, double[] ys, PlaceDto[] places) {
+      this.cellKeys = cellKeys;
+      this.cellStart = cellStart;
+      this.xs = xs;
+      this.ys = ys;
+      this.places = places;
+    }
+
+    private void scan(int from, int to, double xMin, double xMax, double yMin, double yMax,
+        List<PlaceDto> out) {
+      for (int i = from; i < to; i++) {
+        if (xs[i] >= xMin && xs[i] <= xMax && ys[i] >= yMin && ys[i] <= yMax) {
+          out.add(places[i]);
+        }
+      }
+    }
+  }
+}
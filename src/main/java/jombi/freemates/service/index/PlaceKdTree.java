@@ -0,0 +1,308 @@
+package jombi.freemates.service.index;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import jombi.freemates.model.constant.CategoryType;
+import jombi.freemates.model.dto.PlaceDto;
+import jombi.freemates.util.GeoUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 근접 장소(k-nearest / 반경) 조회용 인메모리 KD-tree
+ * - 전체 장소 트리 1개 + CategoryType 별 서브트리
+ * - 경위도를 단위 구 위의 3차원 좌표로 바꿔 현(직선) 거리로 비교 → 순서·반경 판정·반환 거리가 하버사인과 같음
+ *   (콜드 경로의 PostGIS 구면 반경 조회와 같은 기준, GeoUtil 참고)
+ * - 스냅샷 교체 방식이라 조회 중 락이 필요 없음
+ * - 좋아요·조회수는 스냅샷 시점 값이므로 조회 측에서 PlaceCounters(인메모리 카운터)로 보정
+ */
+@Slf4j
+@Component
+public class PlaceKdTree {
+
+  private volatile Snapshot snapshot;
+
+  public boolean isReady() {
+    return snapshot != null;
+  }
+
+  /**
+   * 장소 스냅샷 발행 시 재빌드 (커밋 이후 실행)
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPlaceSnapshot(PlaceSnapshotEvent event) {
+    rebuild(event.places());
+  }
+
+  /**
+   * 전체 장소 목록으로 트리를 새로 만들어 교체
+   */
+  public void rebuild(List<PlaceDto> places) {
+    long start = System.nanoTime();
+
+    List<PlaceDto> valid = new ArrayList<>(places.size());
+    List<double[]> coords = new ArrayList<>(places.size());
+    for (PlaceDto place : places) {
+      double[] coord = parseCoordinate(place);
+      if (coord != null) {
+        valid.add(place);
+        coords.add(GeoUtil.toUnitVector(coord[0], coord[1]));
+      }
+    }
+
+    Tree all = Tree.build(valid, coords);
+    Map<CategoryType, Tree> byCategory = new EnumMap<>(CategoryType.class);
+    for (CategoryType category : CategoryType.values()) {
+      List<Integer> members = new ArrayList<>();
+      for (int i = 0; i < valid.size(); i++) {
+        if (valid.get(i).getCategoryType() == category) {
+          members.add(i);
+        }
+      }
+      byCategory.put(category, Tree.build(
+          members.stream().map(valid::get).collect(Collectors.toList()),
+          members.stream().map(coords::get).collect(Collectors.toList())));
+    }
+
+    snapshot = new Snapshot(all, byCategory);
+    log.info("장소 KD-tree 빌드 완료: 장소 {}개, 제외 {}개, {}ms",
+        valid.size(), places.size() - valid.size(), (System.nanoTime() - start) / 1_000_000);
+  }
+
+  /**
+   * (x, y) 기준 반경 radiusMeters 이내 장소를 가까운 순으로 최대 limit 개 조회
+   *
+   * @param category null 이면 전체 카테고리
+   */
+  public List<Neighbor> nearest(double x, double y, double radiusMeters, int limit, CategoryType category) {
+    Snapshot current = snapshot;
+    if (current == null || limit <= 0) {
+      return List.of();
+    }
+    Tree tree = category == null ? current.all : current.byCategory.get(category);
+    double chord = GeoUtil.chordOf(radiusMeters);
+    return tree.nearest(GeoUtil.toUnitVector(x, y), chord * chord, limit);
+  }
+
+  private static double[] parseCoordinate(PlaceDto place) {
+    if (place.getX() == null || place.getY() == null) {
+      return null;
+    }
+    try {
+      return new double[]{Double.parseDouble(place.getX()), Double.parseDouble(place.getY())};
+    } catch (NumberFormatException e) {
+      log.debug("좌표 파싱 실패로 KD-tree 에서 제외: {}", place.getPlaceId());
+      return null;
+    }
+  }
+
+  /**
+   * 조회 결과: 장소와 기준점으로부터의 구면 거리(m)
+   */
+  public record Neighbor(PlaceDto place, double distanceMeters) {
+  }
+
+  private record Snapshot(Tree all, Map<CategoryType, Tree> byCategory) {
+  }
+
+  /**
+   * 배열 기반 정적 3차원 KD-tree: 구간 [lo, hi) 의 중앙(mid)이 노드, 분할 축은 깊이 % 3 (x → y → z)
+   */
+  private static final class Tree {
+    private final double[][] axes;
+    private final PlaceDto[] places;
+
+    private Tree(double[][] axes, PlaceDto[] places) {
+      this.axes = axes;
+      this.places = places;
+    }
+
+    private static Tree build(List<PlaceDto> places, List<double[]> coords) {
+      int n = places.size();
+      double[][] axes = new double[3][n];
+      PlaceDto[] items = places.toArray(new PlaceDto[0]);
+      for (int i = 0; i < n; i++) {
+        for (int axis = 0; axis < 3; axis++) {
+          axes[axis][i] = coords.get(i)[axis];
+        }
+      }
+      Tree tree = new Tree(axes, items);
+      tree.layout(0, n, 0);
+      return tree;
+    }
+
+    /**
+     * 구간을 분할 축 기준 quickselect 로 중앙값 위치에 배치한 뒤 양쪽 재귀
+     */
+    private void layout(int lo, int hi, int depth) {
+      if (hi - lo <= 1) {
+        return;
+      }
+      int mid = (lo + hi) >>> 1;
+      select(lo, hi - 1, mid, axes[depth % 3]);
+      layout(lo, mid, depth + 1);
+      layout(mid + 1, hi, depth + 1);
+    }
+
+    private void select(int left, int right, int k, double[] axis) {
+      while (left < right) {
+        double pivot = axis[(left + right) >>> 1];
+        int i = left;
+        int j = right;
+        while (i <= j) {
+          while (axis[i] < pivot) {
+            i++;
+          }
+          while (axis[j] > pivot) {
+            j--;
+          }
+          if (i <= j) {
+            swap(i++, j--);
+          }
+        }
+        if (k <= j) {
+          right = j;
+        } else if (k >= i) {
+          left = i;
+        } else {
+          return;
+        }
+      }
+    }
+
+    private void swap(int a, int b) {
+      for (double[] axis : axes) {
+        double t = axis[a];
+        axis[a] = axis[b];
+        axis[b] = t;
+      }
+      PlaceDto tp = places[a];
+      places[a] = places[b];
+      places[b] = tp;
+    }
+
+    private List<Neighbor> nearest(double[] query, double radiusChordSquared, int limit) {
+      BoundedMaxHeap heap = new BoundedMaxHeap(Math.min(limit, Math.max(places.length, 1)), radiusChordSquared);
+      search(0, places.length, 0, query, heap);
+      return heap.drainAscending(places);
+    }
+
+    private void search(int lo, int hi, int depth, double[] query, BoundedMaxHeap heap) {
+      if (lo >= hi) {
+        return;
+      }
+      int mid = (lo + hi) >>> 1;
+      double d = 0;
+      for (int axis = 0; axis < 3; axis++) {
+        double delta = axes[axis][mid] - query[axis];
+        d += delta * delta;
+      }
+      heap.offer(d, mid);
+
+      int axis = depth % 3;
+      double diff = query[axis] - axes[axis][mid];
+      if (diff < 0) {
+        search(lo, mid, depth + 1, query, heap);
+        if (diff * diff <= heap.bound()) {
+          search(mid + 1, hi, depth + 1, query, heap);
+        }
+      } else {
+        search(mid + 1, hi, depth + 1, query, heap);
+        if (diff * diff <= heap.bound()) {
+          search(lo, mid, depth + 1, query, heap);
+        }
+      }
+    }
+  }
+
+  /**
+   * 현 길이 제곱 기준 최대 힙 (최대 capacity 개, 반경 현 길이 제곱 이하만 보관)
+   */
+  private static final class BoundedMaxHeap {
+    private final double[] dist;
+    private final int[] index;
+    private final double radiusSquared;
+    private int size;
+
+    private BoundedMaxHeap(int capacity, double radiusSquared) {
+      this.dist = new double[capacity];
+      this.index = new int[capacity];
+      this.radiusSquared = radiusSquared;
+    }
+
+    // 현재 가지치기 기준: 힙이 꽉 찼으면 가장 먼 후보 거리, 아니면 반경
+    private double bound() {
+      return size == dist.length ? Math.min(dist[0], radiusSquared) : radiusSquared;
+    }
+
+    private void offer(double d, int idx) {
+      if (d > radiusSquared) {
+        return;
+      }
+      if (size < dist.length) {
+        dist[size] = d;
+        index[size] = idx;
+        siftUp(size++);
+      } else if (d < dist[0]) {
+        dist[0] = d;
+        index[0] = idx;
+        siftDown(0);
+      }
+    }
+
+    private List<Neighbor> drainAscending(PlaceDto[] places) {
+      Neighbor[] result = new Neighbor[size];
+      for (int i = size - 1; i >= 0; i--) {
+        result[i] = new Neighbor(places[index[0]], GeoUtil.metersOf(Math.sqrt(dist[0])));
+        size--;
+        dist[0] = dist[size];
+        index[0] = index[size];
+        siftDown(0);
+      }
+      return List.of(result);
+    }
+
+    private void siftUp(int i) {
+      while (i > 0) {
+        int parent = (i - 1) >>> 1;
+        if (dist[parent] >= dist[i]) {
+          return;
+        }
+        swap(i, parent);
+        i = parent;
+      }
+    }
+
+    private void siftDown(int i) {
+      while (true) {
+        int left = 2 * i + 1;
+        int right = left + 1;
+        int largest = i;
+        if (left < size && dist[left] > dist[largest]) {
+          largest = left;
+        }
+        if (right < size && dist[right] > dist[largest]) {
+          largest = right;
+        }
+        if (largest == i) {
+          return;
+        }
+        swap(i, largest);
+        i = largest;
+      }
+    }
+
+    private void swap(int a, int b) {
+      double td = dist[a];
+      dist[a] = dist[b];
+      dist[b] = td;
+      int ti = index[a];
+      index[a] = index[b];
+      index[b] = ti;
+    }
+  }
+}
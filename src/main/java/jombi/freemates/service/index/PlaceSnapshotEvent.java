@@ -0,0 +1,11 @@
+package jombi.freemates.service.index;
+
+import java.util.List;
+import jombi.freemates.model.dto.PlaceDto;
+
+/**
+ * 전체 장소 스냅샷 이벤트
+ * PlaceService.rebuildPlaceIndexes 에서 발행, 인메모리 인덱스 / 검색 엔진이 구독해 재빌드
+ */
+public record PlaceSnapshotEvent(List<PlaceDto> places) {
+}
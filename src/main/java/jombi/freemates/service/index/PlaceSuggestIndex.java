@@ -0,0 +1,296 @@
+package jombi.freemates.service.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import jombi.freemates.model.dto.PlaceDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 검색어 자동완성용 인메모리 접두사 트라이
+ * - 키: 장소 이름(단어 시작 위치마다), 태그
+ * - 한글은 자모 단위로 분해해 저장 → 입력 중인 음절("스탑" → "스타벅스")도 접두사로 일치
+ * - 초성 전용 트라이를 따로 두어 "ㅅㅌㅂㅅ" 같은 초성 검색 지원
+ * - 노드마다 인기순(likeCount, viewCount) 상위 CANDIDATES 개를 미리 계산해 두어 조회는 O(검색어 길이)
+ * - 빌드 시점 인기순은 이후 좋아요·조회수 변화를 모르므로, 후보를 넉넉히 뽑아 인메모리 최신 카운트(PlaceCounters)로 rank 재정렬
+ */
+@Slf4j
+@Component
+public class PlaceSuggestIndex {
+
+  public static final int MAX_SUGGEST = 10;
+  // 노드별로 보관하는 후보 수 (최신 카운트로 재정렬할 여유분 포함)
+  public static final int CANDIDATES = MAX_SUGGEST * 3;
+
+  private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+  private static final String[] JUNGSEONG = {
+      "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ",
+      "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+  };
+  private static final String[] JONGSEONG = {
+      "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+      "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+  };
+  // 겹자모(호환 자모) → 분해 결과
+  private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+  private static final String[] COMPOUND_JAMO_PARTS = {
+      "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+      "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+  };
+
+  // 인기순: likeCount → viewCount → 이름
+  private static final Comparator<PlaceDto> BY_POPULARITY = Comparator
+      .comparing((PlaceDto p) -> p.getLikeCount() == null ? 0L : p.getLikeCount()).reversed()
+      .thenComparing((PlaceDto p) -> p.getViewCount() == null ? 0L : p.getViewCount(), Comparator.reverseOrder())
+      .thenComparing(PlaceDto::getPlaceName, Comparator.nullsLast(Comparator.naturalOrder()));
+
+  private volatile Snapshot snapshot;
+
+  public boolean isReady() {
+    return snapshot != null;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPlaceSnapshot(PlaceSnapshotEvent event) {
+    rebuild(event.places());
+  }
+
+  /**
+   * 전체 장소 목록으로 트라이를 새로 만들어 교체
+   */
+  public void rebuild(List<PlaceDto> places) {
+    long start = System.nanoTime();
+    PlaceDto[] ranked = places.toArray(new PlaceDto[0]);
+    Arrays.sort(ranked, BY_POPULARITY);
+
+    // 인기순으로 삽입하면 각 노드의 상위 목록이 자동으로 인기순 정렬됨
+    Trie jamoTrie = new Trie();
+    Trie choseongTrie = new Trie();
+    for (int i = 0; i < ranked.length; i++) {
+      for (String key : keys(ranked[i])) {
+        jamoTrie.insert(toJamo(key), i);
+        choseongTrie.insert(toChoseong(key), i);
+      }
+    }
+
+    snapshot = new Snapshot(ranked, jamoTrie, choseongTrie);
+    log.info("장소 자동완성 트라이 빌드 완료: 장소 {}개, 노드 {}(자모) / {}(초성)개, {}ms",
+        ranked.length, jamoTrie.size, choseongTrie.size, (System.nanoTime() - start) / 1_000_000);
+  }
+
+  /**
+   * 검색어로 시작하는 장소를 인기순으로 최대 limit 개 조회
+   * 검색어가 초성(자음)으로만 이루어져 있으면 초성 트라이, 아니면 자모 트라이 사용
+   */
+  public List<PlaceDto> suggest(String keyword, int limit) {
+    Snapshot current = snapshot;
+    String normalized = normalize(keyword);
+    if (current == null || normalized.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+
+    int[] hits = isChoseongOnly(normalized)
+        ? current.choseongTrie.top(normalized.replace(" ", ""))
+        : current.jamoTrie.top(toJamo(normalized));
+
+    List<PlaceDto> result = new ArrayList<>(Math.min(limit, hits.length));
+    for (int i = 0; i < hits.length && i < limit; i++) {
+      result.add(current.ranked[hits[i]]);
+    }
+    return result;
+  }
+
+  /**
+   * 후보 목록을 인기순으로 다시 정렬해 최대 limit 개 반환
+   * (suggest 결과에 최신 좋아요·조회수를 반영한 뒤 호출)
+   */
+  public static List<PlaceDto> rank(List<PlaceDto> candidates, int limit) {
+    return candidates.stream()
+        .sorted(BY_POPULARITY)
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * 장소 하나의 자동완성 키: 이름 전체 + 이름의 각 단어 시작부터의 부분 문자열 + 태그
+   */
+  private static Set<String> keys(PlaceDto place) {
+    Set<String> keys = new LinkedHashSet<>();
+    String name = normalize(place.getPlaceName());
+    if (!name.isEmpty()) {
+      keys.add(name);
+      for (int i = name.indexOf(' '); i >= 0; i = name.indexOf(' ', i + 1)) {
+        if (i + 1 < name.length()) {
+          keys.add(name.substring(i + 1));
+        }
+      }
+    }
+    if (place.getTags() != null) {
+      for (String tag : place.getTags()) {
+        String normalizedTag = normalize(tag);
+        if (!normalizedTag.isEmpty()) {
+          keys.add(normalizedTag);
+        }
+      }
+    }
+    return keys;
+  }
+
+  private static String normalize(String text) {
+    return text == null ? "" : text.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+  }
+
+  private static boolean isHangulSyllable(char c) {
+    return c >= 0xAC00 && c <= 0xD7A3;
+  }
+
+  private static boolean isConsonantJamo(char c) {
+    return c >= 'ㄱ' && c <= 'ㅎ';
+  }
+
+  private static boolean isChoseongOnly(String text) {
+    boolean hasConsonant = false;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == ' ') {
+        continue;
+      }
+      if (!isConsonantJamo(c)) {
+        return false;
+      }
+      hasConsonant = true;
+    }
+    return hasConsonant;
+  }
+
+  /**
+   * 한글 음절/겹자모를 자모 단위로 분해 (그 외 문자는 그대로)
+   */
+  static String toJamo(String text) {
+    StringBuilder sb = new StringBuilder(text.length() * 3);
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (isHangulSyllable(c)) {
+        int idx = c - 0xAC00;
+        sb.append(CHOSEONG[idx / 588])
+            .append(JUNGSEONG[(idx % 588) / 28])
+            .append(JONGSEONG[idx % 28]);
+      } else {
+        int compound = COMPOUND_JAMO.indexOf(c);
+        if (compound >= 0) {
+          sb.append(COMPOUND_JAMO_PARTS[compound]);
+        } else {
+          sb.append(c);
+        }
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * 한글 음절은 초성만 남기고 공백 제거 (그 외 문자는 그대로)
+   */
+  static String toChoseong(String text) {
+    StringBuilder sb = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == ' ') {
+        continue;
+      }
+      sb.append(isHangulSyllable(c) ? CHOSEONG[(c - 0xAC00) / 588] : c);
+    }
+    return sb.toString();
+  }
+
+  private record Snapshot(PlaceDto[] ranked, Trie jamoTrie, Trie choseongTrie) {
+  }
+
+  /**
+   * 배열 기반 트라이 (first-child / next-sibling)
+   * 노드별 상위 목록은 CANDIDATES 간격의 평탄 배열에 저장
+   */
+  private static final class Trie {
+    private char[] label = new char[1024];
+    private int[] firstChild = new int[1024];
+    private int[] nextSibling = new int[1024];
+    private int[] topCount = new int[1024];
+    private int[] top = new int[1024 * CANDIDATES];
+    private int size = 1; // 0 = root
+
+    private Trie() {
+      Arrays.fill(firstChild, -1);
+      Arrays.fill(nextSibling, -1);
+    }
+
+    private void insert(String key, int rank) {
+      int node = 0;
+      for (int i = 0; i < key.length(); i++) {
+        node = childOrCreate(node, key.charAt(i));
+        offer(node, rank);
+      }
+    }
+
+    private void offer(int node, int rank) {
+      int count = topCount[node];
+      // 같은 장소의 키들은 연속으로 삽입되므로 마지막 원소만 비교하면 중복 제거됨
+      if (count < CANDIDATES && (count == 0 || top[node * CANDIDATES + count - 1] != rank)) {
+        top[node * CANDIDATES + count] = rank;
+        topCount[node] = count + 1;
+      }
+    }
+
+    private int[] top(String prefix) {
+      int node = 0;
+      for (int i = 0; i < prefix.length() && node >= 0; i++) {
+        node = child(node, prefix.charAt(i));
+      }
+      if (node <= 0) {
+        return new int[0];
+      }
+      return Arrays.copyOfRange(top, node * CANDIDATES, node * CANDIDATES + topCount[node]);
+    }
+
+    private int child(int node, char c) {
+      for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+        if (label[child] == c) {
+          return child;
+        }
+      }
+      return -1;
+    }
+
+    private int childOrCreate(int node, char c) {
+      int existing = child(node, c);
+      if (existing >= 0) {
+        return existing;
+      }
+      if (size == label.length) {
+        grow();
+      }
+      int created = size++;
+      label[created] = c;
+      nextSibling[created] = firstChild[node];
+      firstChild[node] = created;
+      return created;
+    }
+
+    private void grow() {
+      int capacity = label.length * 2;
+      label = Arrays.copyOf(label, capacity);
+      topCount = Arrays.copyOf(topCount, capacity);
+      top = Arrays.copyOf(top, capacity * CANDIDATES);
+      int oldLength = firstChild.length;
+      firstChild = Arrays.copyOf(firstChild, capacity);
+      nextSibling = Arrays.copyOf(nextSibling, capacity);
+      Arrays.fill(firstChild, oldLength, capacity, -1);
+      Arrays.fill(nextSibling, oldLength, capacity, -1);
+    }
+  }
+}
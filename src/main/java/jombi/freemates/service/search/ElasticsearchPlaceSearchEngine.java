@@ -0,0 +1,143 @@
+package jombi.freemates.service.search;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import jombi.freemates.model.constant.SearchType;
+import jombi.freemates.model.dto.PlaceDto;
+import jombi.freemates.model.elasticsearch.PlaceDocument;
+import jombi.freemates.service.index.PlaceCounters;
+import jombi.freemates.service.index.PlaceSnapshotEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Elasticsearch 장소 검색 엔진 (freemates.search.engine=elasticsearch)
+ * - 장소 스냅샷 이벤트마다 전체 문서를 upsert 후, 이전 회차 문서 삭제
+ * - 첫 동기화 전이거나 클러스터 오류 시 DB 검색으로 대체
+ * - 문서의 좋아요·조회수는 동기화 시점 값이므로 검색 결과는 PlaceCounters(인메모리 카운터)로 보정해 반환
+ */
+@Slf4j
+@Primary
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "freemates.search.engine", havingValue = "elasticsearch")
+public class ElasticsearchPlaceSearchEngine implements PlaceSearchEngine {
+
+  private final ElasticsearchOperations elasticsearchOperations;
+  private final JpaPlaceSearchEngine jpaPlaceSearchEngine;
+  private final PlaceCounters placeCounters;
+
+  private volatile boolean synced = false;
+
+  @Override
+  public Page<PlaceDto> search(SearchType searchType, String keyword, Pageable pageable) {
+    if (!synced) {
+      return jpaPlaceSearchEngine.search(searchType, keyword, pageable);
+    }
+
+    Criteria criteria = switch (searchType) {
+      case NAME -> new Criteria("placeName").matches(keyword);
+      case INTRO -> new Criteria("introText").matches(keyword);
+      case TAG -> new Criteria("tags").matches(keyword);
+      case ALL -> new Criteria("placeName").matches(keyword)
+          .or(new Criteria("introText").matches(keyword))
+          .or(new Criteria("tags").matches(keyword));
+    };
+
+    try {
+      SearchHits<PlaceDocument> hits =
+          elasticsearchOperations.search(new CriteriaQuery(criteria, pageable), PlaceDocument.class);
+      List<PlaceDto> content = hits.getSearchHits().stream()
+          .map(SearchHit::getContent)
+          .map(this::toPlaceDto)
+          .collect(Collectors.toList());
+      return new PageImpl<>(placeCounters.apply(content), pageable, hits.getTotalHits());
+    } catch (RuntimeException e) {
+      log.error("Elasticsearch 검색 실패, DB 검색으로 대체: {}", e.getMessage());
+      return jpaPlaceSearchEngine.search(searchType, keyword, pageable);
+    }
+  }
+
+  /**
+   * 장소 스냅샷으로 인덱스 동기화 (커밋 이후 실행)
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPlaceSnapshot(PlaceSnapshotEvent event) {
+    long start = System.nanoTime();
+    long syncVersion = System.currentTimeMillis();
+    try {
+      IndexOperations indexOps = elasticsearchOperations.indexOps(PlaceDocument.class);
+      if (!indexOps.exists()) {
+        indexOps.createWithMapping();
+        log.info("Elasticsearch place 인덱스 생성");
+      }
+
+      List<PlaceDocument> documents = event.places().stream()
+          .map(dto -> toDocument(dto, syncVersion))
+          .collect(Collectors.toList());
+      elasticsearchOperations.save(documents);
+
+      // 이번 회차에 포함되지 않은(삭제된) 장소 문서 제거
+      elasticsearchOperations.delete(
+          DeleteQuery.builder(new CriteriaQuery(new Criteria("syncVersion").lessThan(syncVersion))).build(),
+          PlaceDocument.class);
+      indexOps.refresh();
+
+      synced = true;
+      log.info("Elasticsearch 장소 동기화 완료: {}건, {}ms",
+          documents.size(), (System.nanoTime() - start) / 1_000_000);
+    } catch (RuntimeException e) {
+      log.error("Elasticsearch 장소 동기화 실패: {}", e.getMessage(), e);
+    }
+  }
+
+  private PlaceDocument toDocument(PlaceDto dto, long syncVersion) {
+    return PlaceDocument.builder()
+        .id(dto.getPlaceId().toString())
+        .placeName(dto.getPlaceName())
+        .introText(dto.getIntroText())
+        .tags(dto.getTags())
+        .categoryType(dto.getCategoryType())
+        .addressName(dto.getAddressName())
+        .imageUrl(dto.getImageUrl())
+        .likeCount(dto.getLikeCount())
+        .viewCount(dto.getViewCount())
+        .distance(dto.getDistance())
+        .x(dto.getX())
+        .y(dto.getY())
+        .syncVersion(syncVersion)
+        .build();
+  }
+
+  private PlaceDto toPlaceDto(PlaceDocument doc) {
+    return PlaceDto.builder()
+        .placeId(UUID.fromString(doc.getId()))
+        .placeName(doc.getPlaceName())
+        .introText(doc.getIntroText())
+        .addressName(doc.getAddressName())
+        .imageUrl(doc.getImageUrl())
+        .tags(doc.getTags())
+        .categoryType(doc.getCategoryType())
+        .likeCount(doc.getLikeCount())
+        .viewCount(doc.getViewCount())
+        .distance(doc.getDistance())
+        .x(doc.getX())
+        .y(doc.getY())
+        .build();
+  }
+}
@@ -0,0 +1,66 @@
+package jombi.freemates.service.search;
+
+import java.util.Comparator;
+import java.util.List;
+import jombi.freemates.model.constant.SearchType;
+import jombi.freemates.model.dto.PlaceDto;
+import jombi.freemates.service.index.PlaceCounters;
+import jombi.freemates.service.index.PlaceSnapshotEvent;
+import jombi.freemates.service.search.PlaceInvertedIndex.SyncResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * JVM 내 역색인 장소 검색 엔진 (freemates.search.engine=embedded)
+ * - 검색 클러스터 없이 소규모 배포에서 사용, 첫 동기화 전에는 DB 검색으로 대체
+ * - 스냅샷은 은퇴하지 않은 장소만 담으므로 은퇴한 장소는 동기화 시 색인에서 빠지고, 검색 결과 수와 전체 건수가 항상 일치
+ * - 색인된 좋아요·조회수는 동기화 시점 값이므로 반환할 페이지만 PlaceCounters(인메모리 카운터)로 보정
+ */
+@Slf4j
+@Primary
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "freemates.search.engine", havingValue = "embedded")
+public class EmbeddedPlaceSearchEngine implements PlaceSearchEngine {
+
+  // JPA 검색과 같은 placeName 오름차순
+  private static final Comparator<PlaceDto> BY_PLACE_NAME =
+      Comparator.comparing(PlaceDto::getPlaceName, Comparator.nullsLast(Comparator.naturalOrder()));
+
+  private final JpaPlaceSearchEngine jpaPlaceSearchEngine;
+  private final PlaceCounters placeCounters;
+  private final PlaceInvertedIndex index = new PlaceInvertedIndex();
+
+  @Override
+  public Page<PlaceDto> search(SearchType searchType, String keyword, Pageable pageable) {
+    if (!index.isReady()) {
+      return jpaPlaceSearchEngine.search(searchType, keyword, pageable);
+    }
+
+    List<PlaceDto> matched = index.search(searchType, keyword);
+    matched.sort(BY_PLACE_NAME);
+
+    int from = (int) Math.min(pageable.getOffset(), matched.size());
+    int to = Math.min(from + pageable.getPageSize(), matched.size());
+    return new PageImpl<>(placeCounters.apply(matched.subList(from, to)), pageable, matched.size());
+  }
+
+  /**
+   * 장소 스냅샷으로 역색인 증분 동기화 (커밋 이후 실행)
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPlaceSnapshot(PlaceSnapshotEvent event) {
+    long start = System.nanoTime();
+    SyncResult result = index.sync(event.places());
+    log.info("장소 역색인 동기화 완료: 추가 {}, 변경 {}, 삭제 {}, 전체 {}건, {}ms",
+        result.added(), result.updated(), result.removed(), result.total(),
+        (System.nanoTime() - start) / 1_000_000);
+  }
+}
@@ -0,0 +1,54 @@
+package jombi.freemates.service.search;
+
+import jombi.freemates.model.constant.SearchType;
+import jombi.freemates.model.dto.PlaceDto;
+import jombi.freemates.model.postgres.Place;
+import jombi.freemates.repository.PlaceRepository;
+import jombi.freemates.service.PlaceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DB LIKE 검색 엔진
+ * 검색 클러스터가 없는 환경(로컬, 테스트)의 기본값이자 다른 엔진의 대체 경로
+ */
+@Service
+@RequiredArgsConstructor
+public class JpaPlaceSearchEngine implements PlaceSearchEngine {
+
+  private final PlaceRepository placeRepository;
+  private final PlaceService placeService;
+
+  @Override
+  @Transactional(readOnly = true)
+  public Page<PlaceDto> search(SearchType searchType, String keyword, Pageable pageable) {
+    // 검색 시 페이징 + 정렬 설정
+    Pageable sorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+        Sort.by("placeName").ascending());
+    Page<Place> placePage;
+
+    switch (searchType) {
+      case NAME:
+        placePage = placeRepository.searchByName(keyword, sorted);
+        break;
+      case INTRO:
+        placePage = placeRepository.searchByIntro(keyword, sorted);
+        break;
+      case TAG:
+        placePage = placeRepository.searchByTag(keyword, sorted);
+        break;
+      case ALL:
+      default:
+        placePage = placeRepository.searchAllFields(keyword, sorted);
+        break;
+    }
+
+    // Place → PlaceDto로 변환
+    return placePage.map(placeService::convertToPlaceDto);
+  }
+}
@@ -0,0 +1,399 @@
+package jombi.freemates.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import jombi.freemates.model.constant.SearchType;
+import jombi.freemates.model.dto.PlaceDto;
+
+/**
+ * 장소 이름 / 소개 / 태그에 대한 JVM 내 역색인
+ * - 토큰: 소문자 변환한 문자 1-gram, 2-gram (한글 음절 단위 부분 일치에 적합)
+ * - 포스팅 리스트: 정렬된 docId 를 delta + varint 로 압축한 byte 배열
+ * - 동기화 시 내용이 바뀐 장소의 포스팅만 갱신 (증분 재빌드)
+ * - 삭제된 docId 자리가 전체의 MAX_TOMBSTONE_RATIO 를 넘으면 docId 를 다시 매겨 압축 (은퇴·재등장이 반복돼도 크기 유지)
+ * - n-gram 교집합으로 후보를 좁힌 뒤 원문 contains 로 확인해 LIKE '%kw%' 와 같은 결과 보장
+ */
+class PlaceInvertedIndex {
+
+  private enum IndexField { NAME, INTRO, TAG }
+
+  // 삭제된 docId 자리가 이 비율을 넘으면 압축
+  private static final double MAX_TOMBSTONE_RATIO = 0.25;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // docId → 장소 (삭제된 자리는 null)
+  private final List<PlaceDto> docs = new ArrayList<>();
+  // docId → 색인한 필드 원문 (소문자)
+  private final List<IndexedText> texts = new ArrayList<>();
+  private final Map<UUID, Integer> docIdByPlaceId = new HashMap<>();
+  private final Map<IndexField, Map<String, Postings>> postings = new EnumMap<>(IndexField.class);
+
+  // docs 중 삭제되어 null 인 자리 수
+  private int tombstones = 0;
+
+  private volatile boolean ready = false;
+
+  PlaceInvertedIndex() {
+    for (IndexField field : IndexField.values()) {
+      postings.put(field, new HashMap<>());
+    }
+  }
+
+  boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * 전체 장소 목록과 현재 색인을 비교해 추가 / 변경 / 삭제분만 반영
+   */
+  SyncResult sync(Collection<PlaceDto> places) {
+    lock.writeLock().lock();
+    try {
+      int added = 0;
+      int updated = 0;
+      int removed = 0;
+      Set<UUID> alive = new HashSet<>();
+
+      for (PlaceDto place : places) {
+        alive.add(place.getPlaceId());
+        IndexedText text = IndexedText.of(place);
+        Integer docId = docIdByPlaceId.get(place.getPlaceId());
+        if (docId == null) {
+          docId = docs.size();
+          docs.add(place);
+          texts.add(text);
+          docIdByPlaceId.put(place.getPlaceId(), docId);
+          addPostings(docId, text);
+          added++;
+        } else {
+          IndexedText before = texts.get(docId);
+          docs.set(docId, place);
+          if (!before.equals(text)) {
+            removePostings(docId, before);
+            texts.set(docId, text);
+            addPostings(docId, text);
+            updated++;
+          }
+        }
+      }
+
+      for (UUID placeId : new ArrayList<>(docIdByPlaceId.keySet())) {
+        if (!alive.contains(placeId)) {
+          int docId = docIdByPlaceId.remove(placeId);
+          removePostings(docId, texts.get(docId));
+          docs.set(docId, null);
+          texts.set(docId, null);
+          tombstones++;
+          removed++;
+        }
+      }
+      if (tombstones > docs.size() * MAX_TOMBSTONE_RATIO) {
+        compact();
+      }
+
+      ready = true;
+      return new SyncResult(added, updated, removed, docIdByPlaceId.size());
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 삭제된 자리를 포함한 docId 공간 크기
+   */
+  int docCapacity() {
+    lock.readLock().lock();
+    try {
+      return docs.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 검색어를 포함하는 장소 목록 (정렬 전)
+   */
+  List<PlaceDto> search(SearchType searchType, String keyword) {
+    String normalized = normalize(keyword);
+    if (normalized.isEmpty()) {
+      return List.of();
+    }
+
+    lock.readLock().lock();
+    try {
+      Set<Integer> matched = new LinkedHashSet<>();
+      switch (searchType) {
+        case NAME -> collect(IndexField.NAME, normalized, matched);
+        case INTRO -> collect(IndexField.INTRO, normalized, matched);
+        case TAG -> collect(IndexField.TAG, normalized, matched);
+        case ALL -> {
+          collect(IndexField.NAME, normalized, matched);
+          collect(IndexField.INTRO, normalized, matched);
+          collect(IndexField.TAG, normalized, matched);
+        }
+      }
+      List<PlaceDto> result = new ArrayList<>(matched.size());
+      for (int docId : matched) {
+        result.add(docs.get(docId));
+      }
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void collect(IndexField field, String keyword, Set<Integer> out) {
+    Map<String, Postings> fieldPostings = postings.get(field);
+    List<Postings> lists = new ArrayList<>();
+    for (String token : queryTokens(keyword)) {
+      Postings list = fieldPostings.get(token);
+      if (list == null) {
+        return;
+      }
+      lists.add(list);
+    }
+    // 가장 짧은 리스트부터 교집합
+    lists.sort((a, b) -> Integer.compare(a.count, b.count));
+    int[] candidates = lists.get(0).decode();
+    for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+      candidates = intersect(candidates, lists.get(i).decode());
+    }
+    for (int docId : candidates) {
+      if (texts.get(docId).contains(field, keyword)) {
+        out.add(docId);
+      }
+    }
+  }
+
+  /**
+   * 살아 있는 장소만 0 부터 docId 를 다시 매기고 포스팅 재구성 (쓰기 락 안에서 호출)
+   * 새 docId 는 오름차순으로 추가되므로 포스팅은 모두 끝에 이어 붙이기만 함
+   */
+  private void compact() {
+    List<PlaceDto> liveDocs = new ArrayList<>(docIdByPlaceId.size());
+    List<IndexedText> liveTexts = new ArrayList<>(docIdByPlaceId.size());
+    for (int docId = 0; docId < docs.size(); docId++) {
+      if (docs.get(docId) != null) {
+        liveDocs.add(docs.get(docId));
+        liveTexts.add(texts.get(docId));
+      }
+    }
+    docs.clear();
+    texts.clear();
+    docIdByPlaceId.clear();
+    postings.values().forEach(Map::clear);
+    for (int docId = 0; docId < liveDocs.size(); docId++) {
+      docs.add(liveDocs.get(docId));
+      texts.add(liveTexts.get(docId));
+      docIdByPlaceId.put(liveDocs.get(docId).getPlaceId(), docId);
+      addPostings(docId, liveTexts.get(docId));
+    }
+    tombstones = 0;
+  }
+
+  private void addPostings(int docId, IndexedText text) {
+    for (IndexField field : IndexField.values()) {
+      Map<String, Postings> fieldPostings = postings.get(field);
+      for (String token : text.tokens(field)) {
+        fieldPostings.computeIfAbsent(token, t -> new Postings()).add(docId);
+      }
+    }
+  }
+
+  private void removePostings(int docId, IndexedText text) {
+    for (IndexField field : IndexField.values()) {
+      Map<String, Postings> fieldPostings = postings.get(field);
+      for (String token : text.tokens(field)) {
+        Postings list = fieldPostings.get(token);
+        if (list != null && list.remove(docId) && list.count == 0) {
+          fieldPostings.remove(token);
+        }
+      }
+    }
+  }
+
+  private static int[] intersect(int[] a, int[] b) {
+    int[] out = new int[Math.min(a.length, b.length)];
+    int i = 0;
+    int j = 0;
+    int n = 0;
+    while (i < a.length && j < b.length) {
+      if (a[i] == b[j]) {
+        out[n++] = a[i];
+        i++;
+        j++;
+      } else if (a[i] < b[j]) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return Arrays.copyOf(out, n);
+  }
+
+  static String normalize(String text) {
+    return text == null ? "" : text.toLowerCase(Locale.ROOT).trim();
+  }
+
+  /**
+   * 검색어 토큰: 한 글자면 1-gram, 그 외에는 2-gram 전부
+   */
+  private static Set<String> queryTokens(String keyword) {
+    Set<String> tokens = new LinkedHashSet<>();
+    if (keyword.length() == 1) {
+      tokens.add(keyword);
+      return tokens;
+    }
+    for (int i = 0; i + 2 <= keyword.length(); i++) {
+      tokens.add(keyword.substring(i, i + 2));
+    }
+    return tokens;
+  }
+
+  /**
+   * 색인 토큰: 1-gram, 2-gram 전부
+   */
+  private static void indexTokens(String text, Set<String> out) {
+    for (int i = 0; i < text.length(); i++) {
+      out.add(text.substring(i, i + 1));
+      if (i + 2 <= text.length()) {
+        out.add(text.substring(i, i + 2));
+      }
+    }
+  }
+
+  record SyncResult(int added, int updated, int removed, int total) {
+  }
+
+  /**
+   * 한 장소의 색인 대상 원문 (소문자)
+   */
+  private record IndexedText(String name, String intro, List<String> tags) {
+
+    static IndexedText of(PlaceDto place) {
+      List<String> tags = new ArrayList<>();
+      if (place.getTags() != null) {
+        for (String tag : place.getTags()) {
+          tags.add(normalize(tag));
+        }
+      }
+      return new IndexedText(normalize(place.getPlaceName()), normalize(place.getIntroText()), tags);
+    }
+
+    Set<String> tokens(IndexField field) {
+      Set<String> tokens = new HashSet<>();
+      switch (field) {
+        case NAME -> indexTokens(name, tokens);
+        case INTRO -> indexTokens(intro, tokens);
+        case TAG -> tags.forEach(tag -> indexTokens(tag, tokens));
+      }
+      return tokens;
+    }
+
+    boolean contains(IndexField field, String keyword) {
+      return switch (field) {
+        case NAME -> name.contains(keyword);
+        case INTRO -> intro.contains(keyword);
+        case TAG -> tags.stream().anyMatch(tag -> tag.contains(keyword));
+      };
+    }
+  }
+
+  /**
+   * delta + varint 로 압축된 정렬 docId 리스트
+   */
+  private static final class Postings {
+    private byte[] data = new byte[4];
+    private int length;
+    private int count;
+    private int last = -1;
+
+    int[] decode() {
+      int[] out = new int[count];
+      int pos = 0;
+      int value = 0;
+      for (int i = 0; i < count; i++) {
+        int delta = 0;
+        int shift = 0;
+        byte b;
+        do {
+          b = data[pos++];
+          delta |= (b & 0x7f) << shift;
+          shift += 7;
+        } while ((b & 0x80) != 0);
+        value += delta;
+        out[i] = value;
+      }
+      return out;
+    }
+
+    void add(int docId) {
+      if (docId > last) {
+        // 새 docId 는 대부분 가장 크므로 끝에 이어 붙이기만 하면 됨
+        writeVarint(last < 0 ? docId : docId - last);
+        last = docId;
+        count++;
+        return;
+      }
+      int[] ids = decode();
+      int pos = Arrays.binarySearch(ids, docId);
+      if (pos >= 0) {
+        return;
+      }
+      int insertAt = -pos - 1;
+      int[] next = new int[ids.length + 1];
+      System.arraycopy(ids, 0, next, 0, insertAt);
+      next[insertAt] = docId;
+      System.arraycopy(ids, insertAt, next, insertAt + 1, ids.length - insertAt);
+      encode(next);
+    }
+
+    boolean remove(int docId) {
+      int[] ids = decode();
+      int pos = Arrays.binarySearch(ids, docId);
+      if (pos < 0) {
+        return false;
+      }
+      int[] next = new int[ids.length - 1];
+      System.arraycopy(ids, 0, next, 0, pos);
+      System.arraycopy(ids, pos + 1, next, pos, ids.length - pos - 1);
+      encode(next);
+      return true;
+    }
+
+    private void encode(int[] ids) {
+      data = new byte[Math.max(4, ids.length * 2)];
+      length = 0;
+      int prev = 0;
+      for (int i = 0; i < ids.length; i++) {
+        writeVarint(i == 0 ? ids[i] : ids[i] - prev);
+        prev = ids[i];
+      }
+      count = ids.length;
+      last = ids.length == 0 ? -1 : ids[ids.length - 1];
+    }
+
+    private void writeVarint(int value) {
+      if (length + 5 > data.length) {
+        data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+      }
+      while ((value & ~0x7f) != 0) {
+        data[length++] = (byte) ((value & 0x7f) | 0x80);
+        value >>>= 7;
+      }
+      data[length++] = (byte) value;
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package jombi.freemates.service.search;
+
+import jombi.freemates.model.constant.SearchType;
+import jombi.freemates.model.dto.PlaceDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 장소 키워드 검색 엔진
+ * freemates.search.engine 설정으로 구현체 선택 (jpa 기본, embedded, elasticsearch)
+ */
+public interface PlaceSearchEngine {
+
+  /**
+   * @param searchType null 이 아닌 검색 타입
+   * @param keyword    공백이 아닌 검색어
+   */
+  Page<PlaceDto> search(SearchType searchType, String keyword, Pageable pageable);
+}
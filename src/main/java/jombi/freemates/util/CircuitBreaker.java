@@ -0,0 +1,110 @@
+package jombi.freemates.util;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 연속 실패 기반 회로 차단기
+ * - CLOSED: 정상 호출, failureThreshold 회 연속 실패하면 OPEN
+ * - OPEN: openDuration 동안 호출하지 않고 바로 거절
+ * - HALF_OPEN: openDuration 이 지나면 시험 호출 1건만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+@Slf4j
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private final String name;
+  private final int failureThreshold;
+  private final long openNanos;
+  private final LongSupplier nanoClock;
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private long openedAtNanos;
+  private boolean trialInFlight;
+  private long rejected;
+
+  public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+    this(name, failureThreshold, openDuration, System::nanoTime);
+  }
+
+  // 테스트에서 시간을 직접 진행시키기 위한 생성자
+  CircuitBreaker(String name, int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+    if (failureThreshold <= 0) {
+      throw new IllegalArgumentException("failureThreshold 는 0보다 커야 합니다.");
+    }
+    this.name = name;
+    this.failureThreshold = failureThreshold;
+    this.openNanos = openDuration.toNanos();
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * 호출 가능 여부, false 면 호출하지 말고 CircuitOpenException 처리
+   */
+  public synchronized boolean tryAcquire() {
+    if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= openNanos) {
+      state = State.HALF_OPEN;
+      trialInFlight = false;
+      log.info("[{}] 회로 반개방: 시험 호출 1건 허용", name);
+    }
+    if (state == State.CLOSED) {
+      return true;
+    }
+    if (state == State.HALF_OPEN && !trialInFlight) {
+      trialInFlight = true;
+      return true;
+    }
+    rejected++;
+    return false;
+  }
+
+  public synchronized void onSuccess() {
+    if (state != State.CLOSED) {
+      log.info("[{}] 회로 닫힘: 호출 정상화 (차단 중 거절 {}건)", name, rejected);
+    }
+    state = State.CLOSED;
+    consecutiveFailures = 0;
+    trialInFlight = false;
+  }
+
+  public synchronized void onFailure() {
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+      state = State.OPEN;
+      openedAtNanos = nanoClock.getAsLong();
+      trialInFlight = false;
+      log.warn("[{}] 회로 열림: 연속 실패 {}회, {}초 동안 호출 차단", name, consecutiveFailures, openNanos / 1_000_000_000);
+    }
+  }
+
+  /**
+   * 허용받은 호출을 성공/실패 판정 없이 반납 (다른 원인으로 호출하지 못한 경우)
+   */
+  public synchronized void release() {
+    trialInFlight = false;
+  }
+
+  /**
+   * 지금 호출하면 거절될 상태인지 (상태를 바꾸지 않고 조회만)
+   */
+  public synchronized boolean isOpen() {
+    return state == State.OPEN && nanoClock.getAsLong() - openedAtNanos < openNanos;
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+
+  public synchronized long getRejected() {
+    return rejected;
+  }
+
+  public String getName() {
+    return name;
+  }
+}
@@ -0,0 +1,107 @@
+package jombi.freemates.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import jombi.freemates.model.dto.CursorSlice;
+import jombi.freemates.util.exception.CustomException;
+import jombi.freemates.util.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커서 기반 페이지네이션 유틸
+ * 커서 = Base64URL("{id}|{정렬키}") → 클라이언트에는 불투명한 문자열로 노출
+ */
+@Slf4j
+public class CursorUtil {
+
+  public static final int MAX_CURSOR_SIZE = 100;
+
+  private static final char SEPARATOR = '|';
+  private static final int UUID_LENGTH = 36;
+
+  /**
+   * 커서 생성
+   */
+  public static String encode(String sortKey, UUID id) {
+    String raw = id.toString() + SEPARATOR + (sortKey == null ? "" : sortKey);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static String encode(LocalDateTime sortKey, UUID id) {
+    return encode(sortKey.toString(), id);
+  }
+
+  /**
+   * 커서 해석 (형식이 잘못되면 INVALID_CURSOR)
+   */
+  public static Cursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      if (raw.length() <= UUID_LENGTH || raw.charAt(UUID_LENGTH) != SEPARATOR) {
+        throw new IllegalArgumentException("커서 구분자 없음");
+      }
+      return new Cursor(raw.substring(UUID_LENGTH + 1), UUID.fromString(raw.substring(0, UUID_LENGTH)));
+    } catch (IllegalArgumentException e) {
+      log.warn("잘못된 커서: {}", cursor);
+      throw new CustomException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+
+  /**
+   * 요청 크기를 1 ~ MAX_CURSOR_SIZE 로 보정
+   */
+  public static int clampSize(int size) {
+    return Math.max(1, Math.min(size, MAX_CURSOR_SIZE));
+  }
+
+  /**
+   * size + 1 개 조회 결과로 CursorSlice 생성
+   * 초과분 1개가 있으면 다음 페이지가 존재
+   */
+  public static <E, D> CursorSlice<D> toSlice(
+      List<E> fetched,
+      int size,
+      Function<E, String> cursorOf,
+      Function<E, D> mapper
+  ) {
+    return toSliceBatch(fetched, size, cursorOf, page -> page.stream().map(mapper).toList());
+  }
+
+  /**
+   * size + 1 개 조회 결과로 CursorSlice 생성 (페이지 단위로 한 번에 DTO 변환)
+   */
+  public static <E, D> CursorSlice<D> toSliceBatch(
+      List<E> fetched,
+      int size,
+      Function<E, String> cursorOf,
+      Function<List<E>, List<D>> batchMapper
+  ) {
+    boolean hasNext = fetched.size() > size;
+    List<E> page = hasNext ? fetched.subList(0, size) : fetched;
+    return CursorSlice.<D>builder()
+        .content(batchMapper.apply(page))
+        .size(size)
+        .hasNext(hasNext)
+        .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null)
+        .build();
+  }
+
+  /**
+   * 해석된 커서: 마지막으로 받은 요소의 정렬키와 ID
+   */
+  public record Cursor(String sortKey, UUID id) {
+
+    public LocalDateTime sortKeyAsDateTime() {
+      try {
+        return LocalDateTime.parse(sortKey);
+      } catch (DateTimeParseException e) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package jombi.freemates.util;
+
+/**
+ * 구면(구 모델) 거리 계산
+ * - 반지름은 PostGIS geography 의 구면 계산(use_spheroid=false, <-> 연산자)과 같은 평균 반지름 사용
+ * - KD-tree(웜) / PostGIS 반경 조회(콜드) 모두 이 기준을 따라야 같은 요청에 같은 결과·거리가 나옴
+ */
+public class GeoUtil {
+
+  // PostGIS 구면 계산 평균 반지름(m)
+  public static final double EARTH_RADIUS_METERS = 6_371_008.7714;
+
+  // 하버사인 거리(m)
+  public static double haversineMeters(double x1, double y1, double x2, double y2) {
+    double lat1 = Math.toRadians(y1);
+    double lat2 = Math.toRadians(y2);
+    double dLat = lat2 - lat1;
+    double dLon = Math.toRadians(x2 - x1);
+    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+        + Math.cos(lat1) * Math.cos(lat2) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+    return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+
+  /**
+   * 경위도 → 단위 구 위의 3차원 좌표 (x, y, z)
+   * 두 점의 직선(현) 거리는 구면 거리에 대해 단조 증가하므로 최근접 / 반경 비교를 그대로 할 수 있음
+   */
+  public static double[] toUnitVector(double x, double y) {
+    double lat = Math.toRadians(y);
+    double lon = Math.toRadians(x);
+    double cosLat = Math.cos(lat);
+    return new double[]{cosLat * Math.cos(lon), cosLat * Math.sin(lon), Math.sin(lat)};
+  }
+
+  // 구면 거리(m) → 단위 구 현 길이
+  public static double chordOf(double meters) {
+    double angle = meters / EARTH_RADIUS_METERS;
+    return angle >= Math.PI ? 2 : 2 * Math.sin(angle / 2);
+  }
+
+  // 단위 구 현 길이 → 구면 거리(m) (하버사인 거리와 같음)
+  public static double metersOf(double chord) {
+    return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, chord / 2));
+  }
+}
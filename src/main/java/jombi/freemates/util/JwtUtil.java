@@ -1,20 +1,22 @@
 package jombi.freemates.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 import jombi.freemates.model.constant.JwtTokenType;
 import jombi.freemates.model.dto.CustomUserDetails;
 import jombi.freemates.repository.MemberRepository;
 import jombi.freemates.util.exception.CustomException;
 import jombi.freemates.util.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -23,22 +25,47 @@ import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtUtil {
 
-  @Value("${jwt.secret-key}")
-  private String secretKey;
+  // 로그인 기기 식별자 클레임 (액세스 / 리프레시 토큰 공통)
+  public static final String DEVICE_ID_CLAIM = "did";
 
-  @Value("${jwt.issuer}")
-  private String issuer;
+  private final String issuer;
 
-  private Key getSigningKey() {
-    byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-    return Keys.hmacShaKeyFor(keyBytes);
+  // 서명 키와 파서는 시작 시 한 번만 생성 (JwtParser 는 build 이후 불변이므로 여러 스레드에서 공유 가능)
+  private final Key signingKey;
+  private final JwtParser parser;
+
+  public JwtUtil(
+      @Value("${jwt.secret-key}") String secretKey,
+      @Value("${jwt.issuer}") String issuer
+  ) {
+    this.issuer = issuer;
+    this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
   }
 
   // token 생성 저장 : ACCESS, REFRESH 따로
   public String generateToken(Authentication authentication, JwtTokenType jwtTokenType) {
+    return buildToken(authentication, jwtTokenType, null);
+  }
+
+  /**
+   * 액세스 토큰 생성: 기기 식별자 포함 (토큰 재발급 시 해당 기기의 토큰만 폐기하기 위함)
+   */
+  public String generateAccessToken(Authentication authentication, String deviceId) {
+    return buildToken(authentication, JwtTokenType.ACCESS, deviceId);
+  }
+
+  /**
+   * 리프레시 토큰 생성: 기기 식별자와 고유 ID(jti)를 포함
+   * 같은 초에 여러 번 재발급해도 토큰(해시)이 달라지므로 교체/재사용 판단 가능
+   */
+  public String generateRefreshToken(Authentication authentication, String deviceId) {
+    return buildToken(authentication, JwtTokenType.REFRESH, deviceId);
+  }
+
+  private String buildToken(Authentication authentication, JwtTokenType jwtTokenType, String deviceId) {
     CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
     String username = userDetails.getMember().getUsername();
     Date now = new Date();
@@ -48,22 +75,41 @@ public class JwtUtil {
     log.info("{} 토큰 생성: 사용자 이름 {}", jwtTokenType, username);
     log.debug("토큰 유효 기간: {}부터 {}까지", now, expiryDate);
 
-    return Jwts.builder()
+    JwtBuilder builder = Jwts.builder()
         .setSubject(username)
         .setIssuer(issuer)
         .setIssuedAt(now)
-        .setExpiration(expiryDate)
-        .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+        .setExpiration(expiryDate);
+    if (deviceId != null) {
+      builder.claim(DEVICE_ID_CLAIM, deviceId);
+    }
+    if (jwtTokenType == JwtTokenType.REFRESH) {
+      builder.setId(UUID.randomUUID().toString());
+    }
+    return builder
+        .signWith(signingKey, SignatureAlgorithm.HS512)
         .compact();
   }
 
+  /**
+   * 서명/만료를 한 번만 검증하고 Claims 반환
+   * 유효하지 않은 토큰이면 Optional.empty()
+   */
+  public Optional<Claims> verifyToken(String token) {
+    try {
+      Claims claims = parser.parseClaimsJws(token).getBody();
+      log.debug("JWT 토큰 검증 성공");
+      return Optional.of(claims);
+    } catch (JwtException | IllegalArgumentException e) {
+      // 토큰 검증 실패 시
+      log.error("JWT 토큰 검증 실패: {}", e.getMessage());
+      return Optional.empty();
+    }
+  }
+
   // JWT Token -> username
   public String getUsernameFromToken(String token) {
-    Claims claims = Jwts.parserBuilder()
-        .setSigningKey(getSigningKey())
-        .build()
-        .parseClaimsJws(token)
-        .getBody();
+    Claims claims = parser.parseClaimsJws(token).getBody();
 
     String username = claims.getSubject();
     log.debug("토큰에서 사용자 이름 추출: {}", username);
@@ -71,14 +117,6 @@ public class JwtUtil {
   }
 
   public boolean validateToken(String token) {
-    try {
-      Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token);
-      log.debug("JWT 토큰 검증 성공");
-      return true;
-    } catch (JwtException | IllegalArgumentException e) {
-      // 토큰 검증 실패 시
-      log.error("JWT 토큰 검증 실패: {}", e.getMessage());
-    }
-    return false;
+    return verifyToken(token).isPresent();
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package jombi.freemates.util;
+
+import java.util.List;
+import jombi.freemates.model.dto.KakaoPlaceCrawlDetail;
+import jombi.freemates.model.postgres.Place;
+
+/**
+ * 장소 내용 지문(SHA-256)
+ * - kakaoHash: 카카오 로컬 API 필드 → 동기화(upsert) 시 변경 여부 판단
+ * - crawlHash: 크롤링 필드(이미지/소개/태그) → 크롤링 반영 시 변경 여부 판단
+ */
+public class PlaceHashUtil {
+
+  // distance 는 조회 중심점(반경/타일)에 따라 달라지는 값이므로 지문에서 제외
+  public static String kakaoHash(Place place) {
+    return hash(
+        place.getKakaoPlaceId(),
+        place.getAddressName(),
+        place.getCategoryGroupCode(),
+        place.getPhone(),
+        place.getPlaceName(),
+        place.getPlaceUrl(),
+        place.getRoadAddressName(),
+        place.getX(),
+        place.getY(),
+        place.getCategoryType() == null ? null : place.getCategoryType().name()
+    );
+  }
+
+  public static String crawlHash(KakaoPlaceCrawlDetail detail) {
+    return crawlHash(detail.getImageUrl(), detail.getIntroText(), detail.getTags());
+  }
+
+  public static String crawlHash(String imageUrl, String introText, List<String> tags) {
+    return hash(
+        imageUrl,
+        introText,
+        tags == null ? null : String.join(",", tags)
+    );
+  }
+
+  // 필드를 줄바꿈으로 이어 붙여 해시 (null 은 빈 문자열)
+  private static String hash(String... fields) {
+    String[] normalized = new String[fields.length];
+    for (int i = 0; i < fields.length; i++) {
+      normalized[i] = CommonUtil.nvl(fields[i], "");
+    }
+    return CommonUtil.calculateSha256ByStr(String.join("\n", normalized));
+  }
+}
@@ -0,0 +1,58 @@
+package jombi.freemates.util;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * 토큰 버킷 방식 요청 속도 제한기
+ * - 초당 permitsPerSecond 개의 토큰이 채워지고, 최대 burst 개까지 쌓임
+ * - 토큰이 없으면 다음 토큰이 생길 때까지 기다릴 시간을 예약 (호출 순서대로 공정하게 분배)
+ */
+public class TokenBucket {
+
+  private final double nanosPerToken;
+  private final double capacity;
+  private final LongSupplier nanoClock;
+
+  private double tokens;
+  private long lastRefillNanos;
+
+  public TokenBucket(double permitsPerSecond, int burst) {
+    this(permitsPerSecond, burst, System::nanoTime);
+  }
+
+  // 테스트에서 시간을 직접 진행시키기 위한 생성자
+  TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+    if (permitsPerSecond <= 0 || burst <= 0) {
+      throw new IllegalArgumentException("permitsPerSecond, burst 는 0보다 커야 합니다.");
+    }
+    this.nanosPerToken = 1_000_000_000.0 / permitsPerSecond;
+    this.capacity = burst;
+    this.nanoClock = nanoClock;
+    this.tokens = burst;
+    this.lastRefillNanos = nanoClock.getAsLong();
+  }
+
+  /**
+   * 토큰 하나를 예약하고, 사용 가능해질 때까지 기다려야 하는 시간(ns)을 반환
+   */
+  public synchronized long reserveNanos() {
+    long now = nanoClock.getAsLong();
+    tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / nanosPerToken);
+    lastRefillNanos = now;
+
+    tokens -= 1;
+    return tokens >= 0 ? 0 : (long) (-tokens * nanosPerToken);
+  }
+
+  /**
+   * 토큰을 얻을 때까지 (논블로킹으로) 대기하는 Mono
+   */
+  public Mono<Void> acquire() {
+    return Mono.defer(() -> {
+      long waitNanos = reserveNanos();
+      return waitNanos == 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(waitNanos)).then();
+    });
+  }
+}
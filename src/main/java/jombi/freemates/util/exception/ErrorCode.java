@@ -14,6 +14,8 @@ public enum ErrorCode {
 
   INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
 
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 커서입니다."),
+
   // Register
 
   DUPLICATE_USERNAME(HttpStatus.CONFLICT, "이미 존재하는 아이디입니다"),
@@ -35,6 +37,10 @@ public enum ErrorCode {
 
   INVALID_REFRESH_TOKEN(HttpStatus.BAD_REQUEST, "잘못된 Refresh 토큰입니다"),
 
+  REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "이미 사용된 Refresh 토큰입니다. 다시 로그인해주세요."),
+
+  REFRESH_TOKEN_CONFLICT(HttpStatus.CONFLICT, "다른 요청에서 이미 재발급된 Refresh 토큰입니다. 새로 발급된 토큰을 사용해주세요."),
+
   // Delete
   UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증되지 않은 사용자입니다."),
 
@@ -53,6 +59,7 @@ public enum ErrorCode {
   PLACE_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 장소입니다."),
 
   COURSE_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 코스입니다."),
+  DUPLICATE_PLACE_IN_COURSE(HttpStatus.BAD_REQUEST, "코스에 같은 장소가 중복되었습니다."),
 
   // File
   FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 파일입니다."),
@@ -6,14 +6,15 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.UUID;
-import jombi.freemates.config.SecurityUrls;
 import jombi.freemates.service.CustomUserDetailsService;
+import jombi.freemates.service.auth.PrincipalCache;
+import jombi.freemates.service.auth.VerifiedTokenCache;
+import jombi.freemates.service.auth.VerifiedTokenCache.VerifiedToken;
 import jombi.freemates.util.JwtUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -22,12 +23,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtUtil jwtUtil;
   private final CustomUserDetailsService customUserDetailsService;
-  private final AntPathMatcher pathMatcher = new AntPathMatcher();
+  private final PrincipalCache principalCache;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final WhitelistRequestMatcher whitelistMatcher;
 
   public JwtAuthenticationFilter(JwtUtil jwtUtil,
-      CustomUserDetailsService customUserDetailsService) {
+      CustomUserDetailsService customUserDetailsService,
+      PrincipalCache principalCache,
+      VerifiedTokenCache verifiedTokenCache,
+      WhitelistRequestMatcher whitelistMatcher) {
     this.jwtUtil = jwtUtil;
     this.customUserDetailsService = customUserDetailsService;
+    this.principalCache = principalCache;
+    this.verifiedTokenCache = verifiedTokenCache;
+    this.whitelistMatcher = whitelistMatcher;
+  }
+
+  /**
+   * AUTH_WHITELIST URL -> JWT 인증 안함
+   */
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    if (whitelistMatcher.matches(request)) {
+      log.debug("허용된 URL: {}, JWT 인증 생략", request.getRequestURI());
+      return true;
+    }
+    return false;
   }
 
   @Override
@@ -35,26 +56,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
       throws ServletException, IOException {
 
-    // AUTH_WHITELIST URL -> JWT 인증 안함
-    String requestUri = request.getRequestURI();
-    boolean isWhitelisted = SecurityUrls.AUTH_WHITELIST.stream()
-        .anyMatch(pattern -> pathMatcher.match(pattern, requestUri));
-    if (isWhitelisted) {
-      log.debug("허용된 URL: {}, JWT 인증 생략", requestUri);
-      filterChain.doFilter(request, response);
-      return;
-    }
-
     String token = getTokenStrFromBearer(request);
     if (token != null) {
       log.debug("요청에서 JWT 토큰 발견");
-      if (jwtUtil.validateToken(token)) {
+      // 이미 검증한 토큰이면 만료 전까지 서명 검증 생략, 처음 보는 토큰은 한 번의 파싱으로 검증
+      VerifiedToken verified = verifiedTokenCache.verify(token, jwtUtil::verifyToken).orElse(null);
+      if (verified != null) {
         // token -> username
-        String username = jwtUtil.getUsernameFromToken(token);
+        String username = verified.username();
         log.info("토큰에서 추출한 사용자 이름: {}", username);
 
         try {
-          UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+          // 요청마다 DB 를 조회하지 않도록 캐시된 인증 정보 사용
+          UserDetails userDetails = principalCache.get(username, customUserDetailsService::loadUserByUsername);
           if (userDetails != null) {
             UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -0,0 +1,78 @@
+package jombi.freemates.util.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * 인증 생략 URL 패턴을 시작 시 한 번만 분류/컴파일한 매처
+ * - 와일드카드 없는 경로: HashSet 조회
+ * - "/prefix/**" 형태: 접두사 비교
+ * - 그 외 패턴: AntPathMatcher (기존 SecurityConfig 와 같은 규칙, 토큰화된 패턴은 매처가 캐시)
+ * - 빈 경로 조각("//")은 AntPathMatcher 처럼 무시
+ * JwtAuthenticationFilter(shouldNotFilter)와 WebSecurityConfig(permitAll)가 같은 인스턴스를 공유
+ */
+public class WhitelistRequestMatcher implements RequestMatcher {
+
+  private static final String ANY_SUFFIX = "/**";
+
+  private final Set<String> exactPaths = new HashSet<>();
+  private final List<String> prefixes = new ArrayList<>();
+  private final List<String> patterns = new ArrayList<>();
+  private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+  public WhitelistRequestMatcher(List<String> whitelist) {
+    for (String pattern : whitelist) {
+      if (!hasWildcard(pattern)) {
+        exactPaths.add(pattern);
+      } else if (pattern.endsWith(ANY_SUFFIX) && !hasWildcard(pattern.substring(0, pattern.length() - ANY_SUFFIX.length()))) {
+        prefixes.add(pattern.substring(0, pattern.length() - ANY_SUFFIX.length()));
+      } else {
+        patterns.add(pattern);
+      }
+    }
+  }
+
+  @Override
+  public boolean matches(HttpServletRequest request) {
+    String path = request.getRequestURI();
+    String contextPath = request.getContextPath();
+    if (!contextPath.isEmpty() && path.startsWith(contextPath)) {
+      path = path.substring(contextPath.length());
+    }
+    return matches(path);
+  }
+
+  /**
+   * 요청 경로(context path 제외)가 인증 생략 대상인지 확인
+   */
+  public boolean matches(String path) {
+    if (path.contains("//")) {
+      path = path.replaceAll("/{2,}", "/");
+    }
+    if (exactPaths.contains(path)) {
+      return true;
+    }
+    for (String prefix : prefixes) {
+      // "/api/test/**" 는 "/api/test" 와 "/api/test/..." 모두 허용 (AntPathMatcher 와 동일)
+      if (path.startsWith(prefix)
+          && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/')) {
+        return true;
+      }
+    }
+    for (String pattern : patterns) {
+      if (antPathMatcher.match(pattern, path)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean hasWildcard(String pattern) {
+    return pattern.indexOf('*') >= 0 || pattern.indexOf('?') >= 0 || pattern.indexOf('{') >= 0;
+  }
+}
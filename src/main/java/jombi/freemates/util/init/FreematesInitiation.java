@@ -1,23 +1,59 @@
 package jombi.freemates.util.init;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import jombi.freemates.model.constant.StartupPhase;
 import jombi.freemates.repository.PlaceRepository;
+import jombi.freemates.service.PlaceIngestService;
 import jombi.freemates.service.PlaceService;
+import jombi.freemates.service.crawler.PlaceCrawlService;
 import jombi.freemates.util.docs.GithubIssueService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import me.suhsaechan.suhlogger.util.SuhLogger;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
 
+/**
+ * 서버 기동 후 초기화
+ * - 스키마 관련 작업(좌표 마이그레이션)만 동기로 끝내고 바로 요청을 받기 시작
+ * - GitHub 이슈 동기화, 장소 동기화 → 인덱스 워밍업 → 크롤링은 백그라운드에서 단계별로 진행
+ * - 단계별 상태 / 소요 시간은 StartupReadiness 에서 조회
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class FreematesInitiation implements ApplicationRunner {
 
   private final GithubIssueService githubIssueService;
   private final PlaceService placeService;
+  private final PlaceIngestService placeIngestService;
+  private final PlaceCrawlService placeCrawlService;
+  private final PlaceRepository placeRepository;
+  private final PlaceLocationMigration placeLocationMigration;
+  private final StartupReadiness startupReadiness;
+  private final Executor startupTaskExecutor;
+
+  public FreematesInitiation(
+      GithubIssueService githubIssueService,
+      PlaceService placeService,
+      PlaceIngestService placeIngestService,
+      PlaceCrawlService placeCrawlService,
+      PlaceRepository placeRepository,
+      PlaceLocationMigration placeLocationMigration,
+      StartupReadiness startupReadiness,
+      @Qualifier("startupTaskExecutor") Executor startupTaskExecutor
+  ) {
+    this.githubIssueService = githubIssueService;
+    this.placeService = placeService;
+    this.placeIngestService = placeIngestService;
+    this.placeCrawlService = placeCrawlService;
+    this.placeRepository = placeRepository;
+    this.placeLocationMigration = placeLocationMigration;
+    this.startupReadiness = startupReadiness;
+    this.startupTaskExecutor = startupTaskExecutor;
+  }
 
   @Override
   public void run(ApplicationArguments args) throws Exception {
@@ -25,10 +61,48 @@ public class FreematesInitiation implements ApplicationRunner {
     SuhLogger.lineLog("데이터 초기화 시작");
     LocalDateTime startTime = LocalDateTime.now();
 
-    githubIssueService.syncGithubIssues();
-    placeService.refreshPlacesIfEmpty();
+    // 이후 단계와 요청 처리 모두 location 컬럼/인덱스가 필요하므로 동기로 실행
+    startupReadiness.run(StartupPhase.LOCATION_MIGRATION, placeLocationMigration::migrate);
+
+    // 서로 독립적인 작업은 백그라운드에서 병렬 진행
+    CompletableFuture<Void> githubIssues = CompletableFuture.runAsync(
+        () -> startupReadiness.run(StartupPhase.GITHUB_ISSUES, githubIssueService::syncGithubIssues),
+        startupTaskExecutor);
+    CompletableFuture<Void> places = CompletableFuture.runAsync(this::warmUpPlaces, startupTaskExecutor);
+
+    CompletableFuture.allOf(githubIssues, places)
+        .whenComplete((ignored, e) -> {
+          SuhLogger.logServerInitDuration(startTime);
+          log.info("서버 데이터 초기화 및 업데이트 완료");
+        });
+    log.info("백그라운드 초기화 시작, 요청 처리 가능");
+  }
+
+  /**
+   * 장소 워밍업
+   * - DB 가 비어 있으면: 카카오 동기화 → 인덱스 → 크롤링
+   * - 데이터가 있으면: DB 로 인덱스부터 빌드 → (설정 시) 중단된 크롤링 이어서 진행
+   */
+  private void warmUpPlaces() {
+    boolean freshlySynced = false;
+    if (placeRepository.count() == 0) {
+      freshlySynced = startupReadiness.run(StartupPhase.PLACE_SYNC, placeIngestService::ingest);
+      if (!freshlySynced) {
+        startupReadiness.skip(StartupPhase.PLACE_INDEX, "카카오 장소 동기화 실패");
+        startupReadiness.skip(StartupPhase.PLACE_CRAWL, "카카오 장소 동기화 실패");
+        return;
+      }
+    } else {
+      startupReadiness.skip(StartupPhase.PLACE_SYNC, "기존 장소 데이터 사용");
+    }
+
+    startupReadiness.run(StartupPhase.PLACE_INDEX, placeService::rebuildPlaceIndexes);
 
-    SuhLogger.logServerInitDuration(startTime);
-    log.info("서버 데이터 초기화 및 업데이트 완료");
+    // 새로 받은 장소는 항상 크롤링, 기존 데이터는 설정에 따라 이어서 크롤링
+    if (freshlySynced || placeCrawlService.isResumeOnStartup()) {
+      startupReadiness.run(StartupPhase.PLACE_CRAWL, placeService::addKakaoCrawlInfo);
+    } else {
+      startupReadiness.skip(StartupPhase.PLACE_CRAWL, "기동 시 크롤링 재개 비활성화");
+    }
   }
 }
@@ -0,0 +1,47 @@
+package jombi.freemates.util.init;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Place.location(PostGIS Point) 마이그레이션
+ * - 기존 문자열 x, y 로 location 컬럼 백필
+ * - geometry / geography GiST 인덱스 생성
+ * - place_name NULL → 빈 문자열 백필 후 NOT NULL (커서 페이지네이션 행 비교용)
+ * 모든 구문이 IF NOT EXISTS / IS NULL 조건이라 매 기동 시 실행해도 안전
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceLocationMigration {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Transactional
+  public void migrate() {
+    jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS postgis");
+    jdbcTemplate.execute("ALTER TABLE place ADD COLUMN IF NOT EXISTS location geometry(Point, 4326)");
+
+    int backfilled = jdbcTemplate.update(
+        "UPDATE place "
+            + "SET location = ST_SetSRID(ST_MakePoint(CAST(x AS double precision), CAST(y AS double precision)), 4326) "
+            + "WHERE location IS NULL "
+            + "  AND x ~ '^-?[0-9]+(\\.[0-9]+)?$' "
+            + "  AND y ~ '^-?[0-9]+(\\.[0-9]+)?$'");
+
+    // bbox(&&) 조회용 geometry 인덱스
+    jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_place_location "
+        + "ON place USING GIST (location)");
+    // 반경(m) 조회용 geography 표현식 인덱스
+    jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_place_location_geography "
+        + "ON place USING GIST ((CAST(location AS geography)))");
+
+    int namesBackfilled = jdbcTemplate.update("UPDATE place SET place_name = '' WHERE place_name IS NULL");
+    jdbcTemplate.execute("ALTER TABLE place ALTER COLUMN place_name SET NOT NULL");
+
+    log.info("장소 좌표(location) 마이그레이션 완료: 백필 {}건, 이름 없는 장소 {}건", backfilled, namesBackfilled);
+  }
+}
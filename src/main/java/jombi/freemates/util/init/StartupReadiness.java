@@ -0,0 +1,139 @@
+package jombi.freemates.util.init;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import jombi.freemates.model.constant.StartupPhase;
+import jombi.freemates.model.constant.StartupPhaseStatus;
+import jombi.freemates.model.dto.StartupPhaseDto;
+import jombi.freemates.model.dto.StartupReadinessResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 초기화 단계별 상태 / 소요 시간 기록
+ * 모든 requiredForReady 단계가 완료(또는 의도적으로 생략)되어야 준비 완료, 실패한 단계가 있으면 준비 안 됨
+ */
+@Slf4j
+@Component
+public class StartupReadiness {
+
+  private final Map<StartupPhase, PhaseState> states = new EnumMap<>(StartupPhase.class);
+
+  public StartupReadiness() {
+    for (StartupPhase phase : StartupPhase.values()) {
+      states.put(phase, new PhaseState());
+    }
+  }
+
+  /**
+   * 단계 실행 + 상태/소요 시간 기록
+   * 실패해도 예외를 던지지 않음 (다음 단계 진행 여부는 반환값으로 판단)
+   * @return 성공 여부
+   */
+  public boolean run(StartupPhase phase, Runnable work) {
+    PhaseState state = states.get(phase);
+    synchronized (state) {
+      state.status = StartupPhaseStatus.RUNNING;
+      state.startedAt = LocalDateTime.now();
+      state.startNanos = System.nanoTime();
+    }
+    log.info("[초기화] {} 시작", phase.getDescription());
+    try {
+      work.run();
+      finish(phase, StartupPhaseStatus.DONE, null);
+      return true;
+    } catch (Exception e) {
+      log.error("[초기화] {} 실패: {}", phase.getDescription(), e.getMessage(), e);
+      finish(phase, StartupPhaseStatus.FAILED, e.getMessage());
+      return false;
+    }
+  }
+
+  public void skip(StartupPhase phase, String reason) {
+    PhaseState state = states.get(phase);
+    synchronized (state) {
+      state.status = StartupPhaseStatus.SKIPPED;
+      state.message = reason;
+    }
+    log.info("[초기화] {} 생략: {}", phase.getDescription(), reason);
+  }
+
+  public boolean isReady() {
+    return Arrays.stream(StartupPhase.values())
+        .filter(StartupPhase::isRequiredForReady)
+        .allMatch(phase -> status(phase).isSucceeded());
+  }
+
+  public StartupPhaseStatus status(StartupPhase phase) {
+    PhaseState state = states.get(phase);
+    synchronized (state) {
+      return state.status;
+    }
+  }
+
+  public StartupReadinessResponse snapshot() {
+    List<StartupPhaseDto> phases = Arrays.stream(StartupPhase.values())
+        .map(this::toDto)
+        .toList();
+    return StartupReadinessResponse.builder()
+        .ready(isReady())
+        .warming(phases.stream()
+            .filter(dto -> !dto.getStatus().isFinished())
+            .map(StartupPhaseDto::getPhase)
+            .toList())
+        .failed(phases.stream()
+            .filter(dto -> dto.getStatus() == StartupPhaseStatus.FAILED)
+            .map(StartupPhaseDto::getPhase)
+            .toList())
+        .phases(phases)
+        .build();
+  }
+
+  private void finish(StartupPhase phase, StartupPhaseStatus status, String message) {
+    PhaseState state = states.get(phase);
+    long elapsedMillis;
+    synchronized (state) {
+      state.status = status;
+      state.elapsedNanos = System.nanoTime() - state.startNanos;
+      state.message = message;
+      elapsedMillis = state.elapsedNanos / 1_000_000;
+    }
+    log.info("[초기화] {} {} ({}ms)", phase.getDescription(), status.getDescription(), elapsedMillis);
+    if (phase.isRequiredForReady() && isReady()) {
+      log.info("[초기화] 준비 완료 단계가 모두 끝남");
+    } else if (phase.isRequiredForReady() && status == StartupPhaseStatus.FAILED) {
+      log.error("[초기화] 필수 단계 실패로 준비 안 됨: {}", phase.getDescription());
+    }
+  }
+
+  private StartupPhaseDto toDto(StartupPhase phase) {
+    PhaseState state = states.get(phase);
+    synchronized (state) {
+      Long elapsedMillis = null;
+      if (state.status == StartupPhaseStatus.RUNNING) {
+        elapsedMillis = (System.nanoTime() - state.startNanos) / 1_000_000;
+      } else if (state.startedAt != null) {
+        elapsedMillis = state.elapsedNanos / 1_000_000;
+      }
+      return StartupPhaseDto.builder()
+          .phase(phase)
+          .description(phase.getDescription())
+          .status(state.status)
+          .startedAt(state.startedAt)
+          .elapsedMillis(elapsedMillis)
+          .message(state.message)
+          .build();
+    }
+  }
+
+  private static final class PhaseState {
+    private StartupPhaseStatus status = StartupPhaseStatus.PENDING;
+    private LocalDateTime startedAt;
+    private long startNanos;
+    private long elapsedNanos;
+    private String message;
+  }
+}
@@ -0,0 +1,28 @@
+-- 재발급: 제시된 토큰이 현재 토큰일 때만 새 토큰으로 교체
+-- KEYS[1] 기기 토큰 해시(cur: 현재 토큰, prev: 직전 토큰, rotated_at: 교체 시각), KEYS[2] 회원의 기기 목록(점수: 만료 시각)
+-- ARGV[1] 제시된 토큰 해시, ARGV[2] 새 토큰 해시, ARGV[3] TTL(ms), ARGV[4] 기기 ID,
+-- ARGV[5] 현재 시각(ms), ARGV[6] 새 만료 시각(ms), ARGV[7] 동시 재발급 유예 시간(ms)
+-- 반환: 1 교체 성공, 3 유예 시간 내 직전 토큰 재제시(동시 재발급, 토큰 유지),
+--       2 직전 토큰 재사용(기기 토큰 폐기), 0 저장된 토큰 없음
+local cur = redis.call('HGET', KEYS[1], 'cur')
+if not cur then
+  return 0
+end
+if cur == ARGV[1] then
+  redis.call('HSET', KEYS[1], 'cur', ARGV[2], 'prev', ARGV[1], 'rotated_at', ARGV[5])
+  redis.call('PEXPIRE', KEYS[1], ARGV[3])
+  redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[5])
+  redis.call('ZADD', KEYS[2], ARGV[6], ARGV[4])
+  redis.call('PEXPIRE', KEYS[2], ARGV[3])
+  return 1
+end
+if redis.call('HGET', KEYS[1], 'prev') == ARGV[1] then
+  local rotatedAt = tonumber(redis.call('HGET', KEYS[1], 'rotated_at') or '0')
+  if tonumber(ARGV[5]) - rotatedAt <= tonumber(ARGV[7]) then
+    return 3
+  end
+  redis.call('DEL', KEYS[1])
+  redis.call('ZREM', KEYS[2], ARGV[4])
+  return 2
+end
+return 0
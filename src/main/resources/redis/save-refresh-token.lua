@@ -0,0 +1,10 @@
+-- 로그인: 기기의 토큰 정보를 새 토큰으로 초기화하고, 만료된 기기는 기기 목록에서 정리
+-- KEYS[1] 기기 토큰 해시(cur: 현재 토큰, prev: 직전 토큰, rotated_at: 교체 시각), KEYS[2] 회원의 기기 목록(점수: 만료 시각)
+-- ARGV[1] 새 토큰 해시, ARGV[2] TTL(ms), ARGV[3] 기기 ID, ARGV[4] 현재 시각(ms), ARGV[5] 만료 시각(ms)
+redis.call('DEL', KEYS[1])
+redis.call('HSET', KEYS[1], 'cur', ARGV[1])
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[4])
+redis.call('ZADD', KEYS[2], ARGV[5], ARGV[3])
+redis.call('PEXPIRE', KEYS[2], ARGV[2])
+return 1
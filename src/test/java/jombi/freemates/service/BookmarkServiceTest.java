@@ -0,0 +1,106 @@
+package jombi.freemates.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import jombi.freemates.model.constant.PinColor;
+import jombi.freemates.model.constant.Visibility;
+import jombi.freemates.model.dto.BookmarkDto;
+import jombi.freemates.model.dto.CustomUserDetails;
+import jombi.freemates.model.postgres.Bookmark;
+import jombi.freemates.model.postgres.BookmarkPlace;
+import jombi.freemates.model.postgres.Member;
+import jombi.freemates.model.postgres.Place;
+import jombi.freemates.model.postgres.id.BookmarkPlaceId;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+@Transactional
+@Slf4j
+class BookmarkServiceTest {
+
+  // 즐겨찾기(+member) 1, bookmarkPlaces 1, place 1, tags 1
+  private static final long MY_BOOKMARKS_MAX_QUERIES = 4;
+  // 위 + count 1
+  private static final long BOOKMARK_PAGE_MAX_QUERIES = 5;
+
+  @Autowired
+  private BookmarkService bookmarkService;
+
+  @Autowired
+  private EntityManager em;
+
+  private PersistenceTestFixture fixture;
+
+  @BeforeEach
+  void setUp() {
+    fixture = new PersistenceTestFixture(em);
+  }
+
+  @Test
+  public void 내_즐겨찾기_조회_쿼리수_고정() {
+    long small = countQueries(2, 2, member -> bookmarkService.getMyBookmarks(new CustomUserDetails(member)));
+    long large = countQueries(8, 5, member -> bookmarkService.getMyBookmarks(new CustomUserDetails(member)));
+
+    log.info("내 즐겨찾기 조회 쿼리 수: small={}, large={}", small, large);
+    assertEquals(small, large);
+    assertTrue(large <= MY_BOOKMARKS_MAX_QUERIES);
+  }
+
+  @Test
+  public void 즐겨찾기_목록_페이지_조회_쿼리수_고정() {
+    long small = countQueries(2, 2, member -> bookmarkService.getBookmarks(0, 20, Visibility.PUBLIC).getContent());
+    long large = countQueries(8, 5, member -> bookmarkService.getBookmarks(0, 20, Visibility.PUBLIC).getContent());
+
+    log.info("즐겨찾기 목록 페이지 조회 쿼리 수: small={}, large={}", small, large);
+    assertEquals(small, large);
+    assertTrue(large <= BOOKMARK_PAGE_MAX_QUERIES);
+  }
+
+  /**
+   * 회원 1명에 즐겨찾기 bookmarkCount 개, 즐겨찾기마다 장소 placeCount 개(태그 3개씩)를 저장한 뒤
+   * 영속성 컨텍스트를 비우고 조회 시 실행된 SQL 수를 반환
+   */
+  private long countQueries(int bookmarkCount, int placeCount, Function<Member, List<BookmarkDto>> query) {
+    Member member = fixture.saveMember("bookmark");
+    for (int i = 0; i < bookmarkCount; i++) {
+      Bookmark bookmark = Bookmark.builder()
+          .member(member)
+          .title("테스트 즐겨찾기 " + i)
+          .pinColor(PinColor.values()[0])
+          .visibility(Visibility.PUBLIC)
+          .build();
+      em.persist(bookmark);
+      for (int j = 0; j < placeCount; j++) {
+        Place place = fixture.savePlace("테스트 장소");
+        em.persist(BookmarkPlace.builder()
+            .bookmarkPlaceId(new BookmarkPlaceId(bookmark.getBookmarkId(), place.getPlaceId()))
+            .bookmark(bookmark)
+            .place(place)
+            .build());
+      }
+    }
+    Member loginMember = fixture.flushAndReload(member);
+
+    List<BookmarkDto> result = new ArrayList<>();
+    long count = fixture.countStatements(() -> result.addAll(query.apply(loginMember)));
+
+    // 조회된 즐겨찾기 중 이번에 저장한 것은 장소/태그까지 모두 변환되었는지 확인
+    assertTrue(result.stream()
+        .filter(dto -> dto.getMemberId().equals(member.getMemberId()))
+        .allMatch(dto -> dto.getPlaceDtos().size() == placeCount
+            && dto.getPlaceDtos().stream().allMatch(p -> p.getTags().size() == 3)));
+    return count;
+  }
+}
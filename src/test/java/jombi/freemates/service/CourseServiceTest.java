@@ -0,0 +1,213 @@
+package jombi.freemates.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import jombi.freemates.model.constant.Visibility;
+import jombi.freemates.model.dto.CourseDto;
+import jombi.freemates.model.dto.CourseRequest;
+import jombi.freemates.model.dto.CustomUserDetails;
+import jombi.freemates.model.dto.PlaceDto;
+import jombi.freemates.model.postgres.Course;
+import jombi.freemates.model.postgres.CoursePlace;
+import jombi.freemates.model.postgres.Member;
+import jombi.freemates.model.postgres.Place;
+import jombi.freemates.model.postgres.id.CoursePlaceId;
+import jombi.freemates.repository.CoursePlaceRepository;
+import jombi.freemates.util.exception.CustomException;
+import jombi.freemates.util.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+@Transactional
+@Slf4j
+class CourseServiceTest {
+
+  // 코스(+member) 1, 코스 장소(+place) 1, tags 1
+  private static final long COURSE_LIST_MAX_QUERIES = 3;
+  // 위 + count 1
+  private static final long COURSE_PAGE_MAX_QUERIES = 4;
+
+  @Autowired
+  private CourseService courseService;
+
+  @Autowired
+  private CoursePlaceRepository coursePlaceRepository;
+
+  @Autowired
+  private EntityManager em;
+
+  private PersistenceTestFixture fixture;
+
+  @BeforeEach
+  void setUp() {
+    fixture = new PersistenceTestFixture(em);
+  }
+
+  @Test
+  public void 내_코스_조회_쿼리수_고정() {
+    long small = countQueries(2, 2, member -> courseService.getMyCourses(new CustomUserDetails(member)));
+    long large = countQueries(8, 5, member -> courseService.getMyCourses(new CustomUserDetails(member)));
+
+    log.info("내 코스 조회 쿼리 수: small={}, large={}", small, large);
+    assertEquals(small, large);
+    assertTrue(large <= COURSE_LIST_MAX_QUERIES);
+  }
+
+  @Test
+  public void 코스_목록_페이지_조회_쿼리수_고정() {
+    // 페이지 크기를 저장하는 코스 수(2, 8) 이하로 두어 두 경우 모두 페이지가 가득 참 → count 쿼리 1개씩 추가
+    long small = countQueries(2, 2,
+        member -> courseService.getCourses(Visibility.PUBLIC, PageRequest.of(0, 2)).getContent());
+    long large = countQueries(8, 5,
+        member -> courseService.getCourses(Visibility.PUBLIC, PageRequest.of(0, 2)).getContent());
+
+    log.info("코스 목록 페이지 조회 쿼리 수: small={}, large={}", small, large);
+    assertEquals(small, large);
+    assertTrue(large <= COURSE_PAGE_MAX_QUERIES);
+  }
+
+  @Test
+  public void 코스_장소_수정시_변경된_행만_반영() {
+    Member member = fixture.saveMember("course");
+    Course course = saveCourse(member, "A", "B", "C", "D");
+    Place e = fixture.savePlace("E");
+    Member loginMember = fixture.flushAndReload(member);
+
+    // A,B,C,D → C,A,E,D : B 삭제, E 추가, C·A 순서 변경, D 유지
+    List<UUID> placeIds = List.of(placeId(course, "C"), placeId(course, "A"), e.getPlaceId(), placeId(course, "D"));
+    Statistics statistics = fixture.measure(() -> courseService.updateCourse(
+        new CustomUserDetails(loginMember), course.getCourseId(), request(course, placeIds), null));
+
+    assertEquals(1, statistics.getEntityInsertCount());
+    assertEquals(1, statistics.getEntityDeleteCount());
+    assertEquals(2, statistics.getEntityStatistics(CoursePlace.class.getName()).getUpdateCount());
+
+    em.clear();
+    List<CoursePlace> saved = coursePlaceRepository.findAllByCourse(em.find(Course.class, course.getCourseId()));
+    saved.sort(Comparator.comparing(CoursePlace::getSequence));
+    assertEquals(List.of("C", "A", "E", "D"), saved.stream().map(cp -> cp.getPlace().getPlaceName()).toList());
+    assertEquals(List.of(1, 2, 3, 4), saved.stream().map(CoursePlace::getSequence).toList());
+  }
+
+  @Test
+  public void 코스_장소_수정시_중복_또는_없는_장소는_거부() {
+    Member member = fixture.saveMember("course");
+    Course course = saveCourse(member, "A", "B");
+    Member loginMember = fixture.flushAndReload(member);
+    CustomUserDetails user = new CustomUserDetails(loginMember);
+
+    List<UUID> duplicated = List.of(placeId(course, "A"), placeId(course, "A"));
+    CustomException duplicate = assertThrows(CustomException.class,
+        () -> courseService.updateCourse(user, course.getCourseId(), request(course, duplicated), null));
+    assertEquals(ErrorCode.DUPLICATE_PLACE_IN_COURSE, duplicate.getErrorCode());
+
+    List<UUID> unknown = List.of(placeId(course, "A"), UUID.randomUUID());
+    CustomException notFound = assertThrows(CustomException.class,
+        () -> courseService.updateCourse(user, course.getCourseId(), request(course, unknown), null));
+    assertEquals(ErrorCode.PLACE_NOT_FOUND, notFound.getErrorCode());
+  }
+
+  /**
+   * 장소 이름 순서대로 sequence 1.. 을 부여한 코스 저장
+   */
+  private Course saveCourse(Member member, String... placeNames) {
+    Course course = Course.builder()
+        .member(member)
+        .title("수정 테스트 코스")
+        .visibility(Visibility.PUBLIC)
+        .build();
+    em.persist(course);
+    for (int i = 0; i < placeNames.length; i++) {
+      Place place = fixture.savePlace(placeNames[i]);
+      CoursePlace coursePlace = CoursePlace.builder()
+          .coursePlaceId(new CoursePlaceId(course.getCourseId(), place.getPlaceId()))
+          .course(course)
+          .place(place)
+          .sequence(i + 1)
+          .build();
+      em.persist(coursePlace);
+      course.getCoursePlaces().add(coursePlace);
+    }
+    return course;
+  }
+
+  private static UUID placeId(Course course, String placeName) {
+    return course.getCoursePlaces().stream()
+        .filter(cp -> cp.getPlace().getPlaceName().equals(placeName))
+        .findFirst()
+        .orElseThrow()
+        .getPlace()
+        .getPlaceId();
+  }
+
+  /**
+   * 코스 정보는 그대로 두고 장소 목록만 바꾸는 수정 요청
+   */
+  private static CourseRequest request(Course course, List<UUID> placeIds) {
+    return CourseRequest.builder()
+        .title(course.getTitle())
+        .description(course.getDescription())
+        .freeTime(course.getFreeTime())
+        .visibility(course.getVisibility())
+        .placeIds(placeIds)
+        .build();
+  }
+
+  /**
+   * 회원 1명에 코스 courseCount 개, 코스마다 장소 placeCount 개(태그 3개씩)를 sequence 역순으로 저장한 뒤
+   * 영속성 컨텍스트를 비우고 조회 시 실행된 SQL 수를 반환
+   */
+  private long countQueries(int courseCount, int placeCount, Function<Member, List<CourseDto>> query) {
+    Member member = fixture.saveMember("course");
+    for (int i = 0; i < courseCount; i++) {
+      Course course = Course.builder()
+          .member(member)
+          .title("테스트 코스 " + i)
+          .visibility(Visibility.PUBLIC)
+          .build();
+      em.persist(course);
+      for (int sequence = placeCount; sequence >= 1; sequence--) {
+        Place place = fixture.savePlace("테스트 장소 " + sequence);
+        em.persist(CoursePlace.builder()
+            .coursePlaceId(new CoursePlaceId(course.getCourseId(), place.getPlaceId()))
+            .course(course)
+            .place(place)
+            .sequence(sequence)
+            .build());
+      }
+    }
+    Member loginMember = fixture.flushAndReload(member);
+
+    List<CourseDto> result = new ArrayList<>();
+    long count = fixture.countStatements(() -> {
+      result.addAll(query.apply(loginMember));
+      result.forEach(dto -> dto.getPlaceDtos().forEach(p -> p.getTags().size()));
+    });
+
+    // 이번에 저장한 코스는 장소가 sequence 순으로, 태그까지 변환되었는지 확인
+    List<String> expectedNames = IntStream.rangeClosed(1, placeCount).mapToObj(seq -> "테스트 장소 " + seq).toList();
+    assertTrue(result.stream()
+        .filter(dto -> dto.getNickName().equals(member.getNickname()))
+        .allMatch(dto -> dto.getPlaceDtos().stream().map(PlaceDto::getPlaceName).toList().equals(expectedNames)
+            && dto.getPlaceDtos().stream().allMatch(p -> p.getTags().size() == 3)));
+    return count;
+  }
+}
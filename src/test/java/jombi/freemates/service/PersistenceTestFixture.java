@@ -0,0 +1,77 @@
+package jombi.freemates.service;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import jombi.freemates.model.constant.CategoryType;
+import jombi.freemates.model.postgres.Member;
+import jombi.freemates.model.postgres.Place;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * 서비스 테스트 공통: 회원 / 장소 저장, 실행된 SQL 수와 엔티티 변경 수 측정
+ */
+class PersistenceTestFixture {
+
+  private final EntityManager em;
+  private final Statistics statistics;
+
+  PersistenceTestFixture(EntityManager em) {
+    this.em = em;
+    this.statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    this.statistics.setStatisticsEnabled(true);
+  }
+
+  Member saveMember(String prefix) {
+    String suffix = UUID.randomUUID().toString().substring(0, 8);
+    Member member = Member.builder()
+        .username(prefix + "-test-" + suffix)
+        .password("password")
+        .email(prefix + "-test-" + suffix + "@freemates.com")
+        .nickname(prefix + "-" + suffix)
+        .build();
+    em.persist(member);
+    return member;
+  }
+
+  /**
+   * 태그 3개를 가진 장소 저장
+   */
+  Place savePlace(String placeName) {
+    Place place = Place.builder()
+        .kakaoPlaceId(UUID.randomUUID().toString())
+        .placeName(placeName)
+        .categoryType(CategoryType.values()[0])
+        .tags(new ArrayList<>(List.of("태그1", "태그2", "태그3")))
+        .build();
+    em.persist(place);
+    return place;
+  }
+
+  /**
+   * 저장한 데이터를 DB 에 반영하고 영속성 컨텍스트를 비운 뒤, 로그인 회원을 다시 조회
+   */
+  Member flushAndReload(Member member) {
+    em.flush();
+    em.clear();
+    return em.find(Member.class, member.getMemberId());
+  }
+
+  /**
+   * query 실행 중 준비된 SQL 문 수
+   */
+  long countStatements(Runnable query) {
+    return measure(query).getPrepareStatementCount();
+  }
+
+  /**
+   * query 실행 중 누적된 통계 (SQL 수, 엔티티 INSERT / UPDATE / DELETE 수 등)
+   */
+  Statistics measure(Runnable query) {
+    statistics.clear();
+    query.run();
+    return statistics;
+  }
+}
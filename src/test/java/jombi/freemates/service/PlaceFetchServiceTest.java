@@ -0,0 +1,170 @@
+package jombi.freemates.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import jombi.freemates.model.dto.KakaoPlaceDocumentResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+class PlaceFetchServiceTest {
+
+  // PlaceFetchService 와 같은 중심 / 반경 / 경위도 환산값 (루트 타일 경계를 똑같이 계산하기 위함)
+  private static final double CENTER_X = 127.0742595815513;
+  private static final double CENTER_Y = 37.550638892935346;
+  private static final double METERS_PER_DEGREE = 111_320;
+  private static final double ROOT_DX = 10000 / (METERS_PER_DEGREE * Math.cos(Math.toRadians(CENTER_Y)));
+  private static final double ROOT_DY = 10000 / METERS_PER_DEGREE;
+
+  private static final String CODE = "CE7";
+  // 스텁 카카오 API: 사각형 안 장소가 이 수를 넘으면 페이지 상한(675건)을 넘은 것처럼 응답
+  private static final int SATURATED_ABOVE = 3;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final List<double[]> requestedRects = new CopyOnWriteArrayList<>();
+
+  @Test
+  public void 포화된_타일은_4등분하고_경계에_걸친_장소는_한_번만_반환() {
+    double midX = ((CENTER_X - ROOT_DX) + (CENTER_X + ROOT_DX)) / 2;
+    double midY = ((CENTER_Y - ROOT_DY) + (CENTER_Y + ROOT_DY)) / 2;
+    List<KakaoPlaceDocumentResponse> docs = List.of(
+        doc("sw", CENTER_X - ROOT_DX / 2, CENTER_Y - ROOT_DY / 2),
+        doc("se", CENTER_X + ROOT_DX / 2, CENTER_Y - ROOT_DY / 2),
+        doc("nw", CENTER_X - ROOT_DX / 2, CENTER_Y + ROOT_DY / 2),
+        doc("ne", CENTER_X + ROOT_DX / 2, CENTER_Y + ROOT_DY / 2),
+        // 네 자식 타일의 공통 꼭짓점: 모든 자식 rect 조회에 포함됨
+        doc("center", midX, midY)
+    );
+
+    List<KakaoPlaceDocumentResponse> fetched = fetch(docs, 6);
+
+    // 루트 1번 + 자식 4번, 자식은 포화되지 않으므로 더 나누지 않음
+    assertEquals(5, requestedRects.size());
+    assertEquals(1, requestedRects.stream().filter(rect -> Math.abs(width(rect) - 2 * ROOT_DX) < 1e-9).count());
+    assertEquals(List.of("center", "ne", "nw", "se", "sw"), sortedIds(fetched));
+  }
+
+  @Test
+  public void 계속_포화되어도_maxTileDepth_에서_분할을_멈추고_리프로_조회() {
+    List<KakaoPlaceDocumentResponse> docs = new ArrayList<>();
+    for (int i = 0; i < SATURATED_ABOVE + 2; i++) {
+      // 한 점에 몰린 장소: 어떤 깊이에서도 포화 상태
+      docs.add(doc("hot-" + i, CENTER_X + ROOT_DX / 3, CENTER_Y + ROOT_DY / 3));
+    }
+
+    List<KakaoPlaceDocumentResponse> fetched = fetch(docs, 2);
+
+    // 깊이 0(1개) + 깊이 1(4개) + 깊이 2(4개), 깊이 3 타일은 조회하지 않음
+    assertEquals(9, requestedRects.size());
+    double minWidth = requestedRects.stream().mapToDouble(PlaceFetchServiceTest::width).min().orElseThrow();
+    assertEquals(2 * ROOT_DX / 4, minWidth, 1e-12);
+    // 상한에 걸린 리프도 조회 가능한 만큼은 반환
+    assertEquals(docs.size(), fetched.size());
+  }
+
+  @Test
+  public void 반경_밖_모서리_장소는_제외() {
+    List<KakaoPlaceDocumentResponse> docs = List.of(
+        doc("inside", CENTER_X, CENTER_Y),
+        // 루트 사각형 안이지만 반경 10km 밖인 모서리
+        KakaoPlaceDocumentResponse.builder()
+            .id("corner").categoryGroupCode(CODE)
+            .x(Double.toString(CENTER_X + ROOT_DX * 0.95)).y(Double.toString(CENTER_Y + ROOT_DY * 0.95))
+            .distance("13435").build()
+    );
+
+    List<KakaoPlaceDocumentResponse> fetched = fetch(docs, 6);
+
+    assertEquals(List.of("inside"), sortedIds(fetched));
+  }
+
+  private List<KakaoPlaceDocumentResponse> fetch(List<KakaoPlaceDocumentResponse> docs, int maxTileDepth) {
+    WebClient webClient = WebClient.builder()
+        .baseUrl("http://kakao.test")
+        .exchangeFunction(request -> Mono.just(respond(request, docs)))
+        .build();
+    PlaceFetchService placeFetchService = new PlaceFetchService(webClient, 4, 1000, 0, 1, 1, "tile", maxTileDepth);
+    return placeFetchService.fetchPlaces().block(Duration.ofSeconds(30));
+  }
+
+  /**
+   * rect 안에 있는 장소를 1페이지에 모두 담아 응답
+   * SATURATED_ABOVE 를 넘으면 total_count 를 페이지 상한보다 크게 응답
+   */
+  private ClientResponse respond(ClientRequest request, List<KakaoPlaceDocumentResponse> docs) {
+    MultiValueMap<String, String> params = UriComponentsBuilder.fromUri(request.url()).build().getQueryParams();
+    List<KakaoPlaceDocumentResponse> inRect = List.of();
+    if (CODE.equals(params.getFirst("category_group_code"))) {
+      double[] rect = parseRect(params.getFirst("rect"));
+      requestedRects.add(rect);
+      inRect = docs.stream().filter(doc -> contains(rect, doc)).toList();
+    }
+    int totalCount = inRect.size() > SATURATED_ABOVE ? 1000 : inRect.size();
+    Map<String, Object> body = Map.of(
+        "meta", Map.of("total_count", totalCount, "pageable_count", inRect.size(), "is_end", true),
+        "documents", inRect.stream().map(this::toJsonMap).toList()
+    );
+    try {
+      return ClientResponse.create(HttpStatus.OK)
+          .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+          .body(objectMapper.writeValueAsString(body))
+          .build();
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private Map<String, Object> toJsonMap(KakaoPlaceDocumentResponse doc) {
+    return Map.of("id", doc.getId(), "category_group_code", doc.getCategoryGroupCode(),
+        "x", doc.getX(), "y", doc.getY(), "distance", doc.getDistance());
+  }
+
+  private static double[] parseRect(String rect) {
+    String[] parts = rect.split(",");
+    return new double[]{
+        Double.parseDouble(parts[0]), Double.parseDouble(parts[1]),
+        Double.parseDouble(parts[2]), Double.parseDouble(parts[3])
+    };
+  }
+
+  // 카카오 rect 조회처럼 경계를 포함
+  private static boolean contains(double[] rect, KakaoPlaceDocumentResponse doc) {
+    double x = Double.parseDouble(doc.getX());
+    double y = Double.parseDouble(doc.getY());
+    return rect[0] <= x && x <= rect[2] && rect[1] <= y && y <= rect[3];
+  }
+
+  private static double width(double[] rect) {
+    return rect[2] - rect[0];
+  }
+
+  private static KakaoPlaceDocumentResponse doc(String id, double x, double y) {
+    assertTrue(Math.abs(x - CENTER_X) <= ROOT_DX && Math.abs(y - CENTER_Y) <= ROOT_DY);
+    return KakaoPlaceDocumentResponse.builder()
+        .id(id)
+        .categoryGroupCode(CODE)
+        .x(Double.toString(x))
+        .y(Double.toString(y))
+        .distance("0")
+        .build();
+  }
+
+  private static List<String> sortedIds(List<KakaoPlaceDocumentResponse> docs) {
+    return docs.stream().map(KakaoPlaceDocumentResponse::getId).sorted().toList();
+  }
+}
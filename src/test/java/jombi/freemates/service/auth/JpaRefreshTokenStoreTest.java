@@ -0,0 +1,133 @@
+package jombi.freemates.service.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.UUID;
+import jombi.freemates.model.constant.RefreshTokenRotation;
+import jombi.freemates.model.postgres.Member;
+import jombi.freemates.repository.MemberRepository;
+import jombi.freemates.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * rotate 는 REQUIRES_NEW 로 커밋되므로 테스트 트랜잭션 없이 실행하고 직접 정리
+ */
+@SpringBootTest(properties = "freemates.auth.refresh-token-grace-seconds=0")
+@ActiveProfiles("dev")
+@Slf4j
+class JpaRefreshTokenStoreTest {
+
+  @Autowired
+  private JpaRefreshTokenStore jpaRefreshTokenStore;
+
+  @Autowired
+  private RefreshTokenRepository refreshTokenRepository;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private Member member;
+
+  @BeforeEach
+  void setUp() {
+    String suffix = UUID.randomUUID().toString().substring(0, 8);
+    member = memberRepository.save(Member.builder()
+        .username("refresh-test-" + suffix)
+        .password("password")
+        .email("refresh-test-" + suffix + "@freemates.com")
+        .nickname("토큰테스트-" + suffix)
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    jpaRefreshTokenStore.revokeAll(member.getMemberId());
+    memberRepository.delete(member);
+  }
+
+  @Test
+  public void 현재_토큰이면_교체() {
+    jpaRefreshTokenStore.save(member, "device", "h1");
+
+    assertEquals(RefreshTokenRotation.ROTATED, rotate("device", "h1", "h2"));
+    assertEquals("h2", storedHash("device"));
+  }
+
+  @Test
+  public void 교체된_직전_토큰_재사용시_기기_토큰_폐기() {
+    jpaRefreshTokenStore.save(member, "device", "h1");
+    rotate("device", "h1", "h2");
+
+    assertEquals(RefreshTokenRotation.REUSED, rotate("device", "h1", "h3"));
+    // 폐기되었으므로 정상 토큰(h2)으로도 재발급 불가
+    assertEquals(RefreshTokenRotation.NOT_FOUND, rotate("device", "h2", "h3"));
+  }
+
+  @Test
+  public void 유예_시간_내_직전_토큰은_동시_재발급으로_보고_유지() {
+    // 이 테스트의 설정은 유예 시간 0 이므로 유예 시간을 둔 저장소를 직접 생성
+    JpaRefreshTokenStore graceStore = new JpaRefreshTokenStore(refreshTokenRepository, 60);
+    jpaRefreshTokenStore.save(member, "device", "h1");
+    rotate("device", "h1", "h2");
+
+    assertEquals(RefreshTokenRotation.CONCURRENT, transactionTemplate.execute(
+        status -> graceStore.rotate(member.getMemberId(), "device", "h1", "h3")));
+    // 먼저 교체된 토큰은 그대로 사용 가능
+    assertEquals(RefreshTokenRotation.ROTATED, rotate("device", "h2", "h3"));
+  }
+
+  @Test
+  public void 저장된_적_없는_토큰은_NOT_FOUND() {
+    jpaRefreshTokenStore.save(member, "device", "h1");
+
+    assertEquals(RefreshTokenRotation.NOT_FOUND, rotate("device", "unknown", "h2"));
+    assertEquals(RefreshTokenRotation.NOT_FOUND, rotate("other-device", "h1", "h2"));
+    // 기존 토큰은 그대로 유지
+    assertEquals("h1", storedHash("device"));
+  }
+
+  @Test
+  public void 같은_기기로_다시_로그인하면_한_행만_유지() {
+    jpaRefreshTokenStore.save(member, "device", "h1");
+    rotate("device", "h1", "h2");
+    jpaRefreshTokenStore.save(member, "device", "h3");
+
+    assertEquals("h3", storedHash("device"));
+    // 로그인으로 교체 이력이 초기화되므로 이전 토큰은 재사용이 아닌 NOT_FOUND
+    assertEquals(RefreshTokenRotation.NOT_FOUND, rotate("device", "h1", "h4"));
+    assertEquals(1, refreshTokenRepository.findAll().stream()
+        .filter(token -> token.getMember().getMemberId().equals(member.getMemberId()))
+        .count());
+  }
+
+  @Test
+  public void 기기별로_독립적으로_교체() {
+    jpaRefreshTokenStore.save(member, "phone", "p1");
+    jpaRefreshTokenStore.save(member, "laptop", "l1");
+
+    assertEquals(RefreshTokenRotation.ROTATED, rotate("phone", "p1", "p2"));
+    assertEquals(RefreshTokenRotation.REUSED, rotate("phone", "p1", "p3"));
+    // 한 기기의 재사용 탐지가 다른 기기 토큰에는 영향 없음
+    assertEquals(RefreshTokenRotation.ROTATED, rotate("laptop", "l1", "l2"));
+  }
+
+  private RefreshTokenRotation rotate(String deviceId, String presentedHash, String newHash) {
+    return jpaRefreshTokenStore.rotate(member.getMemberId(), deviceId, presentedHash, newHash);
+  }
+
+  private String storedHash(String deviceId) {
+    return refreshTokenRepository.findByMember_MemberIdAndDeviceId(member.getMemberId(), deviceId)
+        .orElseThrow()
+        .getTokenHash();
+  }
+}
@@ -0,0 +1,103 @@
+package jombi.freemates.service.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PrincipalCacheTest {
+
+  private AtomicInteger loads;
+
+  @BeforeEach
+  void setUp() {
+    loads = new AtomicInteger();
+  }
+
+  @Test
+  public void TTL_안에서는_한_번만_로드() {
+    PrincipalCache cache = new PrincipalCache(300, 10, false, null);
+
+    for (int i = 0; i < 5; i++) {
+      assertEquals("A", cache.get("a", loader("A")));
+    }
+    assertEquals(1, loads.get());
+    assertEquals(4, cache.getHits());
+    assertEquals(1, cache.getMisses());
+  }
+
+  @Test
+  public void TTL_이_지나면_다시_로드() {
+    PrincipalCache cache = new PrincipalCache(0, 10, false, null);
+
+    cache.get("a", loader("A"));
+    cache.get("a", loader("A"));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void 최대_크기를_넘으면_가장_오래_사용하지_않은_항목_제거() {
+    PrincipalCache cache = new PrincipalCache(300, 2, false, null);
+
+    cache.get("a", loader("A"));
+    cache.get("b", loader("B"));
+    cache.get("a", loader("A"));
+    cache.get("c", loader("C"));
+    assertEquals(2, cache.size());
+    assertEquals(3, loads.get());
+
+    // b 가 제거되었으므로 다시 로드, a 는 캐시에 남아 있음
+    cache.get("b", loader("B"));
+    assertEquals(4, loads.get());
+    cache.get("c", loader("C"));
+    assertEquals(4, loads.get());
+  }
+
+  @Test
+  public void evict_후에는_다시_로드() {
+    PrincipalCache cache = new PrincipalCache(300, 10, false, null);
+
+    cache.get("a", loader("A"));
+    cache.evict("a");
+    assertEquals("A2", cache.get("a", loader("A2")));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void 로드_중에_evict_되면_로드한_값을_캐시하지_않음() {
+    PrincipalCache cache = new PrincipalCache(300, 10, false, null);
+
+    // 로드 도중 다른 스레드(회원 정보 변경)가 evict 한 상황
+    String stale = cache.get("a", username -> {
+      loads.incrementAndGet();
+      cache.evictLocal(username);
+      return "A-old";
+    });
+    assertEquals("A-old", stale);
+    assertEquals(0, cache.size());
+
+    assertEquals("A-new", cache.get("a", loader("A-new")));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void 로드_실패는_캐시하지_않음() {
+    PrincipalCache cache = new PrincipalCache(300, 10, false, null);
+
+    assertThrows(IllegalStateException.class, () -> cache.get("a", username -> {
+      throw new IllegalStateException("회원 없음");
+    }));
+    assertEquals(0, cache.size());
+    assertEquals("A", cache.get("a", loader("A")));
+  }
+
+  private Function<String, String> loader(String value) {
+    return username -> {
+      loads.incrementAndGet();
+      return value;
+    };
+  }
+}
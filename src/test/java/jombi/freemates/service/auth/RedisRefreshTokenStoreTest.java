@@ -0,0 +1,131 @@
+package jombi.freemates.service.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import jombi.freemates.model.constant.RefreshTokenRotation;
+import jombi.freemates.model.postgres.Member;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 회원 ID 를 매번 새로 만들어 다른 데이터와 키가 겹치지 않게 하고, 끝나면 revokeAll 로 정리
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+@Slf4j
+class RedisRefreshTokenStoreTest {
+
+  @Autowired
+  private StringRedisTemplate stringRedisTemplate;
+
+  private RedisRefreshTokenStore store;
+  private RedisRefreshTokenStore graceStore;
+  private Member member;
+
+  @BeforeEach
+  void setUp() {
+    store = new RedisRefreshTokenStore(stringRedisTemplate, 0);
+    graceStore = new RedisRefreshTokenStore(stringRedisTemplate, 60);
+    member = Member.builder().memberId(UUID.randomUUID()).build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    store.revokeAll(member.getMemberId());
+  }
+
+  @Test
+  public void 현재_토큰이면_교체() {
+    store.save(member, "device", "h1");
+
+    assertEquals(RefreshTokenRotation.ROTATED, rotate(store, "device", "h1", "h2"));
+    assertEquals("h2", stringRedisTemplate.opsForHash().get(tokenKey("device"), "cur"));
+  }
+
+  @Test
+  public void 교체된_직전_토큰_재사용시_기기_토큰_폐기() {
+    store.save(member, "device", "h1");
+    rotate(store, "device", "h1", "h2");
+
+    assertEquals(RefreshTokenRotation.REUSED, rotate(store, "device", "h1", "h3"));
+    assertFalse(Boolean.TRUE.equals(stringRedisTemplate.hasKey(tokenKey("device"))));
+    assertNull(stringRedisTemplate.opsForZSet().score(devicesKey(), "device"));
+    assertEquals(RefreshTokenRotation.NOT_FOUND, rotate(store, "device", "h2", "h3"));
+  }
+
+  @Test
+  public void 유예_시간_내_직전_토큰은_동시_재발급으로_보고_유지() {
+    graceStore.save(member, "device", "h1");
+    rotate(graceStore, "device", "h1", "h2");
+
+    assertEquals(RefreshTokenRotation.CONCURRENT, rotate(graceStore, "device", "h1", "h3"));
+    // 먼저 교체된 토큰은 그대로 사용 가능
+    assertEquals(RefreshTokenRotation.ROTATED, rotate(graceStore, "device", "h2", "h3"));
+  }
+
+  @Test
+  public void 저장된_적_없는_토큰은_NOT_FOUND() {
+    store.save(member, "device", "h1");
+
+    assertEquals(RefreshTokenRotation.NOT_FOUND, rotate(store, "device", "unknown", "h2"));
+    assertEquals(RefreshTokenRotation.NOT_FOUND, rotate(store, "other-device", "h1", "h2"));
+    assertEquals("h1", stringRedisTemplate.opsForHash().get(tokenKey("device"), "cur"));
+  }
+
+  @Test
+  public void 여러_번_교체해도_직전_토큰_하나만_보관() {
+    store.save(member, "device", "h0");
+    for (int i = 0; i < 10; i++) {
+      rotate(store, "device", "h" + i, "h" + (i + 1));
+    }
+
+    // cur, prev, rotated_at
+    assertEquals(3L, stringRedisTemplate.opsForHash().size(tokenKey("device")));
+    assertEquals("h9", stringRedisTemplate.opsForHash().get(tokenKey("device"), "prev"));
+  }
+
+  @Test
+  public void 로그인시_만료된_기기는_목록에서_정리() {
+    stringRedisTemplate.opsForZSet().add(devicesKey(), "expired-device", System.currentTimeMillis() - 1000);
+
+    store.save(member, "device", "h1");
+
+    assertNull(stringRedisTemplate.opsForZSet().score(devicesKey(), "expired-device"));
+    assertTrue(stringRedisTemplate.opsForZSet().score(devicesKey(), "device") > System.currentTimeMillis());
+  }
+
+  @Test
+  public void 탈퇴시_모든_기기_토큰_폐기() {
+    store.save(member, "phone", "p1");
+    store.save(member, "laptop", "l1");
+
+    store.revokeAll(member.getMemberId());
+
+    assertEquals(RefreshTokenRotation.NOT_FOUND, rotate(store, "phone", "p1", "p2"));
+    assertEquals(RefreshTokenRotation.NOT_FOUND, rotate(store, "laptop", "l1", "l2"));
+    assertFalse(Boolean.TRUE.equals(stringRedisTemplate.hasKey(devicesKey())));
+  }
+
+  private RefreshTokenRotation rotate(RedisRefreshTokenStore target, String deviceId, String presentedHash,
+      String newHash) {
+    return target.rotate(member.getMemberId(), deviceId, presentedHash, newHash);
+  }
+
+  private String tokenKey(String deviceId) {
+    return "refresh:" + member.getMemberId() + ":" + deviceId;
+  }
+
+  private String devicesKey() {
+    return "refresh:devices:" + member.getMemberId();
+  }
+}
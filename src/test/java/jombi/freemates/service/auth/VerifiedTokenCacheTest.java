@@ -0,0 +1,125 @@
+package jombi.freemates.service.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import jombi.freemates.util.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+
+class VerifiedTokenCacheTest {
+
+  private VerifiedTokenCache cache;
+  private AtomicInteger verifyCalls;
+  private long now;
+
+  @BeforeEach
+  void setUp() {
+    cache = new VerifiedTokenCache(10, false, null);
+    verifyCalls = new AtomicInteger();
+    // iat 는 초 단위이므로 기준 시각도 초 단위로 맞춤
+    now = System.currentTimeMillis() / 1000 * 1000;
+  }
+
+  @Test
+  public void 같은_토큰은_한_번만_서명_검증() {
+    Function<String, Optional<Claims>> verifier = verifier(claims("u", "d1", now - 2000));
+
+    for (int i = 0; i < 5; i++) {
+      assertTrue(cache.verify("t1", verifier).isPresent());
+    }
+    assertEquals(1, verifyCalls.get());
+    assertEquals(4, cache.getHits());
+    assertEquals(1, cache.getMisses());
+  }
+
+  @Test
+  public void 회원_전체_폐기시_모든_기기의_이전_토큰_거부() {
+    cache.verify("t1", verifier(claims("u", "d1", now - 2000)));
+    cache.verify("t2", verifier(claims("u", "d2", now - 2000)));
+
+    cache.revoke("u");
+
+    assertFalse(cache.verify("t1", verifier(claims("u", "d1", now - 2000))).isPresent());
+    assertFalse(cache.verify("t2", verifier(claims("u", "d2", now - 2000))).isPresent());
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void 기기_단위_폐기시_다른_기기_토큰은_유지() {
+    cache.verify("t1", verifier(claims("u", "d1", now - 2000)));
+    cache.verify("t2", verifier(claims("u", "d2", now - 2000)));
+
+    cache.revoke("u", "d1", now);
+
+    assertFalse(cache.verify("t1", verifier(claims("u", "d1", now - 2000))).isPresent());
+    int callsBefore = verifyCalls.get();
+    assertTrue(cache.verify("t2", verifier(claims("u", "d2", now - 2000))).isPresent());
+    // 다른 기기 토큰은 캐시에 그대로 남아 있어야 함
+    assertEquals(callsBefore, verifyCalls.get());
+  }
+
+  @Test
+  public void 폐기_기준_시각_이후_발급된_새_토큰은_허용() {
+    cache.revoke("u", "d1", now);
+
+    // 같은 초에 발급된 새 토큰
+    assertTrue(cache.verify("t-new", verifier(claims("u", "d1", now))).isPresent());
+    // 기준 시각 이전 초에 발급된 토큰
+    assertFalse(cache.verify("t-old", verifier(claims("u", "d1", now - 1000))).isPresent());
+  }
+
+  @Test
+  public void 다른_서버의_기기_단위_폐기_메시지_반영() {
+    cache.verify("t1", verifier(claims("u", "d1", now - 2000)));
+    cache.verify("t2", verifier(claims("u", "d2", now - 2000)));
+
+    cache.onMessage(message(now + ":u\nd1"), null);
+
+    assertFalse(cache.verify("t1", verifier(claims("u", "d1", now - 2000))).isPresent());
+    assertTrue(cache.verify("t2", verifier(claims("u", "d2", now - 2000))).isPresent());
+  }
+
+  @Test
+  public void 만료된_토큰은_캐시하지_않음() {
+    Claims expired = claims("u", "d1", now - 2000);
+    expired.setExpiration(new Date(now - 1000));
+
+    cache.verify("t1", verifier(expired));
+    assertFalse(cache.verify("t1", token -> {
+      verifyCalls.incrementAndGet();
+      return Optional.empty();
+    }).isPresent());
+    assertEquals(2, verifyCalls.get());
+  }
+
+  private Function<String, Optional<Claims>> verifier(Claims claims) {
+    return token -> {
+      verifyCalls.incrementAndGet();
+      return Optional.of(claims);
+    };
+  }
+
+  private static Claims claims(String username, String deviceId, long issuedAtMillis) {
+    Claims claims = Jwts.claims().setSubject(username);
+    claims.setIssuedAt(new Date(issuedAtMillis));
+    claims.setExpiration(new Date(issuedAtMillis + 60_000));
+    claims.put(JwtUtil.DEVICE_ID_CLAIM, deviceId);
+    return claims;
+  }
+
+  private static Message message(String body) {
+    return new DefaultMessage(
+        VerifiedTokenCache.REVOKE_CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+  }
+}
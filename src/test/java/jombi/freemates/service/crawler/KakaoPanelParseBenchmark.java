@@ -0,0 +1,125 @@
+package jombi.freemates.service.crawler;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import jombi.freemates.model.dto.KakaoPlaceCrawlDetail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 카카오 panel3 응답 파싱 비교
+ * - tree: 기존 방식 (본문 전체를 String 으로 버퍼링 → Gson JsonObject 트리 → 필요한 필드 추출)
+ * - streaming: KakaoPanelParser (스트림에서 필요한 경로만 읽음)
+ * 할당량 비교는 gc 프로파일러의 gc.alloc.rate.norm (B/op) 참고
+ * 실행: ./gradlew jmh -Pbenchmark=KakaoPanelParseBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KakaoPanelParseBenchmark {
+
+  @Param({"kakao/panel3-cafe.json", "kakao/panel3-no-store.json"})
+  private String payload;
+
+  private byte[] body;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    try (InputStream in = getClass().getClassLoader().getResourceAsStream(payload)) {
+      body = Objects.requireNonNull(in, payload).readAllBytes();
+    }
+    // 두 방식의 결과가 같은지 먼저 확인
+    KakaoPlaceCrawlDetail tree = tree();
+    KakaoPlaceCrawlDetail streaming = streaming();
+    if (!Objects.equals(tree.getImageUrl(), streaming.getImageUrl())
+        || !Objects.equals(tree.getIntroText(), streaming.getIntroText())
+        || !Objects.equals(tree.getTags(), streaming.getTags())) {
+      throw new IllegalStateException("파싱 결과 불일치: " + payload);
+    }
+  }
+
+  @Benchmark
+  public KakaoPlaceCrawlDetail tree() throws IOException {
+    String text;
+    try (Reader reader = reader()) {
+      StringBuilder sb = new StringBuilder(body.length);
+      char[] buf = new char[8192];
+      int n;
+      while ((n = reader.read(buf)) != -1) {
+        sb.append(buf, 0, n);
+      }
+      text = sb.toString();
+    }
+    JsonObject panel = JsonParser.parseString(text).getAsJsonObject();
+
+    String introText = "";
+    String imgUrl = "";
+    if (panel.has("my_store") && panel.get("my_store").isJsonObject()) {
+      JsonObject myStore = panel.getAsJsonObject("my_store");
+      if (myStore.has("mystore_intro")) {
+        introText = myStore.get("mystore_intro").getAsString();
+      }
+      if (myStore.has("main_photo_url")) {
+        imgUrl = myStore.get("main_photo_url").getAsString();
+      }
+    }
+    List<String> tags = new ArrayList<>();
+    if (panel.has("place_add_info") && panel.get("place_add_info").isJsonObject()) {
+      JsonObject addInfo = panel.getAsJsonObject("place_add_info");
+      if (addInfo.has("tags") && addInfo.get("tags").isJsonArray()) {
+        JsonArray tagsArray = addInfo.getAsJsonArray("tags");
+        for (JsonElement el : tagsArray) {
+          tags.add(el.getAsString());
+        }
+      }
+    }
+    return new KakaoPlaceCrawlDetail(imgUrl, introText, tags);
+  }
+
+  @Benchmark
+  public KakaoPlaceCrawlDetail streaming() throws IOException {
+    return KakaoPanelParser.parse(reader());
+  }
+
+  // OkHttp ResponseBody.charStream() 과 같은 형태의 입력
+  private Reader reader() {
+    return new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(KakaoPanelParseBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build()
+    ).run();
+  }
+}
@@ -0,0 +1,136 @@
+package jombi.freemates.service.crawler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import jombi.freemates.model.constant.CrawlStatus;
+import jombi.freemates.model.dto.KakaoPlaceCrawlDetail;
+import jombi.freemates.model.postgres.Place;
+import jombi.freemates.model.postgres.PlaceCrawlState;
+import jombi.freemates.repository.PlaceCrawlStateRepository;
+import jombi.freemates.repository.PlaceRepository;
+import jombi.freemates.service.crawler.ParallelKakaoCrawler.CrawlBatch;
+import jombi.freemates.service.crawler.PlaceCrawlService.CrawlResult;
+import jombi.freemates.util.PlaceHashUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class PlaceCrawlServiceTest {
+
+  private final PlaceRepository placeRepository = mock(PlaceRepository.class);
+  private final PlaceCrawlStateRepository placeCrawlStateRepository = mock(PlaceCrawlStateRepository.class);
+  private final ParallelKakaoCrawler parallelKakaoCrawler = mock(ParallelKakaoCrawler.class);
+
+  private PlaceCrawlService placeCrawlService;
+
+  private final Place changedPlace = place(1, "kakao-1");
+  private final Place unchangedPlace = place(2, "kakao-2");
+  private final Place failedPlace = place(3, "kakao-3");
+  private final Place deferredPlace = place(4, "kakao-4");
+  private final Place noKakaoIdPlace = place(5, null);
+
+  private final KakaoPlaceCrawlDetail unchangedDetail = KakaoPlaceCrawlDetail.builder()
+      .imageUrl("img-2").introText("소개").tags(new ArrayList<>(List.of("조용한"))).build();
+
+  private final PlaceCrawlState unchangedState = PlaceCrawlState.builder()
+      .placeId(unchangedPlace.getPlaceId())
+      .status(CrawlStatus.SUCCESS)
+      .contentHash(PlaceHashUtil.crawlHash(unchangedDetail))
+      .build();
+  private final PlaceCrawlState failedState = failedState(failedPlace, 1);
+  private final PlaceCrawlState deferredState = failedState(deferredPlace, 2);
+
+  @BeforeEach
+  void setUp() {
+    placeCrawlService = new PlaceCrawlService(
+        placeRepository, placeCrawlStateRepository, parallelKakaoCrawler, mock(KakaoCrawler.class),
+        mock(PlatformTransactionManager.class), 100, 7, 60, 1440, 5, true);
+
+    List<Place> places = List.of(changedPlace, unchangedPlace, failedPlace, deferredPlace, noKakaoIdPlace);
+    List<UUID> placeIds = places.stream().map(Place::getPlaceId).toList();
+    when(placeCrawlStateRepository.findPlaceIdsToCrawl(any(UUID.class), any(LocalDateTime.class),
+        any(LocalDateTime.class), anyInt(), any(Limit.class)))
+        .thenReturn(placeIds)
+        .thenReturn(List.of());
+    when(placeRepository.findAllById(placeIds)).thenReturn(places);
+    when(placeCrawlStateRepository.findAllById(placeIds))
+        .thenReturn(List.of(unchangedState, failedState, deferredState));
+
+    KakaoPlaceCrawlDetail changedDetail = KakaoPlaceCrawlDetail.builder()
+        .imageUrl("img-1").introText("새 소개").tags(new ArrayList<>(List.of("데이트"))).build();
+    when(parallelKakaoCrawler.crawlAll(any())).thenReturn(new CrawlBatch(
+        Map.of("kakao-1", changedDetail, "kakao-2", unchangedDetail),
+        Map.of("kakao-3", new IllegalStateException("패널 없음")),
+        Set.of("kakao-4")
+    ));
+  }
+
+  @Test
+  public void 변경_변경없음_실패_보류를_각각_집계() {
+    CrawlResult result = placeCrawlService.crawlStalePlaces();
+
+    // 보류된 장소와 카카오 ID 가 없는 장소는 crawled 에 포함되지 않음
+    assertEquals(new CrawlResult(3, 1, 1, 1, 1), result);
+    assertEquals("img-1", changedPlace.getImageUrl());
+  }
+
+  @Test
+  public void 보류된_장소는_실패_횟수와_상태를_그대로_유지() {
+    placeCrawlService.crawlStalePlaces();
+
+    assertEquals(CrawlStatus.FAILED, deferredState.getStatus());
+    assertEquals(2, deferredState.getFailureCount());
+    assertNull(deferredState.getLastErrorClass());
+
+    // 실제로 실패한 장소만 실패 횟수가 늘어남
+    assertEquals(2, failedState.getFailureCount());
+    assertEquals("IllegalStateException", failedState.getLastErrorClass());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void 보류된_장소의_상태는_저장하지_않고_이번_실행을_중단() {
+    placeCrawlService.crawlStalePlaces();
+
+    ArgumentCaptor<List<PlaceCrawlState>> saved = ArgumentCaptor.forClass(List.class);
+    verify(placeCrawlStateRepository).saveAll(saved.capture());
+    assertEquals(
+        Set.of(changedPlace.getPlaceId(), unchangedPlace.getPlaceId(), failedPlace.getPlaceId()),
+        Set.copyOf(saved.getValue().stream().map(PlaceCrawlState::getPlaceId).toList()));
+
+    // 보류가 생긴 청크 이후에는 다음 청크를 조회하지 않음
+    verify(placeCrawlStateRepository, times(1)).findPlaceIdsToCrawl(any(UUID.class), any(LocalDateTime.class),
+        any(LocalDateTime.class), anyInt(), any(Limit.class));
+  }
+
+  private static Place place(long id, String kakaoPlaceId) {
+    return Place.builder()
+        .placeId(new UUID(0L, id))
+        .kakaoPlaceId(kakaoPlaceId)
+        .placeName("장소" + id)
+        .build();
+  }
+
+  private static PlaceCrawlState failedState(Place place, int failureCount) {
+    return PlaceCrawlState.builder()
+        .placeId(place.getPlaceId())
+        .status(CrawlStatus.FAILED)
+        .failureCount(failureCount)
+        .build();
+  }
+}
@@ -0,0 +1,67 @@
+package jombi.freemates.service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.UUID;
+import jombi.freemates.model.dto.PlaceDto;
+import org.junit.jupiter.api.Test;
+
+class PlaceCountersTest {
+
+  @Test
+  public void 스냅샷_이후_변경_이벤트를_반영() {
+    PlaceDto place = place(3L, 10L);
+    PlaceCounters counters = new PlaceCounters();
+    counters.onPlaceSnapshot(new PlaceSnapshotEvent(List.of(place)));
+
+    counters.onCountChanged(new PlaceCountChangedEvent(place.getPlaceId(), 1, 0));
+    counters.onCountChanged(new PlaceCountChangedEvent(place.getPlaceId(), 1, 2));
+
+    PlaceDto applied = counters.apply(place);
+    assertEquals(5L, applied.getLikeCount());
+    assertEquals(12L, applied.getViewCount());
+    // 인덱스가 보관한 원본 DTO 는 바뀌지 않음
+    assertEquals(3L, place.getLikeCount());
+  }
+
+  @Test
+  public void 새_스냅샷은_DB_값으로_초기화() {
+    PlaceDto place = place(3L, 0L);
+    PlaceCounters counters = new PlaceCounters();
+    counters.onPlaceSnapshot(new PlaceSnapshotEvent(List.of(place)));
+    counters.onCountChanged(new PlaceCountChangedEvent(place.getPlaceId(), 1, 0));
+
+    counters.onPlaceSnapshot(new PlaceSnapshotEvent(List.of(place.toBuilder().likeCount(7L).build())));
+
+    assertEquals(7L, counters.apply(place).getLikeCount());
+  }
+
+  @Test
+  public void 스냅샷에_없는_장소는_그대로_반환() {
+    PlaceCounters counters = new PlaceCounters();
+    counters.onPlaceSnapshot(new PlaceSnapshotEvent(List.of(place(1L, 1L))));
+    PlaceDto unknown = place(null, null);
+
+    counters.onCountChanged(new PlaceCountChangedEvent(unknown.getPlaceId(), 1, 1));
+
+    assertSame(unknown, counters.apply(unknown));
+  }
+
+  @Test
+  public void 카운트는_0_아래로_내려가지_않음() {
+    PlaceDto place = place(0L, null);
+    PlaceCounters counters = new PlaceCounters();
+    counters.onPlaceSnapshot(new PlaceSnapshotEvent(List.of(place)));
+
+    counters.onCountChanged(new PlaceCountChangedEvent(place.getPlaceId(), -1, 0));
+
+    assertEquals(0L, counters.apply(place).getLikeCount());
+    assertEquals(0L, counters.apply(place).getViewCount());
+  }
+
+  private static PlaceDto place(Long likeCount, Long viewCount) {
+    return PlaceDto.builder().placeId(UUID.randomUUID()).likeCount(likeCount).viewCount(viewCount).build();
+  }
+}
@@ -0,0 +1,137 @@
+package jombi.freemates.service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import jombi.freemates.model.dto.PlaceDto;
+import org.junit.jupiter.api.Test;
+
+class PlaceGridIndexTest {
+
+  @Test
+  public void 빌드_전에는_빈_결과() {
+    PlaceGridIndex index = new PlaceGridIndex();
+
+    assertFalse(index.isReady());
+    assertTrue(index.findWithin(127.0, 37.5, 1).isEmpty());
+  }
+
+  /**
+   * 셀 키는 (cx << 32) | cy 를 부호 있는 long 으로 정렬하므로 음수 cx / cy 가 섞인 셀 배치에서도 이진 탐색이 맞아야 함
+   */
+  @Test
+  public void 원점을_둘러싼_음수_셀도_각각_조회() {
+    PlaceDto west = place("-0.0005", "-0.0005");   // (cx, cy) = (-1, -1)
+    PlaceDto middle = place("0.0005", "-0.0005");  // (0, -1)
+    PlaceDto east = place("0.0015", "-0.0005");    // (1, -1)
+    PlaceDto north = place("0.0005", "0.0005");    // (0, 0)
+    PlaceGridIndex index = index(west, middle, east, north);
+
+    assertEquals(ids(west), ids(index.findWithin(-0.0005, -0.0005, 0)));
+    assertEquals(ids(middle), ids(index.findWithin(0.0005, -0.0005, 0)));
+    assertEquals(ids(east), ids(index.findWithin(0.0015, -0.0005, 0)));
+    assertEquals(ids(north), ids(index.findWithin(0.0005, 0.0005, 0)));
+    assertEquals(ids(west, middle, east, north), ids(index.findWithin(0.0005, 0, 0.001)));
+  }
+
+  /**
+   * 조회 범위 [-0.001, 0] 의 양 끝이 모두 셀 경계: floor 로 내림해야 -0.001 이 셀 -1 에 들어감
+   */
+  @Test
+  public void 셀_경계에_놓인_장소는_범위_끝이어도_포함() {
+    PlaceDto onLowerEdge = place("-0.001", "0");
+    PlaceDto onUpperEdge = place("0", "0");
+    PlaceDto justOutsideLower = place("-0.0011", "0");
+    PlaceDto justOutsideUpper = place("0.0000001", "0");
+    PlaceGridIndex index = index(onLowerEdge, onUpperEdge, justOutsideLower, justOutsideUpper);
+
+    assertEquals(ids(onLowerEdge, onUpperEdge), ids(index.findWithin(-0.0005, 0, 0.0005)));
+  }
+
+  @Test
+  public void 같은_셀의_장소는_CSR_구간으로_모두_반환되고_이웃_셀과_섞이지_않음() {
+    PlaceDto a = place("127.0001", "37.5001");
+    PlaceDto b = place("127.0001", "37.5001");
+    PlaceDto c = place("127.0009", "37.5009");
+    // 바로 옆 셀
+    PlaceDto neighbor = place("127.0011", "37.5001");
+    PlaceGridIndex index = index(a, b, c, neighbor);
+
+    assertEquals(ids(a, b), ids(index.findWithin(127.0001, 37.5001, 0)));
+    assertEquals(ids(a, b, c), ids(index.findWithin(127.0005, 37.5005, 0.00045)));
+  }
+
+  @Test
+  public void 사이에_빈_셀이_있어도_양쪽_장소를_조회() {
+    PlaceDto left = place("127.0005", "37.5005");
+    PlaceDto right = place("127.0095", "37.5005");
+    PlaceGridIndex index = index(left, right);
+
+    assertEquals(ids(left, right), ids(index.findWithin(127.005, 37.5005, 0.0046)));
+  }
+
+  /**
+   * ±0.02 범위는 41 × 41 셀로 MAX_CELL_SCAN 을 넘어 전체 스캔으로 전환되지만, 범위 필터는 그대로 적용
+   */
+  @Test
+  public void 전체_스캔으로_전환되어도_범위_밖_장소는_제외() {
+    PlaceDto inside = place("0.019", "-0.019");
+    PlaceDto onEdge = place("-0.02", "0.02");
+    PlaceDto outside = place("0.021", "0");
+    PlaceGridIndex index = index(inside, onEdge, outside);
+
+    assertEquals(ids(inside, onEdge), ids(index.findWithin(0, 0, 0.02)));
+  }
+
+  @Test
+  public void 좌표가_없거나_잘못된_장소는_제외() {
+    List<PlaceDto> places = new ArrayList<>();
+    places.add(place("127.0", "37.5"));
+    places.add(place(null, "37.5"));
+    places.add(place("abc", "37.5"));
+    places.add(place("127.0", null));
+    PlaceGridIndex index = new PlaceGridIndex();
+    index.rebuild(places);
+
+    assertEquals(1, index.size());
+    assertEquals(ids(places.get(0)), ids(index.findWithin(127.0, 37.5, 0.0001)));
+  }
+
+  @Test
+  public void 다시_빌드하면_이전_장소는_조회되지_않음() {
+    PlaceDto before = place("127.0", "37.5");
+    PlaceDto after = place("127.0", "37.5");
+    PlaceGridIndex index = index(before);
+
+    index.rebuild(List.of(after));
+
+    assertEquals(ids(after), ids(index.findWithin(127.0, 37.5, 0)));
+  }
+
+  private static PlaceGridIndex index(PlaceDto... places) {
+    PlaceGridIndex index = new PlaceGridIndex();
+    index.rebuild(List.of(places));
+    return index;
+  }
+
+  private static Set<UUID> ids(PlaceDto... places) {
+    return ids(List.of(places));
+  }
+
+  private static Set<UUID> ids(List<PlaceDto> places) {
+    Set<UUID> ids = places.stream().map(PlaceDto::getPlaceId).collect(Collectors.toSet());
+    // 같은 장소가 두 번 나오면 안 됨
+    assertEquals(places.size(), ids.size());
+    return ids;
+  }
+
+  private static PlaceDto place(String x, String y) {
+    return PlaceDto.builder().placeId(UUID.randomUUID()).x(x).y(y).build();
+  }
+}
@@ -0,0 +1,161 @@
+package jombi.freemates.service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import jombi.freemates.model.constant.CategoryType;
+import jombi.freemates.model.dto.PlaceDto;
+import jombi.freemates.service.index.PlaceKdTree.Neighbor;
+import jombi.freemates.util.GeoUtil;
+import org.junit.jupiter.api.Test;
+
+class PlaceKdTreeTest {
+
+  private static final double BASE_X = 127.0;
+  private static final double BASE_Y = 37.5;
+
+  @Test
+  public void 빌드_전이나_limit_0_이면_빈_결과() {
+    PlaceKdTree tree = new PlaceKdTree();
+    assertTrue(tree.nearest(BASE_X, BASE_Y, 1000, 10, null).isEmpty());
+
+    tree.rebuild(List.of(place(BASE_X, BASE_Y, CategoryType.CAFE)));
+    assertTrue(tree.nearest(BASE_X, BASE_Y, 1000, 0, null).isEmpty());
+  }
+
+  /**
+   * 힙이 꽉 찬 뒤 들어오는 같은 거리 후보는 교체하지 않으므로, 동률 묶음이 limit 에서 잘려도 개수와 거리는 정확해야 함
+   */
+  @Test
+  public void 힙_경계의_동률_후보는_limit_개까지만_반환() {
+    PlaceDto closest = place(BASE_X + 0.0001, BASE_Y, CategoryType.CAFE);
+    List<PlaceDto> places = new ArrayList<>(List.of(closest));
+    for (int i = 0; i < 5; i++) {
+      places.add(place(BASE_X + 0.001, BASE_Y, CategoryType.CAFE));
+    }
+    PlaceKdTree tree = tree(places);
+    double tieDistance = GeoUtil.haversineMeters(BASE_X, BASE_Y, BASE_X + 0.001, BASE_Y);
+
+    List<Neighbor> result = tree.nearest(BASE_X, BASE_Y, 1000, 3, null);
+
+    assertEquals(3, result.size());
+    assertEquals(closest.getPlaceId(), result.get(0).place().getPlaceId());
+    assertEquals(tieDistance, result.get(1).distanceMeters(), 1e-6);
+    assertEquals(tieDistance, result.get(2).distanceMeters(), 1e-6);
+    assertEquals(3, ids(result).size());
+  }
+
+  /**
+   * 모든 좌표가 같으면 quickselect 가 매 분할마다 피벗과 같은 값만 만나게 됨
+   */
+  @Test
+  public void 같은_좌표가_많아도_빌드되고_모두_조회() {
+    List<PlaceDto> places = new ArrayList<>();
+    for (int i = 0; i < 257; i++) {
+      places.add(place(BASE_X, BASE_Y, CategoryType.FOOD));
+    }
+    PlaceKdTree tree = tree(places);
+
+    List<Neighbor> result = tree.nearest(BASE_X, BASE_Y, 0, 1000, null);
+
+    assertEquals(places.size(), result.size());
+    assertEquals(places.stream().map(PlaceDto::getPlaceId).collect(Collectors.toSet()), ids(result));
+    result.forEach(neighbor -> assertEquals(0, neighbor.distanceMeters(), 1e-6));
+  }
+
+  @Test
+  public void 반경_경계는_하버사인_거리로_판정() {
+    PlaceDto edge = place(BASE_X + 0.01, BASE_Y + 0.01, CategoryType.CAFE);
+    PlaceKdTree tree = tree(List.of(edge));
+    double distance = GeoUtil.haversineMeters(BASE_X, BASE_Y, BASE_X + 0.01, BASE_Y + 0.01);
+
+    assertEquals(1, tree.nearest(BASE_X, BASE_Y, distance * (1 + 1e-9), 10, null).size());
+    assertTrue(tree.nearest(BASE_X, BASE_Y, distance * (1 - 1e-9), 10, null).isEmpty());
+  }
+
+  /**
+   * 분할 평면 반대편의 장소가 더 가까운 경우: 평면까지 거리로 가지치기하더라도 반대쪽 서브트리를 확인해야 함
+   * 경도 한 줄에 놓인 장소 사이, 줄에서 살짝 벗어난 지점에서 조회
+   */
+  @Test
+  public void 분할_평면_건너편의_최근접_장소도_찾음() {
+    List<PlaceDto> places = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      places.add(place(BASE_X + i * 0.001, BASE_Y, CategoryType.CAFE));
+    }
+    PlaceKdTree tree = tree(places);
+
+    for (int i = 0; i < 63; i++) {
+      double x = BASE_X + i * 0.001 + 0.0004;
+      List<Neighbor> result = tree.nearest(x, BASE_Y + 0.0001, 10_000, 2, null);
+
+      assertEquals(places.get(i).getPlaceId(), result.get(0).place().getPlaceId(), "i=" + i);
+      assertEquals(places.get(i + 1).getPlaceId(), result.get(1).place().getPlaceId(), "i=" + i);
+    }
+  }
+
+  /**
+   * 단위 구 좌표는 경도 ±180° 가 이어져 있으므로 날짜 변경선 건너편 장소도 가까운 장소로 조회
+   */
+  @Test
+  public void 날짜_변경선_건너편_장소도_구면_거리로_조회() {
+    PlaceDto across = place(-179.9999, 0, CategoryType.CAFE);
+    PlaceDto sameSideFar = place(179.99, 0, CategoryType.CAFE);
+    PlaceKdTree tree = tree(List.of(across, sameSideFar));
+
+    List<Neighbor> result = tree.nearest(179.9999, 0, 100, 10, null);
+
+    assertEquals(1, result.size());
+    assertEquals(across.getPlaceId(), result.get(0).place().getPlaceId());
+    assertEquals(GeoUtil.haversineMeters(179.9999, 0, -179.9999, 0), result.get(0).distanceMeters(), 1e-6);
+  }
+
+  @Test
+  public void 카테고리_서브트리는_해당_카테고리만_조회() {
+    PlaceDto cafe = place(BASE_X + 0.002, BASE_Y, CategoryType.CAFE);
+    PlaceDto food = place(BASE_X + 0.001, BASE_Y, CategoryType.FOOD);
+    PlaceKdTree tree = tree(List.of(cafe, food));
+
+    assertEquals(Set.of(cafe.getPlaceId()), ids(tree.nearest(BASE_X, BASE_Y, 1000, 10, CategoryType.CAFE)));
+    assertTrue(tree.nearest(BASE_X, BASE_Y, 1000, 10, CategoryType.HOSPITAL).isEmpty());
+    assertEquals(food.getPlaceId(), tree.nearest(BASE_X, BASE_Y, 1000, 10, null).get(0).place().getPlaceId());
+  }
+
+  @Test
+  public void 좌표가_없거나_잘못된_장소는_제외() {
+    PlaceDto valid = place(BASE_X, BASE_Y, CategoryType.CAFE);
+    PlaceKdTree tree = new PlaceKdTree();
+    tree.rebuild(List.of(valid,
+        PlaceDto.builder().placeId(UUID.randomUUID()).x(null).y("37.5").categoryType(CategoryType.CAFE).build(),
+        PlaceDto.builder().placeId(UUID.randomUUID()).x("x").y("37.5").categoryType(CategoryType.CAFE).build()));
+
+    List<Neighbor> result = tree.nearest(BASE_X, BASE_Y, 100_000, 10, null);
+    assertEquals(1, result.size());
+    assertEquals(valid.getPlaceId(), result.get(0).place().getPlaceId());
+    assertTrue(tree.nearest(BASE_X, BASE_Y, 100_000, 10, CategoryType.FOOD).isEmpty());
+  }
+
+  private static PlaceKdTree tree(List<PlaceDto> places) {
+    PlaceKdTree tree = new PlaceKdTree();
+    tree.rebuild(places);
+    return tree;
+  }
+
+  private static Set<UUID> ids(List<Neighbor> neighbors) {
+    return neighbors.stream().map(neighbor -> neighbor.place().getPlaceId()).collect(Collectors.toSet());
+  }
+
+  private static PlaceDto place(double x, double y, CategoryType categoryType) {
+    return PlaceDto.builder()
+        .placeId(UUID.randomUUID())
+        .x(String.valueOf(x))
+        .y(String.valueOf(y))
+        .categoryType(categoryType)
+        .build();
+  }
+}
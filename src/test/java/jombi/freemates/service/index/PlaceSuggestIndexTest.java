@@ -0,0 +1,180 @@
+package jombi.freemates.service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import jombi.freemates.model.dto.PlaceDto;
+import org.junit.jupiter.api.Test;
+
+class PlaceSuggestIndexTest {
+
+  @Test
+  public void 빌드_전이나_빈_검색어는_빈_결과() {
+    PlaceSuggestIndex index = new PlaceSuggestIndex();
+    assertTrue(index.suggest("스타", 10).isEmpty());
+
+    index.rebuild(List.of(place("스타벅스", 1, 1)));
+    assertTrue(index.suggest("  ", 10).isEmpty());
+    assertTrue(index.suggest("스타", 0).isEmpty());
+  }
+
+  @Test
+  public void 입력_중인_음절과_초성도_접두사로_일치() {
+    PlaceDto starbucks = place("스타벅스 세종대점", 5, 1);
+    PlaceDto dakgalbi = place("닭갈비집", 1, 1);
+    dakgalbi.setTags(List.of("맛집"));
+    PlaceSuggestIndex index = index(starbucks, dakgalbi);
+
+    assertEquals(List.of(starbucks), index.suggest("스탑", 10));
+    assertEquals(List.of(starbucks), index.suggest("ㅅㅌㅂ", 10));
+    assertEquals(List.of(starbucks), index.suggest("세종", 10));
+    assertEquals(List.of(dakgalbi), index.suggest("달", 10));
+    assertEquals(List.of(dakgalbi), index.suggest("맛", 10));
+  }
+
+  /**
+   * 겹받침(ㄺ)과 겹모음(ㅘ)은 자모 두 개로 분해되므로 앞 자모까지만 입력해도 일치
+   * 입력기가 겹자모를 한 글자(호환 자모)로 보내는 경우도 같은 자모열로 분해
+   */
+  @Test
+  public void 겹받침과_겹모음도_입력_중간_상태로_일치() {
+    PlaceDto dakgalbi = place("닭갈비", 1, 0);
+    PlaceDto fruit = place("과일가게", 1, 0);
+    PlaceSuggestIndex index = index(dakgalbi, fruit);
+
+    assertEquals(List.of(dakgalbi), index.suggest("달ㄱ", 10));
+    assertEquals(List.of(dakgalbi), index.suggest("다ㄺ", 10));
+    assertEquals(List.of(fruit), index.suggest("고", 10));
+    assertEquals(List.of(fruit), index.suggest("ㄱㅘ", 10));
+  }
+
+  /**
+   * 키는 이름 전체와 각 단어 시작부터이므로 단어 중간에서 시작하는 검색어는 일치하지 않음
+   * 초성 트라이는 공백을 지우므로 띄어쓰기와 무관하게 일치
+   */
+  @Test
+  public void 단어_시작에서만_일치하고_초성은_띄어쓰기_무관() {
+    PlaceDto starbucks = place("스타 벅스", 1, 0);
+    PlaceSuggestIndex index = index(starbucks);
+
+    assertEquals(List.of(starbucks), index.suggest("벅스", 10));
+    assertTrue(index.suggest("타벅", 10).isEmpty());
+    assertEquals(List.of(starbucks), index.suggest("ㅅㅌㅂㅅ", 10));
+    assertEquals(List.of(starbucks), index.suggest("ㅅㅌ ㅂ", 10));
+    assertEquals(List.of(starbucks), index.suggest("ㅂㅅ", 10));
+  }
+
+  /**
+   * 이름 전체 / 단어 / 태그 키가 같은 노드를 지나도 한 장소는 노드 후보에 한 번만 들어감
+   */
+  @Test
+  public void 여러_키가_같은_접두사를_공유해도_한_번만_반환() {
+    PlaceDto cafe = place("카페 카페", 1, 0);
+    cafe.setTags(List.of("카페", "카페거리"));
+    PlaceDto other = place("카레집", 0, 0);
+    PlaceSuggestIndex index = index(cafe, other);
+
+    assertEquals(List.of(cafe, other), index.suggest("카", 10));
+    assertEquals(List.of(cafe), index.suggest("카페", 10));
+  }
+
+  /**
+   * 노드마다 CANDIDATES 개까지만 보관하며, 보관된 후보는 빌드 시점 인기순 상위
+   */
+  @Test
+  public void 노드_후보는_인기순_상위_CANDIDATES_개로_잘림() {
+    List<PlaceDto> places = new ArrayList<>();
+    for (int i = 0; i < PlaceSuggestIndex.CANDIDATES + 10; i++) {
+      places.add(place("카페 " + i, i, 0));
+    }
+    PlaceSuggestIndex index = new PlaceSuggestIndex();
+    index.rebuild(places);
+
+    List<PlaceDto> candidates = index.suggest("카페", 1000);
+
+    assertEquals(PlaceSuggestIndex.CANDIDATES, candidates.size());
+    assertEquals(places.get(places.size() - 1), candidates.get(0));
+    assertEquals(places.get(10), candidates.get(candidates.size() - 1));
+  }
+
+  @Test
+  public void 인기순이_같으면_이름순() {
+    PlaceDto b = place("카페 나", 3, 3);
+    PlaceDto a = place("카페 가", 3, 3);
+    PlaceDto moreViews = place("카페 다", 3, 4);
+    PlaceSuggestIndex index = index(b, a, moreViews);
+
+    assertEquals(List.of(moreViews, a, b), index.suggest("카페", 10));
+  }
+
+  /**
+   * 초기 노드 배열(1024)을 넘겨 grow 가 일어난 뒤에도 앞뒤 키가 모두 조회되어야 함
+   */
+  @Test
+  public void 노드_배열이_커진_뒤에도_기존_키_조회() {
+    List<PlaceDto> places = new ArrayList<>();
+    for (int i = 0; i < 600; i++) {
+      places.add(place("장소" + i + "번지", 0, 0));
+    }
+    PlaceSuggestIndex index = new PlaceSuggestIndex();
+    index.rebuild(places);
+
+    assertEquals(List.of(places.get(0)), index.suggest("장소0", 10));
+    assertEquals(List.of(places.get(599)), index.suggest("장소599", 10));
+    assertEquals(List.of(places.get(123)), index.suggest("장소123ㅂ", 10));
+  }
+
+  /**
+   * 빌드 이후 좋아요가 늘어난 장소도 후보(CANDIDATES) 안에 있으면 rank 후 최신 인기순으로 노출
+   */
+  @Test
+  public void 빌드_이후_바뀐_카운트로_재정렬() {
+    List<PlaceDto> places = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      places.add(place("카페 " + i, 100 - i, 0));
+    }
+    PlaceSuggestIndex index = new PlaceSuggestIndex();
+    index.rebuild(places);
+
+    List<PlaceDto> candidates = index.suggest("카페", PlaceSuggestIndex.CANDIDATES);
+
+    // 빌드 당시 20위였던 장소의 좋아요가 크게 늘어난 상황 (최신 카운트 반영 결과를 흉내)
+    List<PlaceDto> live = candidates.stream()
+        .map(p -> p.getPlaceName().equals("카페 19") ? p.toBuilder().likeCount(1000L).build() : p)
+        .collect(Collectors.toList());
+    List<PlaceDto> ranked = PlaceSuggestIndex.rank(live, PlaceSuggestIndex.MAX_SUGGEST);
+
+    assertEquals(PlaceSuggestIndex.MAX_SUGGEST, ranked.size());
+    assertEquals("카페 19", ranked.get(0).getPlaceName());
+    assertEquals("카페 0", ranked.get(1).getPlaceName());
+    assertEquals("카페 8", ranked.get(PlaceSuggestIndex.MAX_SUGGEST - 1).getPlaceName());
+  }
+
+  @Test
+  public void rank_는_카운트가_없으면_0_으로_취급() {
+    PlaceDto empty = PlaceDto.builder().placeName("가").build();
+    PlaceDto liked = place("나", 1, 0);
+
+    assertEquals(List.of(liked, empty), PlaceSuggestIndex.rank(List.of(empty, liked), 10));
+  }
+
+  private static PlaceSuggestIndex index(PlaceDto... places) {
+    PlaceSuggestIndex index = new PlaceSuggestIndex();
+    index.rebuild(List.of(places));
+    return index;
+  }
+
+  private static PlaceDto place(String name, long likeCount, long viewCount) {
+    return PlaceDto.builder()
+        .placeId(UUID.randomUUID())
+        .placeName(name)
+        .tags(List.of())
+        .likeCount(likeCount)
+        .viewCount(viewCount)
+        .build();
+  }
+}
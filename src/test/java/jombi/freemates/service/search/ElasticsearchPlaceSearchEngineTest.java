@@ -0,0 +1,234 @@
+package jombi.freemates.service.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import jombi.freemates.model.constant.CategoryType;
+import jombi.freemates.model.constant.SearchType;
+import jombi.freemates.model.dto.PlaceDto;
+import jombi.freemates.model.elasticsearch.PlaceDocument;
+import jombi.freemates.service.index.PlaceCountChangedEvent;
+import jombi.freemates.service.index.PlaceCounters;
+import jombi.freemates.service.index.PlaceSnapshotEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.index.MappingBuilder;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.Criteria.CriteriaEntry;
+import org.springframework.data.elasticsearch.core.query.Criteria.OperationKey;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+class ElasticsearchPlaceSearchEngineTest {
+
+  private static final Pageable PAGEABLE = PageRequest.of(0, 10);
+
+  private final ElasticsearchOperations elasticsearchOperations = mock(ElasticsearchOperations.class);
+  private final IndexOperations indexOps = mock(IndexOperations.class);
+  private final JpaPlaceSearchEngine jpaPlaceSearchEngine = mock(JpaPlaceSearchEngine.class);
+  private final PlaceCounters placeCounters = new PlaceCounters();
+
+  private final PlaceDto place = PlaceDto.builder()
+      .placeId(UUID.randomUUID())
+      .placeName("세종 카페")
+      .introText("조용한 카페")
+      .tags(List.of("디저트"))
+      .categoryType(CategoryType.CAFE)
+      .likeCount(3L)
+      .viewCount(10L)
+      .build();
+  private final Page<PlaceDto> jpaPage = new PageImpl<>(List.of(place));
+
+  private ElasticsearchPlaceSearchEngine engine;
+
+  @BeforeEach
+  void setUp() {
+    engine = new ElasticsearchPlaceSearchEngine(elasticsearchOperations, jpaPlaceSearchEngine, placeCounters);
+    when(elasticsearchOperations.indexOps(PlaceDocument.class)).thenReturn(indexOps);
+    when(jpaPlaceSearchEngine.search(any(), any(), any())).thenReturn(jpaPage);
+  }
+
+  @Test
+  public void 첫_동기화_전에는_DB_검색으로_대체() {
+    assertSame(jpaPage, engine.search(SearchType.NAME, "카페", PAGEABLE));
+
+    verify(elasticsearchOperations, never()).search(any(Query.class), eq(PlaceDocument.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void 인덱스가_없으면_매핑과_함께_생성하고_이전_회차_문서를_삭제() {
+    when(indexOps.exists()).thenReturn(false);
+
+    sync();
+
+    verify(indexOps).createWithMapping();
+    ArgumentCaptor<List<PlaceDocument>> saved = ArgumentCaptor.forClass(List.class);
+    verify(elasticsearchOperations).save(saved.capture());
+    assertEquals(1, saved.getValue().size());
+    PlaceDocument document = saved.getValue().get(0);
+    assertEquals(place.getPlaceId().toString(), document.getId());
+
+    // 이번 회차 syncVersion 보다 작은 문서만 삭제
+    ArgumentCaptor<DeleteQuery> deleted = ArgumentCaptor.forClass(DeleteQuery.class);
+    verify(elasticsearchOperations).delete(deleted.capture(), eq(PlaceDocument.class));
+    Criteria criteria = ((CriteriaQuery) deleted.getValue().getQuery()).getCriteria();
+    assertEquals("syncVersion", criteria.getField().getName());
+    assertSingleEntry(criteria, OperationKey.LESS, document.getSyncVersion());
+    verify(indexOps).refresh();
+  }
+
+  @Test
+  public void 인덱스가_이미_있으면_다시_생성하지_않음() {
+    when(indexOps.exists()).thenReturn(true);
+
+    sync();
+
+    verify(indexOps, never()).createWithMapping();
+    verify(elasticsearchOperations).save(anyList());
+  }
+
+  @Test
+  public void 동기화에_실패하면_계속_DB_검색으로_대체() {
+    when(indexOps.exists()).thenReturn(true);
+    when(elasticsearchOperations.save(anyList())).thenThrow(new IllegalStateException("cluster down"));
+
+    sync();
+
+    assertSame(jpaPage, engine.search(SearchType.NAME, "카페", PAGEABLE));
+    verify(elasticsearchOperations, never()).delete(any(DeleteQuery.class), eq(PlaceDocument.class));
+  }
+
+  @Test
+  public void 검색_타입별로_nori_분석_필드를_match_조건으로_조회() {
+    when(indexOps.exists()).thenReturn(true);
+    sync();
+    stubHits(List.of());
+
+    assertEquals(Map.of("placeName", false), searchedFields(SearchType.NAME));
+    assertEquals(Map.of("introText", false), searchedFields(SearchType.INTRO));
+    assertEquals(Map.of("tags", false), searchedFields(SearchType.TAG));
+    // ALL: 첫 조건 이후는 OR 로 연결
+    assertEquals(Map.of("placeName", false, "introText", true, "tags", true), searchedFields(SearchType.ALL));
+  }
+
+  @Test
+  public void 검색_결과는_인메모리_카운터로_보정() {
+    when(indexOps.exists()).thenReturn(true);
+    sync();
+    placeCounters.onPlaceSnapshot(new PlaceSnapshotEvent(List.of(place)));
+    placeCounters.onCountChanged(new PlaceCountChangedEvent(place.getPlaceId(), 2, 0));
+    stubHits(List.of(PlaceDocument.builder()
+        .id(place.getPlaceId().toString())
+        .placeName(place.getPlaceName())
+        .likeCount(3L)
+        .viewCount(10L)
+        .build()));
+
+    Page<PlaceDto> result = engine.search(SearchType.NAME, "카페", PAGEABLE);
+
+    assertEquals(1, result.getTotalElements());
+    PlaceDto found = result.getContent().get(0);
+    assertEquals(place.getPlaceId(), found.getPlaceId());
+    assertEquals(5L, found.getLikeCount());
+    assertEquals(10L, found.getViewCount());
+  }
+
+  @Test
+  public void 검색_중_클러스터_오류면_DB_검색으로_대체() {
+    when(indexOps.exists()).thenReturn(true);
+    sync();
+    when(elasticsearchOperations.search(any(Query.class), eq(PlaceDocument.class)))
+        .thenThrow(new IllegalStateException("timeout"));
+
+    assertSame(jpaPage, engine.search(SearchType.TAG, "디저트", PAGEABLE));
+  }
+
+  @Test
+  public void 검색_필드는_nori_기반_korean_분석기로_매핑() throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper();
+    String mapping = new MappingBuilder(new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext()))
+        .buildPropertyMapping(PlaceDocument.class);
+    JsonNode properties = objectMapper.readTree(mapping).get("properties");
+    for (String field : List.of("placeName", "introText", "tags")) {
+      assertEquals("text", properties.get(field).get("type").asText());
+      assertEquals("korean", properties.get(field).get("analyzer").asText());
+    }
+    assertFalse(properties.get("imageUrl").get("index").asBoolean());
+
+    try (InputStream settings = getClass().getResourceAsStream("/elasticsearch/place-settings.json")) {
+      JsonNode analysis = objectMapper.readTree(settings).get("analysis");
+      JsonNode korean = analysis.get("analyzer").get("korean");
+      String tokenizer = korean.get("tokenizer").asText();
+      assertEquals("nori_tokenizer", analysis.get("tokenizer").get(tokenizer).get("type").asText());
+      assertTrue(korean.get("filter").toString().contains("nori_part_of_speech"));
+    }
+  }
+
+  private static void assertSingleEntry(Criteria criteria, OperationKey key, Object value) {
+    assertEquals(1, criteria.getQueryCriteriaEntries().size());
+    CriteriaEntry entry = criteria.getQueryCriteriaEntries().iterator().next();
+    assertEquals(key, entry.getKey());
+    assertEquals(value, entry.getValue());
+  }
+
+  private void sync() {
+    engine.onPlaceSnapshot(new PlaceSnapshotEvent(List.of(place)));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void stubHits(List<PlaceDocument> documents) {
+    List<SearchHit<PlaceDocument>> searchHits = documents.stream()
+        .map(document -> {
+          SearchHit<PlaceDocument> hit = mock(SearchHit.class);
+          when(hit.getContent()).thenReturn(document);
+          return hit;
+        })
+        .collect(Collectors.toList());
+    SearchHits<PlaceDocument> hits = mock(SearchHits.class);
+    when(hits.getSearchHits()).thenReturn(searchHits);
+    when(hits.getTotalHits()).thenReturn((long) documents.size());
+    when(elasticsearchOperations.search(any(Query.class), eq(PlaceDocument.class))).thenReturn(hits);
+  }
+
+  // 마지막 검색 쿼리의 필드별 OR 연결 여부 (모든 조건은 검색어 match 여야 함)
+  private Map<String, Boolean> searchedFields(SearchType searchType) {
+    engine.search(searchType, "카페", PAGEABLE);
+    ArgumentCaptor<CriteriaQuery> query = ArgumentCaptor.forClass(CriteriaQuery.class);
+    verify(elasticsearchOperations, atLeastOnce()).search(query.capture(), eq(PlaceDocument.class));
+    CriteriaQuery last = query.getValue();
+    assertEquals(PAGEABLE, last.getPageable());
+    return last.getCriteria().getCriteriaChain().stream()
+        .peek(criteria -> assertSingleEntry(criteria, OperationKey.MATCHES, "카페"))
+        .collect(Collectors.toMap(criteria -> criteria.getField().getName(), Criteria::isOr));
+  }
+}
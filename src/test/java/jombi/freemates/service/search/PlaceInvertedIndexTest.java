@@ -0,0 +1,160 @@
+package jombi.freemates.service.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import jombi.freemates.model.constant.SearchType;
+import jombi.freemates.model.dto.PlaceDto;
+import jombi.freemates.service.search.PlaceInvertedIndex.SyncResult;
+import org.junit.jupiter.api.Test;
+
+class PlaceInvertedIndexTest {
+
+  @Test
+  public void 동기화_전에는_준비되지_않음() {
+    PlaceInvertedIndex index = new PlaceInvertedIndex();
+
+    assertFalse(index.isReady());
+    index.sync(List.of());
+    assertTrue(index.isReady());
+    assertTrue(index.search(SearchType.ALL, "카페").isEmpty());
+  }
+
+  @Test
+  public void 마지막_장소가_빠져_포스팅이_비면_토큰이_사라지고_다시_추가할_수_있음() {
+    UUID placeId = UUID.randomUUID();
+    PlaceInvertedIndex index = new PlaceInvertedIndex();
+    index.sync(List.of(place(placeId, "서울숲", null, List.of(), 0L)));
+
+    // "숲" 토큰을 가진 유일한 장소의 이름이 바뀜 → 포스팅이 비어 토큰 제거
+    assertEquals(new SyncResult(0, 1, 0, 1), index.sync(List.of(place(placeId, "서울역", null, List.of(), 0L))));
+    assertTrue(index.search(SearchType.NAME, "숲").isEmpty());
+    assertTrue(index.search(SearchType.NAME, "울숲").isEmpty());
+
+    UUID otherId = UUID.randomUUID();
+    index.sync(List.of(place(placeId, "서울역", null, List.of(), 0L), place(otherId, "숲길", null, List.of(), 0L)));
+    assertEquals(Set.of(otherId), ids(index.search(SearchType.NAME, "숲")));
+  }
+
+  /**
+   * 기존 장소의 내용이 바뀌어 더 작은 docId 가 포스팅 중간에 끼어드는 경우
+   * docId 간격을 128 이상으로 두어 여러 바이트 varint 의 재인코딩도 함께 확인
+   */
+  @Test
+  public void 포스팅_중간_삽입과_다중_바이트_varint() {
+    List<PlaceDto> places = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      places.add(place(UUID.randomUUID(), "장소" + i, null, List.of(), 0L));
+    }
+    places.set(0, place(places.get(0).getPlaceId(), "공원 입구", null, List.of(), 0L));
+    places.set(299, place(places.get(299).getPlaceId(), "공원 출구", null, List.of(), 0L));
+    PlaceInvertedIndex index = new PlaceInvertedIndex();
+    index.sync(places);
+
+    places.set(150, place(places.get(150).getPlaceId(), "공원 매점", null, List.of(), 0L));
+    assertEquals(new SyncResult(0, 1, 0, 300), index.sync(places));
+
+    assertEquals(Set.of(places.get(0).getPlaceId(), places.get(150).getPlaceId(), places.get(299).getPlaceId()),
+        ids(index.search(SearchType.NAME, "공원")));
+    assertEquals(Set.of(places.get(150).getPlaceId()), ids(index.search(SearchType.NAME, "매점")));
+  }
+
+  /**
+   * 2-gram 교집합은 후보일 뿐: "페카카페" 는 "카페", "페카" 를 모두 갖지만 "카페카" 를 포함하지 않음
+   */
+  @Test
+  public void 모든_2gram_이_있어도_원문에_없으면_제외() {
+    UUID placeId = UUID.randomUUID();
+    PlaceInvertedIndex index = new PlaceInvertedIndex();
+    index.sync(List.of(place(placeId, "페카카페", null, List.of(), 0L)));
+
+    assertTrue(index.search(SearchType.NAME, "카페카").isEmpty());
+    assertEquals(Set.of(placeId), ids(index.search(SearchType.NAME, "카카페")));
+  }
+
+  @Test
+  public void 태그_경계를_넘는_검색어는_일치하지_않음() {
+    UUID placeId = UUID.randomUUID();
+    PlaceInvertedIndex index = new PlaceInvertedIndex();
+    index.sync(List.of(place(placeId, "가게", null, List.of("카페", "서울"), 0L)));
+
+    assertTrue(index.search(SearchType.TAG, "페서").isEmpty());
+    assertEquals(Set.of(placeId), ids(index.search(SearchType.TAG, "서울")));
+    assertEquals(Set.of(placeId), ids(index.search(SearchType.ALL, "페")));
+  }
+
+  @Test
+  public void 색인_대상이_아닌_필드만_바뀌면_변경으로_세지_않음() {
+    UUID placeId = UUID.randomUUID();
+    PlaceInvertedIndex index = new PlaceInvertedIndex();
+    index.sync(List.of(place(placeId, "서울숲 카페", "소개", List.of("카페"), 1L)));
+
+    // 대소문자 / 앞뒤 공백만 다른 원문도 정규화 후 같으므로 변경 아님
+    assertEquals(new SyncResult(0, 0, 0, 1),
+        index.sync(List.of(place(placeId, " 서울숲 카페 ", "소개", List.of("카페"), 9L))));
+  }
+
+  @Test
+  public void 은퇴와_재등장을_반복해도_docId_공간이_커지지_않음() {
+    List<PlaceDto> places = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      places.add(place(UUID.randomUUID(), "카페 " + i, null, List.of(), 0L));
+    }
+    List<PlaceDto> half = places.subList(0, 50);
+    PlaceInvertedIndex index = new PlaceInvertedIndex();
+
+    for (int round = 0; round < 200; round++) {
+      index.sync(round % 2 == 0 ? places : half);
+      // 살아 있는 장소 수 대비 삭제된 자리는 최대 25% 까지만 남음
+      int live = round % 2 == 0 ? places.size() : half.size();
+      assertTrue(index.docCapacity() <= live * 4 / 3 + 1, "round=" + round + ", capacity=" + index.docCapacity());
+    }
+
+    index.sync(places);
+    assertEquals(100, index.search(SearchType.NAME, "카페").size());
+    assertEquals(1, index.search(SearchType.NAME, "카페 99").size());
+  }
+
+  @Test
+  public void 검색_결과는_마지막으로_동기화한_장소_객체() {
+    UUID placeId = UUID.randomUUID();
+    PlaceInvertedIndex index = new PlaceInvertedIndex();
+    index.sync(List.of(place(placeId, "서울숲 카페", "소개", List.of("카페"), 1L)));
+    index.sync(List.of(place(placeId, "서울숲 카페", "소개", List.of("카페"), 5L)));
+
+    List<PlaceDto> result = index.search(SearchType.NAME, "숲 카");
+    assertEquals(1, result.size());
+    assertEquals(5L, result.get(0).getLikeCount());
+  }
+
+  @Test
+  public void 대소문자와_앞뒤_공백은_무시() {
+    UUID placeId = UUID.randomUUID();
+    PlaceInvertedIndex index = new PlaceInvertedIndex();
+    index.sync(List.of(place(placeId, "Blue Bottle", null, null, 0L)));
+
+    assertEquals(1, index.search(SearchType.NAME, "  bLUE ").size());
+    assertTrue(index.search(SearchType.NAME, "   ").isEmpty());
+    assertTrue(index.search(SearchType.INTRO, "blue").isEmpty());
+  }
+
+  private static Set<UUID> ids(List<PlaceDto> places) {
+    return places.stream().map(PlaceDto::getPlaceId).collect(Collectors.toSet());
+  }
+
+  private static PlaceDto place(UUID placeId, String name, String intro, List<String> tags, Long likeCount) {
+    return PlaceDto.builder()
+        .placeId(placeId)
+        .placeName(name)
+        .introText(intro)
+        .tags(tags)
+        .likeCount(likeCount)
+        .build();
+  }
+}
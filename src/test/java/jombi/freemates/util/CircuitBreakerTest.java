@@ -0,0 +1,98 @@
+package jombi.freemates.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import jombi.freemates.util.CircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+  private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+  private final AtomicLong clock = new AtomicLong();
+  private final CircuitBreaker breaker = new CircuitBreaker("test", 3, OPEN_DURATION, clock::get);
+
+  @Test
+  public void 연속_실패가_임계치에_닿으면_열림() {
+    failTimes(2);
+    assertEquals(State.CLOSED, breaker.getState());
+    assertTrue(breaker.tryAcquire());
+
+    breaker.onFailure();
+    assertEquals(State.OPEN, breaker.getState());
+    assertTrue(breaker.isOpen());
+    assertFalse(breaker.tryAcquire());
+    assertEquals(1, breaker.getRejected());
+  }
+
+  @Test
+  public void 중간에_성공하면_연속_실패_횟수가_초기화됨() {
+    failTimes(2);
+    breaker.onSuccess();
+    failTimes(2);
+
+    assertEquals(State.CLOSED, breaker.getState());
+  }
+
+  @Test
+  public void 열림_시간이_지나면_반개방되어_시험_호출_1건만_허용() {
+    failTimes(3);
+    clock.addAndGet(OPEN_DURATION.toNanos() - 1);
+    assertFalse(breaker.tryAcquire());
+
+    clock.addAndGet(1);
+    assertFalse(breaker.isOpen());
+    assertTrue(breaker.tryAcquire());
+    assertEquals(State.HALF_OPEN, breaker.getState());
+    // 시험 호출이 끝나기 전에는 다른 호출을 거절
+    assertFalse(breaker.tryAcquire());
+  }
+
+  @Test
+  public void 반개방에서_시험_호출이_성공하면_닫힘() {
+    failTimes(3);
+    clock.addAndGet(OPEN_DURATION.toNanos());
+    assertTrue(breaker.tryAcquire());
+
+    breaker.onSuccess();
+    assertEquals(State.CLOSED, breaker.getState());
+    assertTrue(breaker.tryAcquire());
+    assertTrue(breaker.tryAcquire());
+  }
+
+  @Test
+  public void 반개방에서_시험_호출이_실패하면_임계치와_무관하게_다시_열림() {
+    failTimes(3);
+    clock.addAndGet(OPEN_DURATION.toNanos());
+    assertTrue(breaker.tryAcquire());
+
+    breaker.onFailure();
+    assertEquals(State.OPEN, breaker.getState());
+    assertFalse(breaker.tryAcquire());
+
+    // 다시 열린 시점부터 열림 시간을 새로 계산
+    clock.addAndGet(OPEN_DURATION.toNanos());
+    assertTrue(breaker.tryAcquire());
+  }
+
+  @Test
+  public void 반납하면_다음_시험_호출을_허용() {
+    failTimes(3);
+    clock.addAndGet(OPEN_DURATION.toNanos());
+    assertTrue(breaker.tryAcquire());
+
+    breaker.release();
+    assertEquals(State.HALF_OPEN, breaker.getState());
+    assertTrue(breaker.tryAcquire());
+  }
+
+  private void failTimes(int count) {
+    for (int i = 0; i < count; i++) {
+      breaker.onFailure();
+    }
+  }
+}
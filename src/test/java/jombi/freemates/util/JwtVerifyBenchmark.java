@@ -0,0 +1,102 @@
+package jombi.freemates.util;
+
+import ch.qos.logback.classic.Logger;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import jombi.freemates.model.constant.JwtTokenType;
+import jombi.freemates.model.dto.CustomUserDetails;
+import jombi.freemates.model.postgres.Member;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+/**
+ * 요청 1건당 JWT 인증 비용 비교
+ * - legacy: 기존 방식 (validateToken + getUsernameFromToken, 호출마다 서명 키/파서 생성 → HS512 검증 2번)
+ * - singleParse: JwtUtil.verifyToken (미리 만든 키/파서로 1번 검증 후 Claims 재사용)
+ * 실행: ./gradlew jmh -Pbenchmark=JwtVerifyBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerifyBenchmark {
+
+  private static final String SECRET_KEY = "freemates-benchmark-secret-key-for-hs512-must-be-at-least-64-bytes-long!!";
+
+  private JwtUtil jwtUtil;
+  private String token;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    // 운영과 같이 INFO 레벨로 맞춰 디버그 로그 비용이 비교에 섞이지 않도록 함
+    ((Logger) LoggerFactory.getLogger(JwtUtil.class)).setLevel(ch.qos.logback.classic.Level.INFO);
+
+    jwtUtil = new JwtUtil(SECRET_KEY, "freemates");
+    Member member = Member.builder()
+        .username("benchmark-user")
+        .password("password")
+        .email("benchmark@freemates.com")
+        .nickname("벤치마크")
+        .build();
+    CustomUserDetails userDetails = new CustomUserDetails(member);
+    token = jwtUtil.generateToken(
+        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()),
+        JwtTokenType.ACCESS);
+
+    // 두 방식의 결과가 같은지 먼저 확인
+    if (!Objects.equals(legacy(), singleParse())) {
+      throw new IllegalStateException("사용자 이름 불일치");
+    }
+  }
+
+  @Benchmark
+  public String legacy() {
+    Jwts.parserBuilder().setSigningKey(legacySigningKey()).build().parseClaimsJws(token);
+    Claims claims = Jwts.parserBuilder()
+        .setSigningKey(legacySigningKey())
+        .build()
+        .parseClaimsJws(token)
+        .getBody();
+    return claims.getSubject();
+  }
+
+  @Benchmark
+  public String singleParse() {
+    return jwtUtil.verifyToken(token).map(Claims::getSubject).orElse(null);
+  }
+
+  // 기존 JwtUtil.getSigningKey() 와 동일 (호출마다 비밀 문자열에서 키 생성)
+  private static Key legacySigningKey() {
+    return Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(JwtVerifyBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build()
+    ).run();
+  }
+}
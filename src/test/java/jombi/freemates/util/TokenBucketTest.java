@@ -0,0 +1,97 @@
+package jombi.freemates.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+  private static final long SECOND = 1_000_000_000L;
+
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  public void burst_만큼은_대기_없이_통과하고_이후는_토큰_간격으로_대기() {
+    TokenBucket bucket = new TokenBucket(10, 3, clock::get);
+
+    assertEquals(0, bucket.reserveNanos());
+    assertEquals(0, bucket.reserveNanos());
+    assertEquals(0, bucket.reserveNanos());
+    // 토큰 소진 후에는 예약 순서대로 100ms 씩 뒤로 밀림
+    assertEquals(SECOND / 10, bucket.reserveNanos());
+    assertEquals(2 * SECOND / 10, bucket.reserveNanos());
+  }
+
+  @Test
+  public void 시간이_지나면_초당_속도로_토큰이_채워짐() {
+    TokenBucket bucket = new TokenBucket(10, 1, clock::get);
+    assertEquals(0, bucket.reserveNanos());
+    assertEquals(SECOND / 10, bucket.reserveNanos());
+
+    // 빚진 토큰 1개 + 새 토큰 1개 = 200ms 후에야 다시 즉시 통과
+    clock.addAndGet(SECOND / 10);
+    assertEquals(SECOND / 10, bucket.reserveNanos());
+    clock.addAndGet(2 * SECOND / 10);
+    assertEquals(0, bucket.reserveNanos());
+  }
+
+  @Test
+  public void 오래_쉬어도_burst_이상으로_쌓이지_않음() {
+    TokenBucket bucket = new TokenBucket(10, 2, clock::get);
+    clock.addAndGet(60 * SECOND);
+
+    assertEquals(0, bucket.reserveNanos());
+    assertEquals(0, bucket.reserveNanos());
+    assertEquals(SECOND / 10, bucket.reserveNanos());
+  }
+
+  @Test
+  public void 동시_예약도_토큰을_중복_배분하지_않음() throws Exception {
+    int threads = 8;
+    int perThread = 50;
+    TokenBucket bucket = new TokenBucket(100, 5, clock::get);
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<List<Long>>> futures = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      futures.add(executor.submit(() -> {
+        start.await();
+        List<Long> waits = new ArrayList<>();
+        for (int i = 0; i < perThread; i++) {
+          waits.add(bucket.reserveNanos());
+        }
+        return waits;
+      }));
+    }
+    start.countDown();
+    List<Long> all = new ArrayList<>();
+    for (Future<List<Long>> future : futures) {
+      all.addAll(future.get(10, TimeUnit.SECONDS));
+    }
+    executor.shutdown();
+
+    // 시계가 멈춰 있으므로 burst 5건만 즉시 통과하고, 나머지는 10ms 간격의 서로 다른 대기 시간을 받음
+    Collections.sort(all);
+    for (int i = 0; i < all.size(); i++) {
+      long expected = i < 5 ? 0 : (i - 4) * SECOND / 100;
+      assertEquals(expected, all.get(i), 1);
+    }
+  }
+
+  @Test
+  public void 잘못된_설정은_거부() {
+    assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1));
+    assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0));
+  }
+}
@@ -0,0 +1,72 @@
+package jombi.freemates.util.filter;
+
+import java.util.concurrent.TimeUnit;
+import jombi.freemates.config.SecurityUrls;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * 요청 1건당 인증 생략 URL 판별 비용 비교
+ * - antPathMatcher: 기존 방식 (AUTH_WHITELIST 전체를 AntPathMatcher.match 로 순회)
+ * - compiled: WhitelistRequestMatcher (시작 시 분류/컴파일)
+ * 대부분의 API 요청은 허용 목록에 없으므로 전체를 순회하는 /api/place/... 경로가 가장 흔한 경우
+ * 실행: ./gradlew jmh -Pbenchmark=WhitelistMatchBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WhitelistMatchBenchmark {
+
+  @Param({"/api/place/3f1c2a9e-0b7d-4c51-9a3e-2d6f8b1e4c70", "/api/auth/login/app", "/api/mail/verify/abc123", "/css/main.css"})
+  private String path;
+
+  private AntPathMatcher pathMatcher;
+  private WhitelistRequestMatcher whitelistMatcher;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    pathMatcher = new AntPathMatcher();
+    whitelistMatcher = new WhitelistRequestMatcher(SecurityUrls.AUTH_WHITELIST);
+    // 두 방식의 결과가 같은지 먼저 확인
+    if (antPathMatcher() != compiled()) {
+      throw new IllegalStateException("판별 결과 불일치: " + path);
+    }
+  }
+
+  @Benchmark
+  public boolean antPathMatcher() {
+    return SecurityUrls.AUTH_WHITELIST.stream()
+        .anyMatch(pattern -> pathMatcher.match(pattern, path));
+  }
+
+  @Benchmark
+  public boolean compiled() {
+    return whitelistMatcher.matches(path);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(WhitelistMatchBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build()
+    ).run();
+  }
+}
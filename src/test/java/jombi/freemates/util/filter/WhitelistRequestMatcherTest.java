@@ -0,0 +1,78 @@
+package jombi.freemates.util.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import jombi.freemates.config.SecurityUrls;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.AntPathMatcher;
+
+class WhitelistRequestMatcherTest {
+
+  private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+  /**
+   * 기존 방식(AUTH_WHITELIST 를 AntPathMatcher 로 순회)과 모든 후보 경로에서 결과가 같아야 함
+   */
+  @Test
+  public void AUTH_WHITELIST_에서_AntPathMatcher_와_결과_동일() {
+    WhitelistRequestMatcher matcher = new WhitelistRequestMatcher(SecurityUrls.AUTH_WHITELIST);
+
+    Set<String> paths = candidatePaths(SecurityUrls.AUTH_WHITELIST);
+    for (String path : paths) {
+      boolean expected = SecurityUrls.AUTH_WHITELIST.stream().anyMatch(pattern -> antPathMatcher.match(pattern, path));
+      assertEquals(expected, matcher.matches(path), path);
+    }
+  }
+
+  @Test
+  public void 일반_패턴도_AntPathMatcher_와_결과_동일() {
+    List<String> whitelist = List.of("/a/*/b", "/x/{id}", "/files/*.png", "/deep/**/end");
+    WhitelistRequestMatcher matcher = new WhitelistRequestMatcher(whitelist);
+
+    for (String path : List.of("/a/q/b", "/a/q/c", "/a/q/r/b", "/x/1", "/x/1/2", "/files/a.png", "/files/a.jpg",
+        "/deep/end", "/deep/1/2/end", "/deep/1/2")) {
+      boolean expected = whitelist.stream().anyMatch(pattern -> antPathMatcher.match(pattern, path));
+      assertEquals(expected, matcher.matches(path), path);
+    }
+  }
+
+  @Test
+  public void 요청_경로에서_context_path_제외() {
+    WhitelistRequestMatcher matcher = new WhitelistRequestMatcher(SecurityUrls.AUTH_WHITELIST);
+
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/freemates/api/auth/register");
+    request.setContextPath("/freemates");
+    assertTrue(matcher.matches(request));
+
+    MockHttpServletRequest protectedRequest = new MockHttpServletRequest("GET", "/freemates/api/bookmark");
+    protectedRequest.setContextPath("/freemates");
+    assertFalse(matcher.matches(protectedRequest));
+  }
+
+  /**
+   * 패턴마다 일치해야 할 경로와 경계에 걸친 경로(접두사만 같은 형제 경로, 끝 슬래시 등)를 생성
+   */
+  private static Set<String> candidatePaths(List<String> whitelist) {
+    Set<String> paths = new LinkedHashSet<>(List.of(
+        "", "/", "/api", "/api/auth", "/api/auth/login", "/api/bookmark", "/api/place/1", "/api/course/list",
+        "/api/system/auth-cache", "/api/search/suggest", "/docs", "/v3", "/login.html", "/Login"));
+    for (String pattern : whitelist) {
+      String base = pattern.endsWith("/**") ? pattern.substring(0, pattern.length() - 3) : pattern;
+      paths.add(pattern);
+      paths.add(base);
+      paths.add(base + "/");
+      paths.add(base + "x");
+      paths.add(base + "/x");
+      paths.add(base + "/x/y");
+      paths.add(base + ".json");
+      paths.add("/prefix" + base);
+    }
+    return paths;
+  }
+}
@@ -0,0 +1,56 @@
+package jombi.freemates.util.init;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import jombi.freemates.model.constant.StartupPhase;
+import jombi.freemates.model.dto.StartupReadinessResponse;
+import org.junit.jupiter.api.Test;
+
+class StartupReadinessTest {
+
+  @Test
+  public void 필수_단계가_완료_또는_생략되면_준비_완료() {
+    StartupReadiness readiness = new StartupReadiness();
+    readiness.run(StartupPhase.LOCATION_MIGRATION, () -> { });
+    readiness.skip(StartupPhase.PLACE_SYNC, "기존 장소 데이터 사용");
+    assertFalse(readiness.isReady());
+
+    readiness.run(StartupPhase.PLACE_INDEX, () -> { });
+
+    assertTrue(readiness.isReady());
+    assertTrue(readiness.snapshot().getFailed().isEmpty());
+  }
+
+  @Test
+  public void 장소_동기화_실패시_준비_안_됨() {
+    StartupReadiness readiness = new StartupReadiness();
+    readiness.run(StartupPhase.LOCATION_MIGRATION, () -> { });
+    readiness.run(StartupPhase.PLACE_SYNC, () -> {
+      throw new IllegalStateException("카카오 API 오류");
+    });
+    readiness.skip(StartupPhase.PLACE_INDEX, "카카오 장소 동기화 실패");
+
+    StartupReadinessResponse response = readiness.snapshot();
+    assertFalse(response.isReady());
+    assertEquals(List.of(StartupPhase.PLACE_SYNC), response.getFailed());
+    // 실패한 단계는 워밍업 중 목록에는 포함되지 않음
+    assertFalse(response.getWarming().contains(StartupPhase.PLACE_SYNC));
+  }
+
+  @Test
+  public void 필수가_아닌_단계_실패는_준비_상태에_영향_없음() {
+    StartupReadiness readiness = new StartupReadiness();
+    readiness.run(StartupPhase.LOCATION_MIGRATION, () -> { });
+    readiness.skip(StartupPhase.PLACE_SYNC, "기존 장소 데이터 사용");
+    readiness.run(StartupPhase.PLACE_INDEX, () -> { });
+    readiness.run(StartupPhase.GITHUB_ISSUES, () -> {
+      throw new IllegalStateException("GitHub API 오류");
+    });
+
+    assertTrue(readiness.isReady());
+    assertEquals(List.of(StartupPhase.GITHUB_ISSUES), readiness.snapshot().getFailed());
+  }
+}